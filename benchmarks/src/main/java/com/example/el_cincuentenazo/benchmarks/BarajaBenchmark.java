@@ -0,0 +1,55 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import com.example.el_cincuentenazo.modelo.Baraja;
+import com.example.el_cincuentenazo.modelo.Carta;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el barajado de un mazo completo y el ciclo robar/poner.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BarajaBenchmark {
+
+    private Baraja baraja;
+    private SplittableRandom aleatorio;
+
+    @Setup
+    public void preparar() {
+        baraja = new Baraja(null);
+        aleatorio = new SplittableRandom(1);
+    }
+
+    @Benchmark
+    public Baraja barajar() {
+        baraja.barajar(aleatorio);
+        return baraja;
+    }
+
+    /**
+     * Roba la primera carta y la repone al fondo, manteniendo las 52 cartas.
+     *
+     * @return carta que pasó por el mazo
+     */
+    @Benchmark
+    public Carta robarYPoner() {
+        Carta carta = baraja.robar();
+        baraja.poner(carta);
+        return carta;
+    }
+}
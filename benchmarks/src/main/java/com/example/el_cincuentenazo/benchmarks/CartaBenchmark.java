@@ -0,0 +1,50 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mide el cálculo del aporte de una carta a la suma de la mesa, recorriendo
+ * las 52 cartas contra todas las sumas posibles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CartaBenchmark {
+
+    private final Carta[] cartas = new Carta[Carta.TOTAL_CARTAS];
+
+    public CartaBenchmark() {
+        for (int i = 0; i < cartas.length; i++) {
+            cartas[i] = Carta.de(i);
+        }
+    }
+
+    /**
+     * Evalúa {@link Carta#valorParaSuma(int)} para cada carta y cada suma entre
+     * 0 y 50.
+     *
+     * @param agujero sumidero de resultados
+     */
+    @Benchmark
+    public void valorParaSuma(Blackhole agujero) {
+        for (Carta carta : cartas) {
+            for (int suma = 0; suma <= 50; suma++) {
+                agujero.consume(carta.valorParaSuma(suma));
+            }
+        }
+    }
+}
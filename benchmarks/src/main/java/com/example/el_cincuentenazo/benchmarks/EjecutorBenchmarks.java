@@ -0,0 +1,34 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Lanza todos los benchmarks con el perfilador de recolección de basura y
+ * guarda los resultados en JSON para compararlos entre versiones.
+ */
+public class EjecutorBenchmarks {
+
+    /**
+     * Punto de entrada de la ejecución completa.
+     *
+     * @param args filtro opcional de benchmarks (expresión regular) y ruta del
+     *             archivo de resultados
+     * @throws RunnerException si JMH no puede completar la ejecución
+     */
+    public static void main(String[] args) throws RunnerException {
+        String filtro = args.length > 0 ? args[0] : EjecutorBenchmarks.class.getPackageName() + ".*";
+        String salida = args.length > 1 ? args[1] : "jmh-result.json";
+        Options opciones = new OptionsBuilder()
+                .include(filtro)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(salida)
+                .build();
+        new Runner(opciones).run();
+    }
+}
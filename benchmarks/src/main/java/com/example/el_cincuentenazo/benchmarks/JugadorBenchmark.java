@@ -0,0 +1,80 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import com.example.el_cincuentenazo.modelo.Baraja;
+import com.example.el_cincuentenazo.modelo.CPU;
+import com.example.el_cincuentenazo.modelo.Carta;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide las consultas de jugadas legales y la decisión de la CPU sobre una mano
+ * de cuatro cartas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JugadorBenchmark {
+
+    /** Suma de la mesa con la que se evalúa la mano. */
+    @Param({"10", "45"})
+    public int sumaMesa;
+
+    private CPU cpu;
+    private Baraja reposicion;
+
+    @Setup
+    public void preparar() {
+        Baraja baraja = new Baraja(null);
+        baraja.barajar(new SplittableRandom(1));
+        cpu = new CPU("CPU");
+        cpu.obtenerCartasIniciales(baraja);
+        reposicion = new Baraja(null);
+        reposicion.vaciar();
+    }
+
+    @Benchmark
+    public List<Carta> cartasJugables() {
+        return cpu.cartasJugables(sumaMesa);
+    }
+
+    @Benchmark
+    public boolean hayJugada() {
+        return cpu.hayJugada(sumaMesa);
+    }
+
+    @Benchmark
+    public int mascaraJugables() {
+        return cpu.mascaraJugables(sumaMesa);
+    }
+
+    /**
+     * Juega una carta y la devuelve a la mano para que el estado se mantenga
+     * estable entre invocaciones.
+     *
+     * @return carta elegida por la CPU
+     */
+    @Benchmark
+    public Carta jugarCartaCPU() {
+        Carta carta = cpu.jugarCarta(sumaMesa);
+        if (carta != null) {
+            reposicion.poner(carta);
+            cpu.robarSiHaceFalta(reposicion);
+        }
+        return carta;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el motor completo: una partida de principio a fin y el reciclaje de la
+ * mesa cuando se agota la baraja de robo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PartidaBenchmark {
+
+    /** Rivales automáticos en la mesa; las mesas grandes usan varias barajas. */
+    @Param({"1", "2", "3", "15", "63"})
+    public int cantidadCPUs;
+
+    private Partida partida;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        partida = new Partida(new SplittableRandom(1));
+    }
+
+    /**
+     * Inicia una partida y la juega hasta que termina.
+     *
+     * @return ganador de la partida
+     */
+    @Benchmark
+    public int partidaCompleta() {
+        partida.iniciar(cantidadCPUs);
+        return SimuladorPartidas.jugarHastaTerminar(partida);
+    }
+
+    /**
+     * Estado con una partida detenida justo cuando la baraja de robo quedó vacía.
+     */
+    @State(Scope.Thread)
+    public static class MesaPorReciclar {
+
+        @Param({"1", "2", "3"})
+        public int cantidadCPUs;
+
+        Partida partida;
+        private SplittableRandom aleatorio;
+
+        @Setup(Level.Trial)
+        public void crear() {
+            aleatorio = new SplittableRandom(1);
+        }
+
+        @Setup(Level.Invocation)
+        public void avanzarHastaAgotarBaraja() throws JugadaInvalidaException {
+            do {
+                partida = new Partida(aleatorio);
+                partida.iniciar(cantidadCPUs);
+                while (!partida.estaTerminada() && partida.getCartasPorRobar() > 0) {
+                    Carta carta = partida.getJugadorHumano().jugarCarta(partida.getSumaMesa());
+                    if (carta == null) {
+                        break;
+                    }
+                    partida.jugarTurnoHumano(carta);
+                    if (partida.getCartasPorRobar() > 0) {
+                        partida.jugarTurnoCPU();
+                    }
+                }
+            } while (partida.getCartasPorRobar() > 0 || partida.getCartasEnMesa() <= 1);
+        }
+    }
+
+    /**
+     * Recicla la mesa sobre la baraja de robo vacía.
+     *
+     * @param estado partida preparada con la baraja agotada
+     * @return cartas disponibles tras el reciclaje
+     */
+    @Benchmark
+    public int reciclarSiHaceFalta(MesaPorReciclar estado) {
+        estado.partida.reciclarSiHaceFalta();
+        return estado.partida.getCartasPorRobar();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.el_cincuentenazo.benchmarks;
+
+import com.example.el_cincuentenazo.modelo.Baraja;
+import com.example.el_cincuentenazo.modelo.Carta;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el costo de un reciclaje de la mesa sobre la baraja de robo vacía. Cada
+ * variante deja la mesa otra vez con las 52 cartas mediante el mismo paso de
+ * restauración, de modo que las diferencias entre variantes corresponden solo
+ * al reciclaje.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReciclajeBenchmark {
+
+    private Baraja comer;
+    private Baraja mesa;
+
+    @Setup
+    public void preparar() {
+        comer = new Baraja(null, new SplittableRandom(1));
+        comer.vaciar();
+        mesa = new Baraja(null);
+    }
+
+    /**
+     * Reciclaje actual: intercambio de arreglos y barajado en el lugar.
+     *
+     * @return cartas disponibles tras el reciclaje
+     */
+    @Benchmark
+    public int reciclarEnBloque() {
+        comer.reciclarDesde(mesa);
+        return restaurar();
+    }
+
+    /**
+     * Reciclaje anterior: copia carta por carta a una lista temporal y barajado
+     * con copia, reproducido con la API pública.
+     *
+     * @return cartas disponibles tras el reciclaje
+     */
+    @Benchmark
+    public int reciclarCartaPorCarta() {
+        Carta ultima = mesa.sacarUltimaCarta();
+        List<Carta> recicladas = new ArrayList<>();
+        Carta carta;
+        while ((carta = mesa.robar()) != null) {
+            recicladas.add(carta);
+        }
+        for (Carta reciclada : recicladas) {
+            comer.poner(reciclada);
+        }
+        List<Carta> temporal = new ArrayList<>(recicladas);
+        comer.barajar();
+        mesa.vaciar();
+        mesa.poner(ultima);
+        return restaurar() + temporal.size();
+    }
+
+    /**
+     * Referencia: mueve las cartas una a una sin barajar, para separar el costo
+     * del barajado del costo de la transferencia.
+     *
+     * @return cartas en la mesa
+     */
+    @Benchmark
+    public int moverSinBarajar() {
+        Carta ultima = mesa.sacarUltimaCarta();
+        Carta carta;
+        while ((carta = mesa.robar()) != null) {
+            comer.poner(carta);
+        }
+        mesa.poner(ultima);
+        return restaurar();
+    }
+
+    /**
+     * Devuelve a la mesa las cartas de la baraja de robo, dejando la visible al
+     * final, para repetir el reciclaje en la siguiente invocación.
+     *
+     * @return cartas en la mesa
+     */
+    private int restaurar() {
+        Carta visible = mesa.sacarUltimaCarta();
+        Carta carta;
+        while ((carta = comer.robar()) != null) {
+            mesa.poner(carta);
+        }
+        mesa.poner(visible);
+        return mesa.tamano();
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.el_cincuentenazo;
 
 import com.example.el_cincuentenazo.controlador.TableroController;
+import com.example.el_cincuentenazo.guardado.GuardadoAutomatico;
+import com.example.el_cincuentenazo.metricas.MetricasMotor;
 import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
 import com.example.el_cincuentenazo.modelo.Partida;
+import java.io.IOException;
+import java.nio.file.Path;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -15,17 +19,27 @@ import javafx.stage.Stage;
  */
 public class Main extends Application {
 
+    /** Propiedad del sistema con el archivo de la partida guardada. */
+    private static final String PROPIEDAD_INSTANTANEA = "cincuentenazo.instantanea";
+
     private static Main instancia;
 
     private Stage escenarioPrincipal;
     private final Partida partida;
+    private final GuardadoAutomatico guardado;
 
     /**
-     * Crea la aplicación e inicializa la partida compartida.
+     * Crea la aplicación e inicializa la partida compartida y su guardado
+     * automático, en el archivo de la propiedad
+     * {@value #PROPIEDAD_INSTANTANEA} o en la carpeta del usuario.
      */
     public Main() {
         instancia = this;
         this.partida = new Partida();
+        String ruta = System.getProperty(PROPIEDAD_INSTANTANEA);
+        this.guardado = ruta == null || ruta.isBlank()
+                ? GuardadoAutomatico.enCarpetaDeUsuario()
+                : new GuardadoAutomatico(Path.of(ruta));
     }
 
     /**
@@ -40,9 +54,35 @@ public class Main extends Application {
     @Override
     public void start(Stage stage) throws Exception {
         this.escenarioPrincipal = stage;
+        if (MetricasMotor.estanActivas()) {
+            MetricasMotor.registrarEnJmx();
+        }
         stage.setTitle("Cincuentazo");
         mostrarVista("/com/example/el_cincuentenazo/principal.fxml");
         stage.show();
+        if (recuperarPartida()) {
+            mostrarTablero();
+        }
+    }
+
+    @Override
+    public void stop() {
+        guardado.close();
+    }
+
+    /**
+     * Intenta recuperar la partida que quedó sin terminar en la ejecución
+     * anterior.
+     *
+     * @return {@code true} si se restauró una partida en curso
+     */
+    private boolean recuperarPartida() {
+        try {
+            return guardado.restaurarEn(partida) && !partida.estaTerminada();
+        } catch (IOException e) {
+            System.err.println("No se pudo leer la instantánea: " + e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -91,6 +131,13 @@ public class Main extends Application {
             alerta.showAndWait();
             return;
         }
+        mostrarTablero();
+    }
+
+    /**
+     * Muestra el tablero con el estado actual de la partida.
+     */
+    private void mostrarTablero() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/el_cincuentenazo/juego.fxml"));
             Parent raiz = loader.load();
@@ -99,6 +146,7 @@ public class Main extends Application {
             controller.renderizar();
             Scene escena = new Scene(raiz);
             escenarioPrincipal.setScene(escena);
+            controller.reanudarTurnosPendientes();
         } catch (Exception e) {
             throw new RuntimeException("No se pudo abrir el tablero", e);
         }
@@ -113,6 +161,15 @@ public class Main extends Application {
         return partida;
     }
 
+    /**
+     * Expone el guardado automático de la partida compartida.
+     *
+     * @return guardado usado por el tablero tras cada turno
+     */
+    public GuardadoAutomatico getGuardado() {
+        return guardado;
+    }
+
     /**
      * Punto de entrada tradicional de Java.
      *
@@ -0,0 +1,29 @@
+package com.example.el_cincuentenazo.controlador;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Flight Recorder con un refresco completo del tablero. Desactivado
+ * por defecto.
+ */
+@Name(EventoRenderizado.NOMBRE)
+@Label("Renderizado del tablero")
+@Category({"Cincuentenazo", "Interfaz"})
+@Enabled(false)
+@StackTrace(false)
+final class EventoRenderizado extends Event {
+
+    /** Nombre del evento en las grabaciones. */
+    static final String NOMBRE = "cincuentenazo.Renderizado";
+
+    @Label("Jugadas")
+    int jugadas;
+
+    @Label("Eventos de historial")
+    long eventos;
+}
@@ -1,14 +1,24 @@
 package com.example.el_cincuentenazo.controlador;
 
 import com.example.el_cincuentenazo.Main;
-import com.example.el_cincuentenazo.hilos.AnimacionPensamientoThread;
-import com.example.el_cincuentenazo.hilos.TurnoCPUThread;
+import com.example.el_cincuentenazo.hilos.AnimacionPensamiento;
+import com.example.el_cincuentenazo.hilos.CalculoEspeculativo;
+import com.example.el_cincuentenazo.hilos.Planificador;
+import com.example.el_cincuentenazo.hilos.RitmoCPU;
+import com.example.el_cincuentenazo.hilos.TurnoCPUSimulado;
 import com.example.el_cincuentenazo.modelo.Carta;
 import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
 import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
 import com.example.el_cincuentenazo.modelo.Jugador;
 import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.ObservadorPartida;
+import com.example.el_cincuentenazo.modelo.ObservadorPartida.Cambio;
 import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import com.example.el_cincuentenazo.repeticion.Repeticion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import javafx.application.Platform;
@@ -17,14 +27,22 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextArea;
 
 /**
  * Controlador encargado de mantener sincronizada la vista del tablero con el
- * estado de la partida.
+ * estado de la partida. Observa la partida y en cada renderizado toca solo los
+ * nodos cuyos datos cambiaron desde el anterior.
  */
 public class TableroController {
 
+    /** Propiedad del sistema con el directorio donde guardar las repeticiones. */
+    private static final String PROPIEDAD_REPETICIONES = "cincuentenazo.repeticiones";
+    /** Propiedad del sistema que muestra el historial en una lista virtualizada. */
+    private static final String PROPIEDAD_HISTORIAL_LISTA = "cincuentenazo.historial.lista";
+
     @FXML
     private Label lblMesaPuntaje;
     @FXML
@@ -58,11 +76,24 @@ public class TableroController {
     @FXML
     private TextArea txtHistorial;
     @FXML
+    private ListView<String> lstHistorial;
+    @FXML
     private Label lblEstadoCPU;
 
     private Partida partida;
     private int cantidadCPUConfiguradas;
     private boolean ganadorAnunciado;
+    private boolean historialEnLista;
+    private long eventosMostrados;
+    /** Cambios de la partida aún no reflejados, un bit por {@link Cambio}. */
+    private int cambiosPendientes;
+    /** Asientos con cambios aún no reflejados, un bit por asiento. */
+    private long asientosPendientes;
+    /** Estado de fin de partida que muestra la vista. */
+    private boolean terminadaMostrada;
+    private final ObservadorPartida observador = this::anotarCambio;
+    /** Ritmo de los turnos de CPU, leído de {@value RitmoCPU#PROPIEDAD}. */
+    private final RitmoCPU ritmo = RitmoCPU.desdePropiedades();
 
     private final List<Button> botonesCartas = new ArrayList<>();
     private final List<Label> etiquetasEstadoCPU = new ArrayList<>();
@@ -85,6 +116,11 @@ public class TableroController {
         etiquetasUltimaCPU.add(lblCPU3Ultima);
         txtHistorial.setEditable(false);
         txtHistorial.setWrapText(true);
+        historialEnLista = Boolean.getBoolean(PROPIEDAD_HISTORIAL_LISTA);
+        txtHistorial.setVisible(!historialEnLista);
+        txtHistorial.setManaged(!historialEnLista);
+        lstHistorial.setVisible(historialEnLista);
+        lstHistorial.setManaged(historialEnLista);
     }
 
     /**
@@ -93,109 +129,239 @@ public class TableroController {
      * @param partida instancia lista para usarse en la vista
      */
     public void configurarPartida(Partida partida) {
+        if (this.partida != null) {
+            this.partida.quitarObservador(observador);
+        }
         this.partida = partida;
+        partida.confinarAlHiloActual();
         this.cantidadCPUConfiguradas = Math.max(0, partida.getJugadores().size() - 1);
         this.ganadorAnunciado = false;
+        partida.agregarObservador(observador);
+        anotarCambio(Cambio.REINICIO, ObservadorPartida.SIN_ASIENTO);
+        reiniciarHistorial();
+    }
+
+    /**
+     * Continúa los turnos de CPU si la partida quedó a mitad de ellos, como
+     * ocurre al recuperar una instantánea guardada justo después de la jugada
+     * del humano.
+     */
+    public void reanudarTurnosPendientes() {
+        if (partida != null && !partida.estaTerminada() && partida.getTurnoActual() != 0) {
+            ejecutarTurnosCPUConHilos();
+        }
+    }
+
+    /**
+     * Anota un cambio de la partida para reflejarlo en el próximo renderizado.
+     *
+     * @param cambio  parte del estado que cambió
+     * @param asiento jugador involucrado, si corresponde
+     */
+    private void anotarCambio(Cambio cambio, int asiento) {
+        if (cambio == Cambio.REINICIO) {
+            cambiosPendientes = -1;
+            asientosPendientes = -1L;
+            return;
+        }
+        cambiosPendientes |= 1 << cambio.ordinal();
+        if (cambio == Cambio.JUGADOR && asiento >= 0 && asiento < Long.SIZE) {
+            asientosPendientes |= 1L << asiento;
+        }
+    }
+
+    private boolean pendiente(Cambio cambio) {
+        return (cambiosPendientes & 1 << cambio.ordinal()) != 0;
     }
 
     /**
-     * Refresca todos los elementos visuales para reflejar el estado actual.
+     * Refleja en la vista los cambios anotados desde el renderizado anterior.
      */
     public void renderizar() {
         if (partida == null) {
             return;
         }
+        EventoRenderizado evento = new EventoRenderizado();
+        evento.begin();
         if (!partida.humanoTieneJugada() && !partida.getJugadorHumano().estaEliminado()) {
             partida.eliminarHumanoPorFaltaDeJugadas();
-            while (!partida.estaTerminada()) {
-                partida.jugarTurnoCPU();
-            }
         }
-        actualizarMesa();
-        actualizarManoHumano();
-        actualizarCPUs();
+        boolean terminada = partida.estaTerminada();
+        if (terminada != terminadaMostrada) {
+            terminadaMostrada = terminada;
+            anotarCambio(Cambio.MANO_HUMANO, ObservadorPartida.SIN_ASIENTO);
+            anotarCambio(Cambio.TURNO, ObservadorPartida.SIN_ASIENTO);
+        }
+        if (pendiente(Cambio.SUMA)) {
+            actualizarMesa();
+        }
+        if (pendiente(Cambio.SUMA) || pendiente(Cambio.MANO_HUMANO)) {
+            actualizarManoHumano(terminada);
+        }
+        if (asientosPendientes != 0) {
+            actualizarCPUs();
+        }
         actualizarHistorial();
-        actualizarTurno();
+        if (pendiente(Cambio.TURNO)) {
+            actualizarTurno(terminada);
+        }
+        cambiosPendientes = 0;
+        asientosPendientes = 0;
+        guardarInstantanea();
+        if (evento.shouldCommit()) {
+            evento.jugadas = partida.getJugadasRealizadas();
+            evento.eventos = partida.getEventos().getTotal();
+            evento.commit();
+        }
         mostrarGanadorSiCorresponde();
     }
 
+    /**
+     * Guarda la partida en curso para poder recuperarla, o descarta la
+     * instantánea si ya terminó. La escritura ocurre fuera del hilo de JavaFX.
+     */
+    private void guardarInstantanea() {
+        Main aplicacion = Main.obtenerInstancia();
+        if (aplicacion == null) {
+            return;
+        }
+        if (partida.estaTerminada()) {
+            aplicacion.getGuardado().borrar();
+        } else {
+            aplicacion.getGuardado().guardar(partida);
+        }
+    }
+
     /**
      * Muestra la suma y la última carta de la mesa.
      */
     private void actualizarMesa() {
-        lblMesaPuntaje.setText(String.valueOf(partida.getSumaMesa()));
+        fijarTexto(lblMesaPuntaje, String.valueOf(partida.getSumaMesa()));
         Carta ultimaMesa = partida.getUltimaCartaMesa();
-        if (ultimaMesa == null) {
-            lblMesaUltimaCarta.setText("Sin cartas");
-        } else {
-            lblMesaUltimaCarta.setText(ultimaMesa.toString());
-        }
+        fijarTexto(lblMesaUltimaCarta, ultimaMesa == null ? "Sin cartas" : ultimaMesa.toString());
     }
 
     /**
-     * Actualiza los botones que representan la mano del jugador humano.
+     * Actualiza los botones que representan la mano del jugador humano. Las
+     * cartas jugables salen de una sola máscara en lugar de validar cada
+     * carta por separado, y ninguna se habilita fuera del turno del humano.
+     *
+     * @param terminada si la partida ya terminó
      */
-    private void actualizarManoHumano() {
+    private void actualizarManoHumano(boolean terminada) {
         JugadorHumano humano = partida.getJugadorHumano();
         List<Carta> mano = humano.getMano();
+        int jugables = terminada || partida.getTurnoActual() != 0 ? 0 : humano.mascaraJugables(partida.getSumaMesa());
         for (int i = 0; i < botonesCartas.size(); i++) {
             Button boton = botonesCartas.get(i);
             if (i < mano.size()) {
-                Carta carta = mano.get(i);
-                boton.setText(carta.toString());
-                boolean jugable = humano.puedeJugar(carta, partida.getSumaMesa());
-                boton.setDisable(!jugable || partida.estaTerminada());
+                fijarTexto(boton, mano.get(i).toString());
+                fijarDeshabilitado(boton, (jugables & 1 << i) == 0);
             } else {
-                boton.setText("Sin carta");
-                boton.setDisable(true);
+                fijarTexto(boton, "Sin carta");
+                fijarDeshabilitado(boton, true);
             }
         }
     }
 
     /**
-     * Refleja en pantalla el estado de cada CPU.
+     * Refleja en pantalla el estado de las CPU que cambiaron.
      */
     private void actualizarCPUs() {
         List<Jugador> jugadores = partida.getJugadores();
         for (int i = 0; i < etiquetasEstadoCPU.size(); i++) {
             int indiceJugador = i + 1;
+            if ((asientosPendientes & 1L << indiceJugador) == 0) {
+                continue;
+            }
             Label etiquetaEstado = etiquetasEstadoCPU.get(i);
             Label etiquetaUltima = etiquetasUltimaCPU.get(i);
             if (indiceJugador < jugadores.size()) {
                 Jugador cpu = jugadores.get(indiceJugador);
-                etiquetaEstado.setText(cpu.getNombre() + (cpu.estaEliminado() ? " - Eliminado" : " - Activo"));
+                fijarTexto(etiquetaEstado, cpu.getNombre() + (cpu.estaEliminado() ? " - Eliminado" : " - Activo"));
                 Carta ultima = partida.obtenerUltimaCartaDe(cpu);
-                etiquetaUltima.setText(ultima == null ? "Sin jugadas" : ultima.toString());
+                fijarTexto(etiquetaUltima, ultima == null ? "Sin jugadas" : ultima.toString());
             } else {
-                etiquetaEstado.setText("CPU inactiva");
-                etiquetaUltima.setText("-");
+                fijarTexto(etiquetaEstado, "CPU inactiva");
+                fijarTexto(etiquetaUltima, "-");
             }
         }
     }
 
     /**
-     * Vuelca el historial textual en el área de texto.
+     * Cambia el texto de un nodo solo si es distinto, para no invalidar su
+     * dibujo ni su distribución sin necesidad.
+     *
+     * @param nodo  etiqueta o botón
+     * @param texto texto a mostrar
+     */
+    private static void fijarTexto(Labeled nodo, String texto) {
+        if (!texto.equals(nodo.getText())) {
+            nodo.setText(texto);
+        }
+    }
+
+    /**
+     * Habilita o deshabilita un botón solo si su estado cambia.
+     *
+     * @param boton        botón a actualizar
+     * @param deshabilitar estado deseado
+     */
+    private static void fijarDeshabilitado(Button boton, boolean deshabilitar) {
+        if (boton.isDisable() != deshabilitar) {
+            boton.setDisable(deshabilitar);
+        }
+    }
+
+    /**
+     * Agrega al historial visible solo los eventos registrados desde el último
+     * renderizado, en el área de texto o en la lista virtualizada.
      */
     private void actualizarHistorial() {
-        StringBuilder constructor = new StringBuilder();
-        for (String evento : partida.getHistorial()) {
-            constructor.append(evento).append(System.lineSeparator());
+        RegistroEventos eventos = partida.getEventos();
+        long total = eventos.getTotal();
+        if (total < eventosMostrados) {
+            reiniciarHistorial();
+        }
+        long desde = Math.max(eventosMostrados, eventos.getPrimerDisponible());
+        if (historialEnLista) {
+            List<String> nuevas = new ArrayList<>();
+            for (long i = desde; i < total; i++) {
+                nuevas.add(partida.formatearEvento(i));
+            }
+            if (!nuevas.isEmpty()) {
+                lstHistorial.getItems().addAll(nuevas);
+                lstHistorial.scrollTo(lstHistorial.getItems().size() - 1);
+            }
+        } else if (desde < total) {
+            StringBuilder constructor = new StringBuilder();
+            for (long i = desde; i < total; i++) {
+                constructor.append(partida.formatearEvento(i)).append(System.lineSeparator());
+            }
+            txtHistorial.appendText(constructor.toString());
         }
-        txtHistorial.setText(constructor.toString());
+        eventosMostrados = total;
+    }
+
+    /**
+     * Vacía el historial visible para empezar a mostrar una partida nueva.
+     */
+    private void reiniciarHistorial() {
+        eventosMostrados = 0;
+        txtHistorial.clear();
+        lstHistorial.getItems().clear();
     }
 
     /**
      * Indica visualmente a quién corresponde el turno actual.
      */
-    private void actualizarTurno() {
-        if (partida.estaTerminada()) {
-            lblTurnoActual.setText("Partida finalizada");
-            return;
-        }
-        if (partida.getTurnoActual() == 0) {
-            lblTurnoActual.setText("Tu turno");
+    private void actualizarTurno(boolean terminada) {
+        if (terminada) {
+            fijarTexto(lblTurnoActual, "Partida finalizada");
+        } else if (partida.getTurnoActual() == 0) {
+            fijarTexto(lblTurnoActual, "Tu turno");
         } else {
-            lblTurnoActual.setText("Turno de " + partida.getJugadores().get(partida.getTurnoActual()).getNombre());
+            fijarTexto(lblTurnoActual, "Turno de " + partida.getJugadores().get(partida.getTurnoActual()).getNombre());
         }
     }
 
@@ -210,6 +376,7 @@ public class TableroController {
             return;
         }
         ganadorAnunciado = true;
+        guardarRepeticionSiCorresponde();
         Jugador ganador = partida.ganador();
         String mensaje = ganador == null ? "No hay ganador." : "Ganador: " + ganador.getNombre();
         Alert alerta = new Alert(Alert.AlertType.INFORMATION);
@@ -219,6 +386,24 @@ public class TableroController {
         alerta.showAndWait();
     }
 
+    /**
+     * Guarda la repetición de la partida terminada cuando se configuró un
+     * directorio con la propiedad {@value #PROPIEDAD_REPETICIONES}.
+     */
+    private void guardarRepeticionSiCorresponde() {
+        String directorio = System.getProperty(PROPIEDAD_REPETICIONES);
+        if (directorio == null || directorio.isBlank()) {
+            return;
+        }
+        Path archivo = Path.of(directorio, "partida-" + Long.toHexString(partida.getSemilla()) + Repeticion.EXTENSION);
+        try {
+            Files.createDirectories(archivo.getParent());
+            Repeticion.de(partida).guardar(archivo);
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la repetición: " + e.getMessage());
+        }
+    }
+
     @FXML
     private void jugarCartaUno(ActionEvent evento) {
         jugarCartaPorIndice(0);
@@ -271,6 +456,9 @@ public class TableroController {
 
     @FXML
     private void manejarHome(ActionEvent evento) {
+        if (partida != null) {
+            partida.quitarObservador(observador);
+        }
         Main.obtenerInstancia().abrirVistaInicio();
     }
 
@@ -281,12 +469,15 @@ public class TableroController {
         }
         partida.iniciar(cantidadCPUConfiguradas);
         ganadorAnunciado = false;
+        reiniciarHistorial();
         renderizar();
     }
 
     /**
-     * Corre los turnos de las CPU en hilos separados para mostrar la animación de
-     * pensamiento.
+     * Calcula los turnos de las CPU sobre una copia de la partida mientras se
+     * muestra su pensamiento y, al terminar ambas cosas, aplica el resultado en
+     * el hilo de JavaFX. Ese hilo es el dueño de la partida y nunca consulta a
+     * las CPU: solo aplica sus decisiones y vuelve a dibujar.
      */
     private void ejecutarTurnosCPUConHilos() {
         for (Button boton : botonesCartas) {
@@ -294,27 +485,31 @@ public class TableroController {
         }
         btnHome.setDisable(true);
         btnRefresh.setDisable(true);
-        TurnoCPUThread turnoCPUThread = new TurnoCPUThread(partida);
-        AnimacionPensamientoThread animacionThread = new AnimacionPensamientoThread(lblEstadoCPU, lblTurnoActual, turnoCPUThread);
-        turnoCPUThread.start();
-        animacionThread.start();
-        new Thread(() -> {
-            try {
-                turnoCPUThread.join();
-                animacionThread.join();
-                Platform.runLater(() -> {
-                    partida.jugarTurnoCPU();
-                    renderizar();
-                    for (Button boton : botonesCartas) {
-                        boton.setDisable(false);
+        CalculoEspeculativo calculo = CalculoEspeculativo.lanzar(partida, Planificador.calculo());
+        TurnoCPUSimulado turno = new TurnoCPUSimulado(partida, Planificador.compartido(), ritmo);
+        AnimacionPensamiento animacion = new AnimacionPensamiento(lblEstadoCPU, lblTurnoActual, turno);
+        animacion.iniciar(Planificador.compartido());
+        turno.iniciar(calculo.getResultado()).whenComplete((sinValor, error) -> {
+            animacion.detener();
+            Platform.runLater(() -> {
+                btnHome.setDisable(false);
+                btnRefresh.setDisable(false);
+                try {
+                    if (!calculo.aplicarEn(partida)) {
+                        if (calculo.fallo()) {
+                            mostrarAlerta("No se pudo calcular el turno de las CPU.");
+                        } else if (!partida.estaTerminada() && partida.getTurnoActual() != 0) {
+                            ejecutarTurnosCPUConHilos();
+                            return;
+                        }
                     }
-                    btnHome.setDisable(false);
-                    btnRefresh.setDisable(false);
-                });
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+                } catch (JugadaInvalidaException e) {
+                    mostrarAlerta("No se pudo aplicar el turno de las CPU: " + e.getMessage());
+                }
+                anotarCambio(Cambio.MANO_HUMANO, ObservadorPartida.SIN_ASIENTO);
+                renderizar();
+            });
+        });
     }
 
     /**
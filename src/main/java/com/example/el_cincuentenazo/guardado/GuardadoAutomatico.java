@@ -0,0 +1,194 @@
+package com.example.el_cincuentenazo.guardado;
+
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Guarda la partida en curso tras cada turno para poder recuperarla si la
+ * aplicación se cierra de forma inesperada.
+ *
+ * <p>La instantánea se captura en el hilo que llama a
+ * {@link #guardar(Partida)}, que es el único que modifica la partida, y solo la
+ * escritura ocurre en un hilo propio. Si llegan varias instantáneas mientras se
+ * escribe una, se conserva solo la más reciente. Cada escritura va a un archivo
+ * temporal que luego reemplaza al definitivo de forma atómica, de modo que el
+ * archivo siempre contiene una instantánea completa.</p>
+ */
+public class GuardadoAutomatico implements AutoCloseable {
+
+    /** Extensión sugerida para los archivos de instantánea. */
+    public static final String EXTENSION = ".c50s";
+
+    private final Path archivo;
+    private final Path temporal;
+    private final ExecutorService escritor;
+    /** Instantánea aún no escrita; las nuevas reemplazan a las anteriores. */
+    private final AtomicReference<byte[]> pendiente;
+    /** Indica si ya hay una escritura encolada que tomará la pendiente. */
+    private final AtomicBoolean encolado;
+
+    /**
+     * Crea el guardado sobre el archivo indicado. La carpeta se crea al
+     * escribir la primera instantánea.
+     *
+     * @param archivo ruta del archivo de instantánea
+     */
+    public GuardadoAutomatico(Path archivo) {
+        this.archivo = Objects.requireNonNull(archivo).toAbsolutePath();
+        this.temporal = this.archivo.resolveSibling(this.archivo.getFileName() + ".tmp");
+        this.escritor = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "guardado-partida");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.pendiente = new AtomicReference<>();
+        this.encolado = new AtomicBoolean();
+    }
+
+    /**
+     * Captura la partida y programa su escritura sin esperar al disco.
+     *
+     * @param partida partida a guardar, desde el hilo que la juega
+     */
+    public void guardar(Partida partida) {
+        pendiente.set(partida.capturarInstantanea());
+        if (encolado.compareAndSet(false, true)) {
+            escritor.execute(this::escribirPendiente);
+        }
+    }
+
+    /**
+     * Descarta la instantánea guardada, por ejemplo al terminar la partida. Se
+     * ejecuta después de las escrituras ya encoladas.
+     *
+     * @return futuro que se completa al borrar el archivo
+     */
+    public CompletableFuture<Void> borrar() {
+        pendiente.set(null);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Files.deleteIfExists(archivo);
+            } catch (IOException e) {
+                System.err.println("No se pudo borrar la instantánea: " + e.getMessage());
+            }
+        }, escritor);
+    }
+
+    /**
+     * Devuelve un futuro que se completa cuando terminan las escrituras
+     * encoladas hasta ahora.
+     *
+     * @return futuro de las escrituras pendientes
+     */
+    public CompletableFuture<Void> esperarEscrituras() {
+        return CompletableFuture.runAsync(() -> { }, escritor);
+    }
+
+    /**
+     * Restaura en la partida la última instantánea guardada. Un archivo dañado
+     * o de otra versión se borra para no volver a intentarlo, falle como falle
+     * su lectura, de modo que nunca impide arrancar la aplicación.
+     *
+     * @param partida partida a restaurar
+     * @return {@code true} si había una instantánea válida
+     * @throws IOException si el archivo existe pero no puede leerse
+     */
+    public boolean restaurarEn(Partida partida) throws IOException {
+        byte[] datos;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            if (tamano > Integer.MAX_VALUE) {
+                throw new IOException("La instantánea es demasiado grande: " + tamano);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) tamano);
+            while (buffer.hasRemaining() && canal.read(buffer) >= 0) {
+                // lee hasta llenar el búfer o llegar al final
+            }
+            datos = buffer.array();
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        try {
+            partida.restaurarInstantanea(datos);
+            return true;
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(archivo);
+            return false;
+        }
+    }
+
+    /**
+     * Devuelve la ruta del archivo de instantánea.
+     *
+     * @return ruta absoluta
+     */
+    public Path getArchivo() {
+        return archivo;
+    }
+
+    /**
+     * Termina las escrituras pendientes y libera el hilo escritor.
+     */
+    @Override
+    public void close() {
+        escritor.shutdown();
+        try {
+            escritor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Escribe la instantánea más reciente en el hilo escritor.
+     */
+    private void escribirPendiente() {
+        encolado.set(false);
+        byte[] datos = pendiente.getAndSet(null);
+        if (datos == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(archivo.getParent());
+            try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(datos);
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                canal.force(false);
+            }
+            try {
+                Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la instantánea: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Crea el guardado en la ruta por defecto dentro de la carpeta del usuario.
+     *
+     * @return guardado sobre {@code ~/.cincuentenazo/partida.c50s}
+     */
+    public static GuardadoAutomatico enCarpetaDeUsuario() {
+        return new GuardadoAutomatico(Path.of(System.getProperty("user.home"), ".cincuentenazo", "partida" + EXTENSION));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.el_cincuentenazo.hilos;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+
+/**
+ * Alterna el texto de la etiqueta de estado de las CPUs para simular actividad
+ * mientras {@link TurnoCPUSimulado} introduce una espera artificial. Cada paso
+ * es una tarea periódica del planificador compartido, sin hilo propio.
+ */
+public class AnimacionPensamiento {
+
+    /** Intervalo entre pasos de la animación en milisegundos. */
+    private static final long INTERVALO_MILIS = 500;
+
+    private final Label labelEstado;
+    private final Label labelTurno;
+    private final TurnoCPUSimulado turno;
+    private final String[] sufijos = {"", ".", "..", "..."};
+    private int indiceEstado;
+    private ScheduledFuture<?> tarea;
+
+    /**
+     * Construye la animación.
+     *
+     * @param labelEstado etiqueta que se actualizará
+     * @param labelTurno  etiqueta utilizada para indicar de quién es el turno
+     * @param turno       simulación que indica qué CPU está pensando
+     */
+    public AnimacionPensamiento(Label labelEstado, Label labelTurno, TurnoCPUSimulado turno) {
+        this.labelEstado = labelEstado;
+        this.labelTurno = labelTurno;
+        this.turno = turno;
+        this.indiceEstado = 0;
+    }
+
+    /**
+     * Programa los pasos periódicos de la animación.
+     *
+     * @param planificador ejecutor donde correr cada paso
+     */
+    public synchronized void iniciar(ScheduledExecutorService planificador) {
+        if (tarea == null) {
+            tarea = planificador.scheduleAtFixedRate(this::paso, 0, INTERVALO_MILIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancela los pasos pendientes y limpia la etiqueta de estado.
+     */
+    public synchronized void detener() {
+        if (tarea != null) {
+            tarea.cancel(false);
+        }
+        Platform.runLater(() -> labelEstado.setText(""));
+    }
+
+    private void paso() {
+        String nombreCPU = turno.getCpuActualPensando();
+        if (!turno.estaPensando() || nombreCPU == null) {
+            return;
+        }
+        String textoActual = nombreCPU + " pensando" + sufijos[indiceEstado];
+        String textoTurno = "Turno de " + nombreCPU;
+        Platform.runLater(() -> {
+            labelEstado.setText(textoActual);
+            labelTurno.setText(textoTurno);
+        });
+        indiceEstado = (indiceEstado + 1) % sufijos.length;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.el_cincuentenazo.hilos;
+
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Juega los turnos de las CPUs sobre una copia de la partida en segundo plano,
+ * mientras la interfaz muestra su animación, y al final aplica en la partida
+ * real las decisiones que tomaron. La copia queda confinada al hilo de
+ * cálculo y solo publica esas decisiones; la partida real solo se lee al
+ * lanzar el cálculo y solo se modifica al aplicarlo, ambas veces desde su
+ * hilo dueño, de modo que cada partida tiene un único hilo que la modifica.
+ * Aplicar las decisiones conserva los jugadores de la partida real y emite
+ * los mismos avisos que jugar los turnos directamente.
+ */
+public final class CalculoEspeculativo {
+
+    private final long selloInicial;
+    private final CompletableFuture<int[]> resultado;
+
+    private CalculoEspeculativo(long selloInicial, CompletableFuture<int[]> resultado) {
+        this.selloInicial = selloInicial;
+        this.resultado = resultado;
+    }
+
+    /**
+     * Copia la partida y empieza a jugar los turnos de las CPUs sobre la copia.
+     * Debe llamarse desde el hilo que juega la partida.
+     *
+     * @param partida  partida cuyo turno de CPUs se va a calcular
+     * @param ejecutor ejecutor donde corre el cálculo
+     * @return cálculo en curso
+     */
+    public static CalculoEspeculativo lanzar(Partida partida, Executor ejecutor) {
+        long selloInicial = sello(partida);
+        Partida copia = partida.copiar();
+        int desde = copia.getRegistro().cantidad();
+        CompletableFuture<int[]> resultado = CompletableFuture.supplyAsync(() -> {
+            copia.confinarAlHiloActual();
+            copia.jugarTurnoCPU();
+            int[] entradas = copia.getRegistro().decodificar();
+            return Arrays.copyOfRange(entradas, desde, entradas.length);
+        }, ejecutor);
+        return new CalculoEspeculativo(selloInicial, resultado);
+    }
+
+    /**
+     * Resume la posición de la partida en un número barato de obtener. Dentro
+     * de una partida el registro de jugadas solo crece, así que junto con el
+     * asiento en turno distingue cualquier avance desde que se lanzó el
+     * cálculo.
+     *
+     * @param partida partida a resumir
+     * @return sello de la posición actual
+     */
+    private static long sello(Partida partida) {
+        return (long) partida.getRegistro().cantidad() << 32 | partida.getTurnoActual();
+    }
+
+    /**
+     * Devuelve un futuro que se completa cuando el cálculo termina, con éxito
+     * o no.
+     *
+     * @return futuro del cálculo
+     */
+    public CompletableFuture<?> getResultado() {
+        return resultado;
+    }
+
+    /**
+     * Indica si el cálculo terminó con un error.
+     *
+     * @return {@code true} si la copia no pudo jugar los turnos
+     */
+    public boolean fallo() {
+        return resultado.isCompletedExceptionally();
+    }
+
+    /**
+     * Juega el turno de las CPUs aplicando las decisiones calculadas. Nunca
+     * consulta a las CPUs en el hilo que llama: si el cálculo no está listo,
+     * falló o la partida ya avanzó desde que se lanzó, la deja como está. Debe
+     * llamarse desde el hilo dueño de la partida.
+     *
+     * @param partida partida de la que se lanzó el cálculo
+     * @return {@code true} si se aplicaron las decisiones calculadas
+     * @throws JugadaInvalidaException si la partida no admite las decisiones,
+     *                                 lo que indica que cambió sin alterar su
+     *                                 sello
+     */
+    public boolean aplicarEn(Partida partida) throws JugadaInvalidaException {
+        if (resultado.isDone() && !resultado.isCompletedExceptionally() && sello(partida) == selloInicial) {
+            partida.jugarTurnoCPU(resultado.join(), 0);
+            return true;
+        }
+        resultado.cancel(false);
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.el_cincuentenazo.hilos;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Planificador compartido por todos los tableros de la aplicación. Las esperas
+ * y animaciones de las CPUs son tareas programadas de duración mínima, por lo
+ * que un único hilo alcanza para muchas mesas abiertas a la vez y ningún turno
+ * crea hilos nuevos.
+ */
+public final class Planificador {
+
+    /** Hilos del planificador compartido. */
+    private static final int HILOS = 1;
+
+    private static final ScheduledExecutorService COMPARTIDO = crear();
+
+    private Planificador() {
+    }
+
+    /**
+     * Devuelve el planificador compartido. Sus hilos son daemon, de modo que no
+     * impiden cerrar la aplicación.
+     *
+     * @return ejecutor programado común a toda la aplicación
+     */
+    public static ScheduledExecutorService compartido() {
+        return COMPARTIDO;
+    }
+
+    /**
+     * Devuelve el ejecutor donde se calculan las jugadas de las CPUs. Es
+     * distinto del planificador para que un cálculo largo no frene las
+     * animaciones.
+     *
+     * @return ejecutor para trabajo de cálculo
+     */
+    public static Executor calculo() {
+        return ForkJoinPool.commonPool();
+    }
+
+    private static ScheduledExecutorService crear() {
+        AtomicInteger numero = new AtomicInteger();
+        ThreadFactory fabrica = tarea -> {
+            Thread hilo = new Thread(tarea, "planificador-cpu-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+        ScheduledThreadPoolExecutor ejecutor = new ScheduledThreadPoolExecutor(HILOS, fabrica);
+        ejecutor.setRemoveOnCancelPolicy(true);
+        return ejecutor;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.el_cincuentenazo.hilos;
+
+import java.util.Locale;
+
+/**
+ * Ritmo con el que se muestra el turno de las CPUs. En todos los casos las
+ * jugadas se calculan en segundo plano mientras corre la animación, de modo
+ * que el ritmo solo decide cuánto se hace esperar al jugador.
+ */
+public enum RitmoCPU {
+
+    /** Aplica las jugadas en cuanto están calculadas. */
+    INSTANTANEO(0, 0),
+    /** Espera de dos a cuatro segundos por CPU, como siempre. */
+    FIJO(TurnoCPUSimulado.ESPERA_MINIMA_MILIS, TurnoCPUSimulado.ESPERA_MAXIMA_MILIS),
+    /**
+     * Muestra una pausa breve por CPU y se alarga solo lo que tarde de verdad
+     * el cálculo.
+     */
+    ADAPTATIVO(300, 300);
+
+    /** Propiedad del sistema con el ritmo a usar en la interfaz. */
+    public static final String PROPIEDAD = "cincuentenazo.ritmoCPU";
+
+    private final long esperaMinimaMilis;
+    private final long esperaMaximaMilis;
+
+    RitmoCPU(long esperaMinimaMilis, long esperaMaximaMilis) {
+        this.esperaMinimaMilis = esperaMinimaMilis;
+        this.esperaMaximaMilis = esperaMaximaMilis;
+    }
+
+    /**
+     * Espera mínima que se muestra por cada CPU.
+     *
+     * @return milisegundos
+     */
+    public long getEsperaMinimaMilis() {
+        return esperaMinimaMilis;
+    }
+
+    /**
+     * Espera máxima que se muestra por cada CPU.
+     *
+     * @return milisegundos
+     */
+    public long getEsperaMaximaMilis() {
+        return esperaMaximaMilis;
+    }
+
+    /**
+     * Lee el ritmo de la propiedad {@value #PROPIEDAD}.
+     *
+     * @return ritmo configurado, o {@link #FIJO} si falta o no se reconoce
+     */
+    public static RitmoCPU desdePropiedades() {
+        return desdeTexto(System.getProperty(PROPIEDAD));
+    }
+
+    /**
+     * Interpreta el nombre de un ritmo sin distinguir mayúsculas.
+     *
+     * @param texto nombre como {@code instantaneo}, {@code fijo} o
+     *              {@code adaptativo}
+     * @return ritmo correspondiente, o {@link #FIJO} si no se reconoce
+     */
+    public static RitmoCPU desdeTexto(String texto) {
+        if (texto != null) {
+            for (RitmoCPU ritmo : values()) {
+                if (ritmo.name().equals(texto.trim().toUpperCase(Locale.ROOT))) {
+                    return ritmo;
+                }
+            }
+        }
+        return FIJO;
+    }
+}
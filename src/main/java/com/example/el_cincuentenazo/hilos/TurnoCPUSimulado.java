@@ -0,0 +1,165 @@
+package com.example.el_cincuentenazo.hilos;
+
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula el tiempo de "pensamiento" de las CPUs antes de que la lógica real de
+ * {@link Partida#jugarTurnoCPU()} se ejecute. No modifica el estado del juego:
+ * programa una espera por cada CPU activa en un planificador y avisa al
+ * terminar mediante un {@link CompletableFuture}, sin bloquear ningún hilo.
+ * Si se le pasa el cálculo real de las jugadas, no termina antes que él.
+ */
+public class TurnoCPUSimulado {
+
+    /** Espera mínima por CPU en milisegundos. */
+    public static final long ESPERA_MINIMA_MILIS = 2000;
+    /** Espera máxima por CPU en milisegundos. */
+    public static final long ESPERA_MAXIMA_MILIS = 4000;
+
+    private final List<String> cpusActivas;
+    private final ScheduledExecutorService planificador;
+    private final long esperaMinimaMilis;
+    private final long esperaMaximaMilis;
+    private final Random random;
+    private final CompletableFuture<Void> fin;
+    private volatile String cpuActualPensando;
+    private volatile ScheduledFuture<?> esperaActual;
+    private CompletableFuture<?> calculo;
+    private int siguiente;
+
+    /**
+     * Prepara la simulación con las esperas habituales de dos a cuatro
+     * segundos por CPU.
+     *
+     * @param partida      partida cuyos rivales automáticos se van a simular
+     * @param planificador ejecutor donde se programan las esperas
+     */
+    public TurnoCPUSimulado(Partida partida, ScheduledExecutorService planificador) {
+        this(partida, planificador, ESPERA_MINIMA_MILIS, ESPERA_MAXIMA_MILIS, new Random());
+    }
+
+    /**
+     * Prepara la simulación con las esperas del ritmo indicado.
+     *
+     * @param partida      partida cuyos rivales automáticos se van a simular
+     * @param planificador ejecutor donde se programan las esperas
+     * @param ritmo        ritmo que define la espera por CPU
+     */
+    public TurnoCPUSimulado(Partida partida, ScheduledExecutorService planificador, RitmoCPU ritmo) {
+        this(partida, planificador, ritmo.getEsperaMinimaMilis(), ritmo.getEsperaMaximaMilis(), new Random());
+    }
+
+    /**
+     * Prepara la simulación. Las CPUs activas se leen aquí, en el hilo que
+     * posee la partida, para que el planificador nunca la consulte.
+     *
+     * @param partida           partida cuyos rivales automáticos se van a simular
+     * @param planificador      ejecutor donde se programan las esperas
+     * @param esperaMinimaMilis espera mínima por CPU
+     * @param esperaMaximaMilis espera máxima por CPU
+     * @param random            generador usado para sortear cada espera
+     */
+    public TurnoCPUSimulado(Partida partida, ScheduledExecutorService planificador, long esperaMinimaMilis,
+                            long esperaMaximaMilis, Random random) {
+        if (esperaMinimaMilis < 0 || esperaMaximaMilis < esperaMinimaMilis) {
+            throw new IllegalArgumentException("Rango de espera inválido");
+        }
+        this.cpusActivas = new ArrayList<>();
+        if (!partida.estaTerminada()) {
+            for (int i = 1; i < partida.getJugadores().size(); i++) {
+                Jugador candidato = partida.getJugadores().get(i);
+                if (!candidato.estaEliminado()) {
+                    cpusActivas.add(candidato.getNombre());
+                }
+            }
+        }
+        this.planificador = planificador;
+        this.esperaMinimaMilis = esperaMinimaMilis;
+        this.esperaMaximaMilis = esperaMaximaMilis;
+        this.random = random;
+        this.fin = new CompletableFuture<>();
+    }
+
+    /**
+     * Comienza a programar las esperas. El futuro devuelto se completa en un
+     * hilo del planificador cuando la última CPU termina de "pensar".
+     *
+     * @return futuro que se completa al terminar la simulación
+     */
+    public CompletableFuture<Void> iniciar() {
+        return iniciar(CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Comienza a programar las esperas mientras corre el cálculo real de las
+     * jugadas. El futuro devuelto se completa cuando terminan tanto las
+     * esperas como el cálculo; mientras solo falte el cálculo, sigue
+     * "pensando" la última CPU.
+     *
+     * @param calculo cálculo de las jugadas que se superpone a la animación
+     * @return futuro que se completa al terminar la simulación
+     */
+    public CompletableFuture<Void> iniciar(CompletableFuture<?> calculo) {
+        synchronized (this) {
+            this.calculo = calculo;
+        }
+        programarSiguiente();
+        return fin;
+    }
+
+    /**
+     * Detiene la simulación y completa el futuro de inmediato.
+     */
+    public void cancelar() {
+        ScheduledFuture<?> espera = esperaActual;
+        if (espera != null) {
+            espera.cancel(false);
+        }
+        terminar();
+    }
+
+    /**
+     * Indica si todavía resta alguna CPU por simular.
+     *
+     * @return {@code true} mientras la simulación no haya terminado
+     */
+    public boolean estaPensando() {
+        return !fin.isDone();
+    }
+
+    /**
+     * Devuelve el nombre de la CPU cuya espera se está simulando. Es
+     * {@code null} si la simulación no comenzó o ya terminó.
+     *
+     * @return nombre legible de la CPU en proceso, o {@code null}
+     */
+    public String getCpuActualPensando() {
+        return cpuActualPensando;
+    }
+
+    private synchronized void programarSiguiente() {
+        if (fin.isDone()) {
+            return;
+        }
+        if (siguiente >= cpusActivas.size()) {
+            calculo.whenComplete((sinValor, error) -> terminar());
+            return;
+        }
+        cpuActualPensando = cpusActivas.get(siguiente++);
+        long espera = esperaMinimaMilis + (long) (random.nextDouble() * (esperaMaximaMilis - esperaMinimaMilis + 1));
+        esperaActual = planificador.schedule(this::programarSiguiente, espera, TimeUnit.MILLISECONDS);
+    }
+
+    private void terminar() {
+        cpuActualPensando = null;
+        fin.complete(null);
+    }
+}
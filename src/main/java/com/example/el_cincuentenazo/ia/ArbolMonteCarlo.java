@@ -0,0 +1,202 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Árbol de búsqueda Monte Carlo sobre conjuntos de información (ISMCTS de un
+ * solo observador). En cada iteración se reparte al azar lo que el observador
+ * no ve, se desciende por el árbol eligiendo con UCB1 solo entre las jugadas
+ * legales en ese reparto, se agrega un nodo nuevo y se completa la partida con
+ * jugadas al azar. Cada nodo acumula las victorias del jugador que hizo la
+ * jugada que lleva a él.
+ *
+ * <p>Una instancia no es segura entre hilos; la búsqueda en paralelo usa un
+ * árbol por hilo y suma las visitas de la raíz.</p>
+ */
+final class ArbolMonteCarlo {
+
+    /** Peso de la exploración en la fórmula UCB1. */
+    static final double EXPLORACION = 0.7;
+    /** Turnos máximos de una simulación antes de abandonarla sin ganador. */
+    static final int MAX_JUGADAS_SIMULACION = 2_000;
+    /** Iteraciones entre dos consultas del reloj. */
+    private static final int ITERACIONES_POR_CONSULTA = 16;
+
+    private final Observacion observacion;
+    private final SimulacionRapida estado;
+    private final int[] mezcla;
+    private final SplittableRandom azar;
+    private final Nodo raiz;
+    private long simulaciones;
+
+    /**
+     * Crea un árbol vacío.
+     *
+     * @param observacion información del asiento que decide
+     * @param azar        generador propio del árbol
+     */
+    ArbolMonteCarlo(Observacion observacion, SplittableRandom azar) {
+        this.observacion = observacion;
+        this.estado = observacion.nuevoEstado();
+        this.mezcla = new int[observacion.cantidadNoVistas()];
+        this.azar = azar;
+        this.raiz = new Nodo(-1, -1, null);
+    }
+
+    /**
+     * Itera hasta alcanzar el instante indicado.
+     *
+     * @param limiteNanos valor de {@link System#nanoTime()} en el que detenerse
+     */
+    void buscarHasta(long limiteNanos) {
+        while (System.nanoTime() - limiteNanos < 0) {
+            for (int i = 0; i < ITERACIONES_POR_CONSULTA; i++) {
+                iterar();
+            }
+        }
+    }
+
+    /**
+     * Ejecuta una iteración completa: reparto, selección, expansión,
+     * simulación y retropropagación.
+     */
+    void iterar() {
+        observacion.determinizar(estado, mezcla, azar);
+        Nodo nodo = raiz;
+        boolean expandido = false;
+        while (!expandido && !estado.terminada()) {
+            int mascara = estado.jugables();
+            if (mascara == 0) {
+                estado.eliminarTurno();
+                continue;
+            }
+            int turno = estado.getTurno();
+            int sinProbar = mascara;
+            for (int h = 0; h < nodo.cantidadHijos; h++) {
+                Nodo hijo = nodo.hijos[h];
+                if (hijo.jugador == turno) {
+                    sinProbar &= ~posicionesDe(turno, hijo.carta, mascara);
+                }
+            }
+            if (sinProbar != 0) {
+                int posicion = posicionAlAzar(sinProbar);
+                nodo = nodo.agregarHijo(estado.carta(turno, posicion), turno);
+                estado.jugar(posicion, azar);
+                expandido = true;
+            } else {
+                Nodo elegido = seleccionar(nodo, turno, mascara);
+                estado.jugar(Integer.numberOfTrailingZeros(posicionesDe(turno, elegido.carta, mascara)), azar);
+                nodo = elegido;
+            }
+        }
+        int ganador = estado.completarAlAzar(azar, MAX_JUGADAS_SIMULACION);
+        for (Nodo actual = nodo; actual != null; actual = actual.padre) {
+            actual.visitas++;
+            if (actual.jugador == ganador) {
+                actual.victorias++;
+            }
+        }
+        simulaciones++;
+    }
+
+    /**
+     * Elige con UCB1 entre los hijos cuya carta es legal en el reparto actual
+     * y cuenta para todos ellos una oportunidad más de haber sido elegidos.
+     */
+    private Nodo seleccionar(Nodo nodo, int turno, int mascara) {
+        Nodo mejor = null;
+        double mejorValor = Double.NEGATIVE_INFINITY;
+        for (int h = 0; h < nodo.cantidadHijos; h++) {
+            Nodo hijo = nodo.hijos[h];
+            if (hijo.jugador != turno || posicionesDe(turno, hijo.carta, mascara) == 0) {
+                continue;
+            }
+            hijo.disponibilidad++;
+            double valor = hijo.victorias / hijo.visitas
+                    + EXPLORACION * Math.sqrt(Math.log(hijo.disponibilidad) / hijo.visitas);
+            if (valor > mejorValor) {
+                mejorValor = valor;
+                mejor = hijo;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Calcula las posiciones jugables de la mano que contienen una carta.
+     */
+    private int posicionesDe(int asiento, int ordinal, int mascara) {
+        int posiciones = 0;
+        for (int resto = mascara; resto != 0; resto &= resto - 1) {
+            int posicion = Integer.numberOfTrailingZeros(resto);
+            if (estado.carta(asiento, posicion) == ordinal) {
+                posiciones |= 1 << posicion;
+            }
+        }
+        return posiciones;
+    }
+
+    private int posicionAlAzar(int mascara) {
+        int elegida = azar.nextInt(Integer.bitCount(mascara));
+        for (int i = 0; i < elegida; i++) {
+            mascara &= mascara - 1;
+        }
+        return Integer.numberOfTrailingZeros(mascara);
+    }
+
+    /**
+     * Devuelve cuántas veces se eligió cada carta en la raíz.
+     *
+     * @return visitas indexadas por ordinal de carta
+     */
+    long[] visitasPorCarta() {
+        long[] visitas = new long[Carta.TOTAL_CARTAS];
+        for (int h = 0; h < raiz.cantidadHijos; h++) {
+            visitas[raiz.hijos[h].carta] += raiz.hijos[h].visitas;
+        }
+        return visitas;
+    }
+
+    /**
+     * Indica cuántas simulaciones completó el árbol.
+     *
+     * @return simulaciones realizadas
+     */
+    long getSimulaciones() {
+        return simulaciones;
+    }
+
+    /**
+     * Nodo del árbol: una carta jugada por un asiento.
+     */
+    private static final class Nodo {
+        private static final Nodo[] SIN_HIJOS = new Nodo[0];
+
+        private final int carta;
+        private final int jugador;
+        private final Nodo padre;
+        private Nodo[] hijos = SIN_HIJOS;
+        private int cantidadHijos;
+        private int visitas;
+        private int disponibilidad;
+        private double victorias;
+
+        private Nodo(int carta, int jugador, Nodo padre) {
+            this.carta = carta;
+            this.jugador = jugador;
+            this.padre = padre;
+            this.disponibilidad = 1;
+        }
+
+        private Nodo agregarHijo(int carta, int jugador) {
+            if (cantidadHijos == hijos.length) {
+                hijos = Arrays.copyOf(hijos, Math.max(4, cantidadHijos << 1));
+            }
+            Nodo hijo = new Nodo(carta, jugador, this);
+            hijos[cantidadHijos++] = hijo;
+            return hijo;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.CPU;
+import com.example.el_cincuentenazo.modelo.JugadorAutomatico;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Jugador automático que decide con {@link EstrategiaMonteCarlo}. Se incorpora
+ * a una partida con
+ * {@link Partida#setFabricaCPU(java.util.function.Function)}, por ejemplo
+ * {@code partida.setFabricaCPU(nombre -> new CPUMonteCarlo(nombre, partida))}.
+ */
+public class CPUMonteCarlo extends JugadorAutomatico {
+
+    /** Tiempo por jugada usado si no se indica otro. */
+    public static final long PRESUPUESTO_POR_DEFECTO_MILIS = EstrategiaMonteCarlo.PRESUPUESTO_POR_DEFECTO_MILIS;
+
+    private final EstrategiaMonteCarlo busqueda;
+
+    /**
+     * Crea la CPU con el tiempo por defecto sobre el pool común.
+     *
+     * @param nombre  etiqueta usada en la interfaz
+     * @param partida partida en la que participa
+     */
+    public CPUMonteCarlo(String nombre, Partida partida) {
+        this(nombre, partida, new EstrategiaMonteCarlo());
+    }
+
+    /**
+     * Crea la CPU con un tiempo por jugada y un pool explícitos.
+     *
+     * @param nombre           etiqueta usada en la interfaz
+     * @param partida          partida en la que participa
+     * @param presupuestoMilis milisegundos de búsqueda por jugada
+     * @param pool             pool donde se ejecutan las simulaciones
+     * @param azar             generador del que se derivan los de cada árbol
+     */
+    public CPUMonteCarlo(String nombre, Partida partida, long presupuestoMilis, ForkJoinPool pool,
+                         SplittableRandom azar) {
+        this(nombre, partida, new EstrategiaMonteCarlo(presupuestoMilis, pool, azar));
+    }
+
+    private CPUMonteCarlo(String nombre, Partida partida, EstrategiaMonteCarlo busqueda) {
+        super(nombre, partida, busqueda);
+        this.busqueda = busqueda;
+    }
+
+    /**
+     * Devuelve cuántas partidas simuló para decidir la última jugada.
+     *
+     * @return simulaciones de la última búsqueda, o 0 si la jugada era forzada
+     */
+    public long getSimulacionesUltimaJugada() {
+        return busqueda.getSimulacionesUltimaJugada();
+    }
+
+    /**
+     * Devuelve cuántas partidas simuló desde que fue creada.
+     *
+     * @return simulaciones acumuladas
+     */
+    public long getSimulacionesTotales() {
+        return busqueda.getSimulacionesTotales();
+    }
+
+    /**
+     * Calcula la velocidad de simulación alcanzada en todas sus búsquedas.
+     *
+     * @return simulaciones por segundo de reloj
+     */
+    public double getSimulacionesPorSegundo() {
+        return busqueda.getSimulacionesPorSegundo();
+    }
+
+    /**
+     * Enfrenta una CPU Monte Carlo en el asiento 1 contra CPUs simples y
+     * muestra su proporción de victorias y la velocidad de simulación.
+     *
+     * @param args cantidad de CPUs, partidas y milisegundos por jugada
+     *             (opcionales)
+     */
+    public static void main(String[] args) {
+        int cpus = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int partidas = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long milis = args.length > 2 ? Long.parseLong(args[2]) : PRESUPUESTO_POR_DEFECTO_MILIS;
+        Partida partida = new Partida(new SplittableRandom(1));
+        partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+        partida.setHastaUltimoEnPie(true);
+        CPUMonteCarlo monteCarlo = new CPUMonteCarlo("CPU 1", partida, milis, ForkJoinPool.commonPool(),
+                new SplittableRandom(2));
+        partida.setFabricaCPU(nombre -> nombre.equals(monteCarlo.getNombre()) ? monteCarlo : new CPU(nombre));
+        int victorias = 0;
+        for (int i = 0; i < partidas; i++) {
+            partida.iniciar(cpus);
+            if (SimuladorPartidas.jugarHastaTerminar(partida) == 1) {
+                victorias++;
+            }
+        }
+        System.out.printf("Victorias de la CPU Monte Carlo: %d/%d (%.1f%%), %.0f simulaciones/s%n",
+                victorias, partidas, 100.0 * victorias / partidas, monteCarlo.getSimulacionesPorSegundo());
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Estrategia;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estrategia que decide con búsqueda Monte Carlo en árbol. En cada turno
+ * completa al azar las manos rivales y el mazo con las cartas que el jugador
+ * no ha visto, simula partidas completas en paralelo sobre un
+ * {@link ForkJoinPool} y elige la carta más visitada cuando vence el tiempo
+ * asignado a la jugada.
+ *
+ * <p>Guarda estadísticas de velocidad, por lo que cada instancia debe usarse
+ * desde un solo hilo de juego a la vez.</p>
+ */
+public class EstrategiaMonteCarlo implements Estrategia {
+
+    /** Tiempo por jugada usado si no se indica otro. */
+    public static final long PRESUPUESTO_POR_DEFECTO_MILIS = 50;
+
+    private final long presupuestoNanos;
+    private final ForkJoinPool pool;
+    private final SplittableRandom semillas;
+
+    private long simulacionesUltimaJugada;
+    private long simulacionesTotales;
+    private long nanosTotales;
+
+    /**
+     * Crea la estrategia con el tiempo por defecto sobre el pool común.
+     */
+    public EstrategiaMonteCarlo() {
+        this(PRESUPUESTO_POR_DEFECTO_MILIS, ForkJoinPool.commonPool(), new SplittableRandom());
+    }
+
+    /**
+     * Crea la estrategia con un tiempo por jugada y un pool explícitos.
+     *
+     * @param presupuestoMilis milisegundos de búsqueda por jugada
+     * @param pool             pool donde se ejecutan las simulaciones; se usa
+     *                         un árbol por nivel de paralelismo
+     * @param azar             generador del que se derivan los de cada árbol
+     */
+    public EstrategiaMonteCarlo(long presupuestoMilis, ForkJoinPool pool, SplittableRandom azar) {
+        if (presupuestoMilis < 1) {
+            throw new ConfiguracionInvalidaException("El tiempo por jugada debe ser de al menos 1 ms");
+        }
+        this.presupuestoNanos = TimeUnit.MILLISECONDS.toNanos(presupuestoMilis);
+        this.pool = Objects.requireNonNull(pool);
+        this.semillas = Objects.requireNonNull(azar);
+    }
+
+    @Override
+    public int elegir(Partida partida, Jugador jugador, int jugables) {
+        if (Integer.bitCount(jugables) == 1) {
+            simulacionesUltimaJugada = 0;
+            return Integer.numberOfTrailingZeros(jugables);
+        }
+        return buscar(partida, jugador, jugables);
+    }
+
+    /**
+     * Busca hasta agotar el tiempo de la jugada y elige la posición de la mano
+     * cuya carta acumuló más visitas en la raíz.
+     *
+     * @param partida partida en curso
+     * @param jugador jugador que decide
+     * @param mascara posiciones jugables de la mano
+     * @return posición elegida
+     */
+    private int buscar(Partida partida, Jugador jugador, int mascara) {
+        long inicio = System.nanoTime();
+        Observacion observacion = Observacion.de(partida, partida.getJugadores().indexOf(jugador));
+        ArbolMonteCarlo[] arboles = new ArbolMonteCarlo[pool.getParallelism()];
+        for (int i = 0; i < arboles.length; i++) {
+            arboles[i] = new ArbolMonteCarlo(observacion, semillas.split());
+        }
+        pool.invoke(new TareaBusqueda(arboles, 0, arboles.length, inicio + presupuestoNanos));
+
+        long[] visitas = new long[Carta.TOTAL_CARTAS];
+        long simulaciones = 0;
+        for (ArbolMonteCarlo arbol : arboles) {
+            long[] parciales = arbol.visitasPorCarta();
+            for (int i = 0; i < visitas.length; i++) {
+                visitas[i] += parciales[i];
+            }
+            simulaciones += arbol.getSimulaciones();
+        }
+        simulacionesUltimaJugada = simulaciones;
+        simulacionesTotales += simulaciones;
+        nanosTotales += System.nanoTime() - inicio;
+
+        List<Carta> mano = jugador.getMano();
+        int mejor = Integer.numberOfTrailingZeros(mascara);
+        for (int resto = mascara; resto != 0; resto &= resto - 1) {
+            int posicion = Integer.numberOfTrailingZeros(resto);
+            if (visitas[mano.get(posicion).getOrdinal()] > visitas[mano.get(mejor).getOrdinal()]) {
+                mejor = posicion;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Devuelve cuántas partidas simuló para decidir la última jugada.
+     *
+     * @return simulaciones de la última búsqueda, o 0 si la jugada era forzada
+     */
+    public long getSimulacionesUltimaJugada() {
+        return simulacionesUltimaJugada;
+    }
+
+    /**
+     * Devuelve cuántas partidas simuló desde que fue creada.
+     *
+     * @return simulaciones acumuladas
+     */
+    public long getSimulacionesTotales() {
+        return simulacionesTotales;
+    }
+
+    /**
+     * Calcula la velocidad de simulación alcanzada en todas sus búsquedas.
+     *
+     * @return simulaciones por segundo de reloj
+     */
+    public double getSimulacionesPorSegundo() {
+        return nanosTotales == 0 ? 0.0 : simulacionesTotales * 1_000_000_000.0 / nanosTotales;
+    }
+
+    /**
+     * Tarea que reparte los árboles entre los hilos del pool. Todas comparten
+     * el mismo instante límite, así que aunque el pool esté ocupado y las
+     * ejecute una tras otra la jugada no se demora más de lo asignado.
+     */
+    private static final class TareaBusqueda extends RecursiveAction {
+        private final ArbolMonteCarlo[] arboles;
+        private final int desde;
+        private final int hasta;
+        private final long limiteNanos;
+
+        private TareaBusqueda(ArbolMonteCarlo[] arboles, int desde, int hasta, long limiteNanos) {
+            this.arboles = arboles;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.limiteNanos = limiteNanos;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                arboles[desde].buscarHasta(limiteNanos);
+                return;
+            }
+            int medio = (desde + hasta) >>> 1;
+            invokeAll(new TareaBusqueda(arboles, desde, medio, limiteNanos),
+                    new TareaBusqueda(arboles, medio, hasta, limiteNanos));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.Estrategia;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Estrategias simples listas para usar en partidas y torneos.
+ */
+public final class Estrategias {
+
+    private Estrategias() {
+    }
+
+    /**
+     * Juega la primera carta segura de la mano, como {@link
+     * com.example.el_cincuentenazo.modelo.CPU}.
+     *
+     * @return estrategia sin estado
+     */
+    public static Estrategia primeraSegura() {
+        return (partida, jugador, jugables) -> Integer.numberOfTrailingZeros(jugables);
+    }
+
+    /**
+     * Juega una carta segura al azar.
+     *
+     * @param semilla semilla del generador propio de la estrategia
+     * @return estrategia con estado, para un solo hilo
+     */
+    public static Estrategia alAzar(long semilla) {
+        SplittableRandom azar = new SplittableRandom(semilla);
+        return (partida, jugador, jugables) -> {
+            int elegida = azar.nextInt(Integer.bitCount(jugables));
+            for (int i = 0; i < elegida; i++) {
+                jugables &= jugables - 1;
+            }
+            return Integer.numberOfTrailingZeros(jugables);
+        };
+    }
+
+    /**
+     * Juega la carta que deja la suma más baja, guardando margen para los
+     * turnos siguientes.
+     *
+     * @return estrategia sin estado
+     */
+    public static Estrategia menorSuma() {
+        return (partida, jugador, jugables) -> mejorPorValor(jugador.getMano(), partida.getSumaMesa(), jugables, -1);
+    }
+
+    /**
+     * Juega la carta que deja la suma más alta, acercando a los rivales al
+     * límite.
+     *
+     * @return estrategia sin estado
+     */
+    public static Estrategia mayorSuma() {
+        return (partida, jugador, jugables) -> mejorPorValor(jugador.getMano(), partida.getSumaMesa(), jugables, 1);
+    }
+
+    /**
+     * Busca la posición jugable cuyo valor, multiplicado por el signo, es
+     * máximo; ante empates se queda con la primera.
+     */
+    private static int mejorPorValor(List<Carta> mano, int suma, int jugables, int signo) {
+        int mejor = Integer.numberOfTrailingZeros(jugables);
+        int mejorValor = signo * mano.get(mejor).valorParaSuma(suma);
+        for (int resto = jugables & (jugables - 1); resto != 0; resto &= resto - 1) {
+            int posicion = Integer.numberOfTrailingZeros(resto);
+            int valor = signo * mano.get(posicion).valorParaSuma(suma);
+            if (valor > mejorValor) {
+                mejor = posicion;
+                mejorValor = valor;
+            }
+        }
+        return mejor;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lo que un asiento sabe de la partida en el momento de decidir: su propia
+ * mano, la pila de la mesa, la suma, quién sigue activo y cuántas cartas tiene
+ * cada rival. Las manos ajenas y el orden del mazo se desconocen, así que se
+ * completan al azar con las cartas que el asiento todavía no vio.
+ */
+final class Observacion {
+
+    private final SimulacionRapida plantilla;
+    private final int[] noVistas;
+    private final int[] tamanoManoOculta;
+    private final int cartasPorRobar;
+    private final int capacidad;
+
+    private Observacion(SimulacionRapida plantilla, int[] noVistas, int[] tamanoManoOculta, int cartasPorRobar,
+                        int capacidad) {
+        this.plantilla = plantilla;
+        this.noVistas = noVistas;
+        this.tamanoManoOculta = tamanoManoOculta;
+        this.cartasPorRobar = cartasPorRobar;
+        this.capacidad = capacidad;
+    }
+
+    /**
+     * Captura la información visible para un asiento de una partida en curso.
+     *
+     * @param partida partida consultada
+     * @param asiento jugador desde cuyo punto de vista se observa
+     * @return observación lista para generar determinizaciones
+     */
+    static Observacion de(Partida partida, int asiento) {
+        List<Jugador> jugadores = partida.getJugadores();
+        int[] mesa = partida.getOrdinalesEnMesa();
+        int cartasPorRobar = partida.getCartasPorRobar();
+        int barajas = partida.getBarajas();
+        int capacidad = Math.max(Carta.TOTAL_CARTAS * barajas, mesa.length + cartasPorRobar
+                + jugadores.size() * SimulacionRapida.CARTAS_POR_MANO);
+        SimulacionRapida plantilla = new SimulacionRapida(jugadores.size(), capacidad,
+                partida.juegaHastaUltimoEnPie());
+        plantilla.reiniciar(partida.getSumaMesa(), asiento);
+
+        int[] restantes = new int[Carta.TOTAL_CARTAS];
+        Arrays.fill(restantes, barajas);
+        for (Carta carta : jugadores.get(asiento).getMano()) {
+            plantilla.repartir(asiento, carta.getOrdinal());
+            restantes[carta.getOrdinal()]--;
+        }
+        for (int ordinal : mesa) {
+            plantilla.agregarAMesa(ordinal);
+            restantes[ordinal]--;
+        }
+        int[] tamanoManoOculta = new int[jugadores.size()];
+        for (int i = 0; i < jugadores.size(); i++) {
+            Jugador jugador = jugadores.get(i);
+            if (jugador.estaEliminado()) {
+                plantilla.eliminarAsiento(i);
+            } else if (i != asiento) {
+                tamanoManoOculta[i] = jugador.getMano().size();
+            }
+        }
+        int cantidad = 0;
+        for (int restante : restantes) {
+            cantidad += Math.max(0, restante);
+        }
+        int[] noVistas = new int[cantidad];
+        int posicion = 0;
+        for (int ordinal = 0; ordinal < restantes.length; ordinal++) {
+            for (int i = 0; i < restantes[ordinal]; i++) {
+                noVistas[posicion++] = ordinal;
+            }
+        }
+        return new Observacion(plantilla, noVistas, tamanoManoOculta, cartasPorRobar, capacidad);
+    }
+
+    /**
+     * Reparte al azar las cartas no vistas entre las manos ocultas y el mazo,
+     * dejando en el destino un estado completo coherente con lo observado.
+     *
+     * @param destino estado a sobrescribir, con las mismas dimensiones que la
+     *                observación
+     * @param mezcla  arreglo auxiliar de al menos {@link #cantidadNoVistas()}
+     *                posiciones
+     * @param azar    generador del reparto
+     */
+    void determinizar(SimulacionRapida destino, int[] mezcla, RandomGenerator azar) {
+        destino.copiarDe(plantilla);
+        int disponibles = noVistas.length;
+        System.arraycopy(noVistas, 0, mezcla, 0, disponibles);
+        for (int asiento = 0; asiento < tamanoManoOculta.length; asiento++) {
+            for (int i = 0; i < tamanoManoOculta[asiento] && disponibles > 0; i++) {
+                destino.repartir(asiento, extraerAlAzar(mezcla, disponibles--, azar));
+            }
+        }
+        for (int i = 0; i < cartasPorRobar && disponibles > 0; i++) {
+            destino.agregarAlRobo(extraerAlAzar(mezcla, disponibles--, azar));
+        }
+    }
+
+    /**
+     * Crea un estado con las dimensiones de esta observación.
+     *
+     * @return estado reutilizable como destino de {@link #determinizar}
+     */
+    SimulacionRapida nuevoEstado() {
+        SimulacionRapida estado = new SimulacionRapida(plantilla.getJugadores(), capacidad);
+        estado.copiarDe(plantilla);
+        return estado;
+    }
+
+    /**
+     * Indica cuántas cartas no vio el asiento observador.
+     *
+     * @return tamaño del conjunto a repartir
+     */
+    int cantidadNoVistas() {
+        return noVistas.length;
+    }
+
+    /**
+     * Saca una carta al azar de la parte aún no usada del arreglo.
+     *
+     * @param mezcla      cartas pendientes en sus primeras posiciones
+     * @param disponibles cantidad de cartas pendientes
+     * @param azar        generador
+     * @return ordinal extraído
+     */
+    private static int extraerAlAzar(int[] mezcla, int disponibles, RandomGenerator azar) {
+        int elegida = azar.nextInt(disponibles);
+        int ordinal = mezcla[elegida];
+        mezcla[elegida] = mezcla[disponibles - 1];
+        return ordinal;
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.TablaJugadas;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Estado mínimo de una partida pensado para simulaciones masivas: las manos, el
+ * mazo de robo y la mesa son arreglos de ordinales, por lo que avanzar un turno
+ * no crea objetos. Aplica las mismas reglas que
+ * {@link com.example.el_cincuentenazo.modelo.Partida}: cada jugador activo
+ * juega en orden una carta que no haga superar 50 o queda eliminado, la mesa se
+ * recicla cuando el mazo se vacía y la partida termina cuando queda un solo
+ * jugador o, salvo que se juegue hasta el último en pie, cuando el asiento 0
+ * queda eliminado.
+ */
+public final class SimulacionRapida {
+
+    /** Cartas que un jugador mantiene en la mano mientras haya para robar. */
+    public static final int CARTAS_POR_MANO = 4;
+    /** Suma máxima permitida en la mesa. */
+    public static final int LIMITE = 50;
+
+    private final int jugadores;
+    private final int[] manos;
+    private final int[] tamanoMano;
+    private final boolean[] eliminado;
+    private final int[] robo;
+    private final int[] mesa;
+    private int inicioRobo;
+    private int finRobo;
+    private int tamanoMesa;
+    private int activos;
+    private int suma;
+    private int turno;
+    /** Si la partida sigue tras eliminar al asiento 0 hasta que quede uno solo. */
+    private boolean hastaUltimoEnPie;
+
+    /**
+     * Crea un estado vacío que termina al eliminar al asiento 0.
+     *
+     * @param jugadores       asientos en la mesa, incluido el humano
+     * @param capacidadCartas cartas totales que pueden circular entre mazo y
+     *                        mesa
+     */
+    public SimulacionRapida(int jugadores, int capacidadCartas) {
+        this(jugadores, capacidadCartas, false);
+    }
+
+    /**
+     * Crea un estado vacío con la regla de final indicada.
+     *
+     * @param jugadores        asientos en la mesa, incluido el humano
+     * @param capacidadCartas  cartas totales que pueden circular entre mazo y
+     *                         mesa
+     * @param hastaUltimoEnPie {@code true} si la partida sigue tras eliminar al
+     *                         asiento 0
+     */
+    public SimulacionRapida(int jugadores, int capacidadCartas, boolean hastaUltimoEnPie) {
+        this.jugadores = jugadores;
+        this.hastaUltimoEnPie = hastaUltimoEnPie;
+        this.manos = new int[jugadores * CARTAS_POR_MANO];
+        this.tamanoMano = new int[jugadores];
+        this.eliminado = new boolean[jugadores];
+        this.robo = new int[capacidadCartas];
+        this.mesa = new int[capacidadCartas];
+        reiniciar(0, 0);
+    }
+
+    /**
+     * Deja manos, mazo y mesa vacíos con todos los jugadores activos.
+     *
+     * @param suma  suma de la mesa
+     * @param turno asiento que debe jugar
+     */
+    public void reiniciar(int suma, int turno) {
+        Arrays.fill(tamanoMano, 0);
+        Arrays.fill(eliminado, false);
+        inicioRobo = 0;
+        finRobo = 0;
+        tamanoMesa = 0;
+        activos = jugadores;
+        this.suma = suma;
+        this.turno = turno;
+    }
+
+    /**
+     * Copia el estado de otra simulación con las mismas dimensiones, incluida
+     * su regla de final, reutilizando los arreglos de esta.
+     *
+     * @param otra estado de origen
+     */
+    public void copiarDe(SimulacionRapida otra) {
+        System.arraycopy(otra.manos, 0, manos, 0, manos.length);
+        System.arraycopy(otra.tamanoMano, 0, tamanoMano, 0, jugadores);
+        System.arraycopy(otra.eliminado, 0, eliminado, 0, jugadores);
+        inicioRobo = 0;
+        finRobo = otra.finRobo - otra.inicioRobo;
+        System.arraycopy(otra.robo, otra.inicioRobo, robo, 0, finRobo);
+        tamanoMesa = otra.tamanoMesa;
+        System.arraycopy(otra.mesa, 0, mesa, 0, tamanoMesa);
+        activos = otra.activos;
+        suma = otra.suma;
+        turno = otra.turno;
+        hastaUltimoEnPie = otra.hastaUltimoEnPie;
+    }
+
+    /**
+     * Agrega una carta a la mano de un asiento.
+     *
+     * @param asiento jugador que la recibe
+     * @param ordinal ordinal de la carta
+     */
+    public void repartir(int asiento, int ordinal) {
+        manos[asiento * CARTAS_POR_MANO + tamanoMano[asiento]++] = ordinal;
+    }
+
+    /**
+     * Agrega una carta al fondo del mazo de robo.
+     *
+     * @param ordinal ordinal de la carta
+     */
+    public void agregarAlRobo(int ordinal) {
+        robo[finRobo++] = ordinal;
+    }
+
+    /**
+     * Apila una carta sobre la mesa.
+     *
+     * @param ordinal ordinal de la carta
+     */
+    public void agregarAMesa(int ordinal) {
+        mesa[tamanoMesa++] = ordinal;
+    }
+
+    /**
+     * Marca un asiento como eliminado sin consumir turno.
+     *
+     * @param asiento jugador a eliminar
+     */
+    public void eliminarAsiento(int asiento) {
+        if (!eliminado[asiento]) {
+            eliminado[asiento] = true;
+            tamanoMano[asiento] = 0;
+            activos--;
+        }
+    }
+
+    /**
+     * Calcula qué posiciones de la mano del jugador en turno pueden jugarse.
+     *
+     * @return máscara con el bit {@code i} encendido si la carta {@code i} es
+     *         segura
+     */
+    public int jugables() {
+        return TablaJugadas.mascaraMano(manos, turno * CARTAS_POR_MANO, tamanoMano[turno], suma);
+    }
+
+    /**
+     * Juega la carta indicada del jugador en turno, recicla la mesa si el mazo
+     * se vació, repone la mano y pasa el turno.
+     *
+     * @param posicion posición de la carta en la mano
+     * @param azar     generador usado si hay que barajar la mesa reciclada
+     */
+    public void jugar(int posicion, RandomGenerator azar) {
+        int base = turno * CARTAS_POR_MANO;
+        int ordinal = manos[base + posicion];
+        int tamano = --tamanoMano[turno];
+        System.arraycopy(manos, base + posicion + 1, manos, base + posicion, tamano - posicion);
+        suma += valor(ordinal, suma);
+        mesa[tamanoMesa++] = ordinal;
+        if (inicioRobo == finRobo && tamanoMesa > 1) {
+            reciclar(azar);
+        }
+        while (tamanoMano[turno] < CARTAS_POR_MANO && inicioRobo < finRobo) {
+            manos[base + tamanoMano[turno]++] = robo[inicioRobo++];
+        }
+        avanzarTurno();
+    }
+
+    /**
+     * Elimina al jugador en turno por no tener jugadas y pasa el turno.
+     */
+    public void eliminarTurno() {
+        eliminarAsiento(turno);
+        if (!terminada()) {
+            avanzarTurno();
+        }
+    }
+
+    /**
+     * Juega el turno actual con una carta segura elegida al azar, o elimina al
+     * jugador si no tiene ninguna.
+     *
+     * @param azar generador de las decisiones y de los reciclajes
+     */
+    public void jugarAlAzar(RandomGenerator azar) {
+        int mascara = jugables();
+        if (mascara == 0) {
+            eliminarTurno();
+            return;
+        }
+        int elegida = azar.nextInt(Integer.bitCount(mascara));
+        for (int i = 0; i < elegida; i++) {
+            mascara &= mascara - 1;
+        }
+        jugar(Integer.numberOfTrailingZeros(mascara), azar);
+    }
+
+    /**
+     * Completa la partida con jugadas al azar.
+     *
+     * @param azar        generador de las decisiones y de los reciclajes
+     * @param maxJugadas  turnos máximos antes de abandonar la simulación
+     * @return asiento ganador o {@code -1} si se alcanzó el máximo
+     */
+    public int completarAlAzar(RandomGenerator azar, int maxJugadas) {
+        for (int i = 0; i < maxJugadas && !terminada(); i++) {
+            jugarAlAzar(azar);
+        }
+        return ganador();
+    }
+
+    /**
+     * Indica si la partida terminó.
+     *
+     * @return {@code true} cuando queda un jugador o el asiento 0 fue
+     *         eliminado, salvo que se juegue hasta el último en pie
+     */
+    public boolean terminada() {
+        return activos <= 1 || !hastaUltimoEnPie && eliminado[0];
+    }
+
+    /**
+     * Devuelve el ganador de una partida terminada.
+     *
+     * @return primer asiento activo, o {@code -1} si la partida sigue o nadie
+     *         quedó en pie
+     */
+    public int ganador() {
+        if (!terminada()) {
+            return -1;
+        }
+        for (int i = 0; i < jugadores; i++) {
+            if (!eliminado[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Devuelve el asiento que debe jugar.
+     *
+     * @return índice del jugador en turno
+     */
+    public int getTurno() {
+        return turno;
+    }
+
+    /**
+     * Devuelve la suma de la mesa.
+     *
+     * @return valor acumulado
+     */
+    public int getSuma() {
+        return suma;
+    }
+
+    /**
+     * Devuelve cuántos asientos tiene la mesa.
+     *
+     * @return cantidad de jugadores
+     */
+    public int getJugadores() {
+        return jugadores;
+    }
+
+    /**
+     * Consulta una carta de la mano de un asiento.
+     *
+     * @param asiento  jugador consultado
+     * @param posicion posición dentro de su mano
+     * @return ordinal de la carta
+     */
+    public int carta(int asiento, int posicion) {
+        return manos[asiento * CARTAS_POR_MANO + posicion];
+    }
+
+    /**
+     * Indica cuántas cartas tiene un asiento.
+     *
+     * @param asiento jugador consultado
+     * @return tamaño de su mano
+     */
+    public int tamanoMano(int asiento) {
+        return tamanoMano[asiento];
+    }
+
+    /**
+     * Indica si un asiento quedó eliminado.
+     *
+     * @param asiento jugador consultado
+     * @return {@code true} si ya no participa
+     */
+    public boolean estaEliminado(int asiento) {
+        return eliminado[asiento];
+    }
+
+    /**
+     * Calcula cuánto suma una carta dada la suma actual de la mesa.
+     *
+     * @param ordinal ordinal de la carta
+     * @param suma    suma de la mesa antes de jugarla
+     * @return valor que aporta la carta
+     */
+    public static int valor(int ordinal, int suma) {
+        return TablaJugadas.aporte(ordinal, suma);
+    }
+
+    /**
+     * Pasa al mazo todas las cartas de la mesa salvo la visible y las baraja.
+     *
+     * @param azar generador de la mezcla
+     */
+    private void reciclar(RandomGenerator azar) {
+        int cantidad = tamanoMesa - 1;
+        System.arraycopy(mesa, 0, robo, 0, cantidad);
+        mesa[0] = mesa[cantidad];
+        tamanoMesa = 1;
+        inicioRobo = 0;
+        finRobo = cantidad;
+        for (int i = cantidad - 1; i > 0; i--) {
+            int j = azar.nextInt(i + 1);
+            int temporal = robo[i];
+            robo[i] = robo[j];
+            robo[j] = temporal;
+        }
+    }
+
+    /**
+     * Pasa el turno al siguiente asiento activo.
+     */
+    private void avanzarTurno() {
+        do {
+            turno = turno + 1 == jugadores ? 0 : turno + 1;
+        } while (eliminado[turno]);
+    }
+}
@@ -0,0 +1,711 @@
+package com.example.el_cincuentenazo.ia;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Resuelve posiciones de final de partida con información completa: conoce
+ * todas las manos, la suma, la pila de la mesa y quién está eliminado. El mazo
+ * de robo se toma en su orden real o, si se pide, como un conjunto de cartas de
+ * orden desconocido; en ese caso cada robo es un nodo de azar y el valor es la
+ * esperanza sobre todas las cartas posibles. Tras un reciclaje el mazo siempre
+ * pasa a ser de orden desconocido.
+ *
+ * <p>La búsqueda es alfa-beta paranoide: el asiento que decide maximiza su
+ * probabilidad de ganar y los demás juegan en su contra. Las posiciones se
+ * identifican con claves Zobrist aditivas, de modo que las mismas manos
+ * alcanzadas en otro orden comparten entrada en una tabla de transposición de
+ * tamaño fijo con cubetas de dos entradas: una conserva la búsqueda más
+ * profunda y la otra siempre se reemplaza. Como el palo no influye y las
+ * figuras valen lo mismo, la búsqueda trabaja con once clases de carta en
+ * lugar de cincuenta y dos, lo que reduce los nodos de azar y multiplica las
+ * transposiciones.</p>
+ *
+ * <p>Una instancia no es segura entre hilos.</p>
+ */
+public class SolucionadorFinal {
+
+    /** Entradas de la tabla de transposición, como potencia de dos, por defecto. */
+    public static final int BITS_TABLA_POR_DEFECTO = 20;
+    /** Turnos máximos explorados por defecto antes de estimar la posición. */
+    public static final int PROFUNDIDAD_POR_DEFECTO = 24;
+    /** Nodos por búsqueda por defecto, del orden de un segundo de cálculo. */
+    public static final long LIMITE_NODOS_POR_DEFECTO = 20_000_000L;
+    /** Asientos máximos que admite el solucionador. */
+    public static final int MAX_ASIENTOS = 128;
+
+    /**
+     * Clases de carta que se comportan igual en el juego: del as al diez por
+     * separado y las figuras juntas, ya que el palo nunca influye.
+     */
+    private static final int CLASES = 11;
+    private static final int[] CLASE_DE_ORDINAL = new int[Carta.TOTAL_CARTAS];
+    private static final int[] REPRESENTANTE = new int[CLASES];
+    private static final int MANO = SimulacionRapida.CARTAS_POR_MANO;
+    private static final int EXACTO = 0;
+    private static final int COTA_INFERIOR = 1;
+    private static final int COTA_SUPERIOR = 2;
+    /** Profundidad guardada para valores que no dependen del horizonte. */
+    private static final int SIN_HORIZONTE = 0xFFFF;
+
+    private static final long[] CLAVE_MANO = new long[MAX_ASIENTOS * CLASES];
+    private static final long[] CLAVE_MESA = new long[CLASES];
+    private static final long[] CLAVE_TOPE = new long[CLASES];
+    private static final long[] CLAVE_ROBO = new long[CLASES];
+    private static final long[] CLAVE_ELIMINADO = new long[MAX_ASIENTOS];
+    private static final long[] CLAVE_TURNO = new long[MAX_ASIENTOS];
+    private static final long[] CLAVE_RAIZ = new long[MAX_ASIENTOS];
+    /** Separa en la tabla las posiciones de partidas hasta el último en pie. */
+    private static final long CLAVE_HASTA_ULTIMO_EN_PIE;
+
+    static {
+        for (int ordinal = Carta.TOTAL_CARTAS - 1; ordinal >= 0; ordinal--) {
+            int clase = Math.min(Carta.de(ordinal).getRango(), CLASES) - 1;
+            CLASE_DE_ORDINAL[ordinal] = clase;
+            REPRESENTANTE[clase] = ordinal;
+        }
+        SplittableRandom azar = new SplittableRandom(0x50C1_C50L);
+        for (long[] tabla : new long[][]{CLAVE_MANO, CLAVE_MESA, CLAVE_TOPE, CLAVE_ROBO,
+                CLAVE_ELIMINADO, CLAVE_TURNO, CLAVE_RAIZ}) {
+            for (int i = 0; i < tabla.length; i++) {
+                tabla[i] = azar.nextLong();
+            }
+        }
+        CLAVE_HASTA_ULTIMO_EN_PIE = azar.nextLong();
+    }
+
+    private final long[] claves;
+    private final double[] valores;
+    private final int[] datos;
+    private final int desplazamiento;
+    private final int profundidadMaxima;
+    private final long limiteNodos;
+
+    private int jugadores;
+    private int raiz;
+    private int turno;
+    private int suma;
+    private int activos;
+    private int[] manos = new int[0];
+    private int[] tamanoMano = new int[0];
+    private boolean[] eliminado = new boolean[0];
+    private int[] roboConocido = new int[0];
+    private int cursorRobo;
+    private boolean roboEnOrden;
+    /** Si la partida cargada sigue tras eliminar al asiento 0. */
+    private boolean hastaUltimoEnPie;
+    private long claveSecuencia;
+    private final int[] conteoRobo = new int[CLASES];
+    private int totalRobo;
+    private final int[] conteoMesa = new int[CLASES];
+    private int cuerpoMesa;
+    private int tope;
+    private long claveCartas;
+    private boolean horizonte;
+    private boolean abortada;
+
+    private long nodos;
+    private long consultas;
+    private long aciertos;
+
+    /**
+     * Crea un solucionador con la tabla, la profundidad y el límite de nodos
+     * por defecto.
+     */
+    public SolucionadorFinal() {
+        this(BITS_TABLA_POR_DEFECTO, PROFUNDIDAD_POR_DEFECTO, LIMITE_NODOS_POR_DEFECTO);
+    }
+
+    /**
+     * Crea un solucionador con una tabla de {@code 2^bitsTabla} entradas.
+     *
+     * @param bitsTabla         logaritmo en base dos del tamaño de la tabla
+     *                          (1 a 28)
+     * @param profundidadMaxima turnos explorados antes de estimar la posición
+     * @param limiteNodos       nodos a partir de los cuales se abandona la
+     *                          iteración en curso
+     */
+    public SolucionadorFinal(int bitsTabla, int profundidadMaxima, long limiteNodos) {
+        if (bitsTabla < 1 || bitsTabla > 28) {
+            throw new ConfiguracionInvalidaException("El tamaño de la tabla debe estar entre 2^1 y 2^28");
+        }
+        if (profundidadMaxima < 1 || profundidadMaxima >= SIN_HORIZONTE) {
+            throw new ConfiguracionInvalidaException("La profundidad máxima debe ser positiva");
+        }
+        if (limiteNodos < 1) {
+            throw new ConfiguracionInvalidaException("El límite de nodos debe ser positivo");
+        }
+        this.claves = new long[1 << bitsTabla];
+        this.valores = new double[1 << bitsTabla];
+        this.datos = new int[1 << bitsTabla];
+        this.desplazamiento = 64 - bitsTabla;
+        this.profundidadMaxima = profundidadMaxima;
+        this.limiteNodos = limiteNodos;
+    }
+
+    /**
+     * Busca la mejor carta del asiento en turno usando el orden real del mazo
+     * de robo.
+     *
+     * @param partida partida en curso
+     * @return resultado de la búsqueda
+     */
+    public Resultado resolver(Partida partida) {
+        return resolver(partida, true);
+    }
+
+    /**
+     * Busca la mejor carta del asiento en turno profundizando de a un turno
+     * hasta obtener un valor exacto, llegar a la profundidad máxima o agotar
+     * el límite de nodos. Devuelve la última iteración completa.
+     *
+     * @param partida             partida en curso
+     * @param ordenDeRoboConocido {@code true} para usar el orden real del mazo
+     *                            de robo; {@code false} para promediar sobre
+     *                            todos los órdenes posibles
+     * @return resultado de la búsqueda
+     */
+    public Resultado resolver(Partida partida, boolean ordenDeRoboConocido) {
+        cargar(partida, ordenDeRoboConocido);
+        long inicio = System.nanoTime();
+        nodos = 0;
+        consultas = 0;
+        aciertos = 0;
+        int mascara = jugables();
+        int mejorPosicion = mascara == 0 ? -1 : Integer.numberOfTrailingZeros(mascara);
+        double mejorValor = 0.0;
+        boolean exacto = mascara == 0;
+        int profundidadAlcanzada = 0;
+        for (int profundidad = 1; profundidad <= profundidadMaxima && !exacto; profundidad++) {
+            horizonte = false;
+            abortada = false;
+            int posicion = -1;
+            double alfa = -1.0;
+            int base = turno * MANO;
+            for (int resto = mascara; resto != 0 && !abortada; resto &= resto - 1) {
+                int candidata = Integer.numberOfTrailingZeros(resto);
+                if (repetida(base, candidata, mascara)) {
+                    continue;
+                }
+                double valor = jugar(candidata, profundidad, Math.max(alfa, 0.0), 1.0);
+                if (valor > alfa) {
+                    alfa = valor;
+                    posicion = candidata;
+                }
+            }
+            if (abortada) {
+                break;
+            }
+            mejorPosicion = posicion;
+            mejorValor = alfa;
+            exacto = !horizonte;
+            profundidadAlcanzada = profundidad;
+        }
+        Carta mejorCarta = mejorPosicion < 0 ? null
+                : partida.getJugadores().get(raiz).getMano().get(mejorPosicion);
+        return new Resultado(mejorCarta, mejorValor, exacto, profundidadAlcanzada,
+                nodos, consultas, aciertos, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Copia la posición de la partida en las estructuras internas.
+     */
+    private void cargar(Partida partida, boolean ordenDeRoboConocido) {
+        List<Jugador> lista = partida.getJugadores();
+        jugadores = lista.size();
+        if (jugadores > MAX_ASIENTOS) {
+            throw new ConfiguracionInvalidaException("El solucionador admite hasta " + MAX_ASIENTOS + " asientos");
+        }
+        if (manos.length < jugadores * MANO) {
+            manos = new int[jugadores * MANO];
+            tamanoMano = new int[jugadores];
+            eliminado = new boolean[jugadores];
+        }
+        raiz = partida.getTurnoActual();
+        turno = raiz;
+        suma = partida.getSumaMesa();
+        activos = 0;
+        hastaUltimoEnPie = partida.juegaHastaUltimoEnPie();
+        claveCartas = hastaUltimoEnPie ? CLAVE_HASTA_ULTIMO_EN_PIE : 0L;
+        for (int asiento = 0; asiento < jugadores; asiento++) {
+            Jugador jugador = lista.get(asiento);
+            eliminado[asiento] = jugador.estaEliminado();
+            tamanoMano[asiento] = 0;
+            if (eliminado[asiento]) {
+                claveCartas += CLAVE_ELIMINADO[asiento];
+                continue;
+            }
+            activos++;
+            for (Carta carta : jugador.getMano()) {
+                int clase = CLASE_DE_ORDINAL[carta.getOrdinal()];
+                manos[asiento * MANO + tamanoMano[asiento]++] = clase;
+                claveCartas += CLAVE_MANO[asiento * CLASES + clase];
+            }
+        }
+        Arrays.fill(conteoMesa, 0);
+        cuerpoMesa = 0;
+        int[] mesa = clasesDe(partida.getOrdinalesEnMesa());
+        tope = mesa.length == 0 ? -1 : mesa[mesa.length - 1];
+        if (tope >= 0) {
+            claveCartas += CLAVE_TOPE[tope];
+        }
+        for (int i = 0; i < mesa.length - 1; i++) {
+            conteoMesa[mesa[i]]++;
+            cuerpoMesa++;
+            claveCartas += CLAVE_MESA[mesa[i]];
+        }
+        Arrays.fill(conteoRobo, 0);
+        totalRobo = 0;
+        int[] robo = clasesDe(partida.getOrdinalesPorRobar());
+        roboEnOrden = ordenDeRoboConocido;
+        cursorRobo = 0;
+        claveSecuencia = 0L;
+        if (roboEnOrden) {
+            roboConocido = robo;
+            for (int clase : robo) {
+                claveSecuencia = mezclar(claveSecuencia * 31 + clase + 1);
+            }
+        } else {
+            roboConocido = new int[0];
+            for (int clase : robo) {
+                conteoRobo[clase]++;
+                claveCartas += CLAVE_ROBO[clase];
+            }
+            totalRobo = robo.length;
+        }
+    }
+
+    private static int[] clasesDe(int[] ordinales) {
+        int[] clases = new int[ordinales.length];
+        for (int i = 0; i < ordinales.length; i++) {
+            clases[i] = CLASE_DE_ORDINAL[ordinales[i]];
+        }
+        return clases;
+    }
+
+    /**
+     * Valor de la posición para el asiento raíz con el turno del jugador
+     * actual.
+     */
+    private double buscar(int profundidad, double alfa, double beta) {
+        if (abortada || ++nodos > limiteNodos) {
+            abortada = true;
+            return 0.0;
+        }
+        if (terminada()) {
+            return ganador() == raiz ? 1.0 : 0.0;
+        }
+        if (profundidad == 0) {
+            horizonte = true;
+            return eliminado[raiz] ? 0.0 : 1.0 / activos;
+        }
+        int mascara = jugables();
+        if (mascara == 0) {
+            return eliminarTurno(profundidad, alfa, beta);
+        }
+        long clave = clave();
+        int indice = (int) (clave >>> desplazamiento) & ~1;
+        consultas++;
+        for (int i = indice; i < indice + 2; i++) {
+            if (claves[i] != clave || profundidadDe(datos[i]) < profundidad) {
+                continue;
+            }
+            double guardado = valores[i];
+            int tipo = datos[i] >>> 16;
+            if (tipo == EXACTO
+                    || (tipo == COTA_INFERIOR && guardado >= beta)
+                    || (tipo == COTA_SUPERIOR && guardado <= alfa)) {
+                aciertos++;
+                horizonte |= profundidadDe(datos[i]) != SIN_HORIZONTE;
+                return guardado;
+            }
+            break;
+        }
+
+        boolean horizontePrevio = horizonte;
+        horizonte = false;
+        boolean maximiza = turno == raiz;
+        double alfaInicial = alfa;
+        double betaInicial = beta;
+        double mejor = maximiza ? -1.0 : 2.0;
+        int base = turno * MANO;
+        for (int resto = mascara; resto != 0; resto &= resto - 1) {
+            int posicion = Integer.numberOfTrailingZeros(resto);
+            if (repetida(base, posicion, mascara)) {
+                continue;
+            }
+            double valor = jugar(posicion, profundidad, alfa, beta);
+            if (maximiza) {
+                mejor = Math.max(mejor, valor);
+                alfa = Math.max(alfa, valor);
+            } else {
+                mejor = Math.min(mejor, valor);
+                beta = Math.min(beta, valor);
+            }
+            if (alfa >= beta || abortada) {
+                break;
+            }
+        }
+        int tipo = mejor <= alfaInicial ? COTA_SUPERIOR : mejor >= betaInicial ? COTA_INFERIOR : EXACTO;
+        if (!abortada) {
+            guardar(clave, indice, horizonte ? profundidad : SIN_HORIZONTE, tipo, mejor);
+        }
+        horizonte |= horizontePrevio;
+        return mejor;
+    }
+
+    /**
+     * Elimina al jugador en turno, que no tiene jugadas, y sigue la búsqueda.
+     */
+    private double eliminarTurno(int profundidad, double alfa, double beta) {
+        int asiento = turno;
+        int tamano = tamanoMano[asiento];
+        long clavePrevia = claveCartas;
+        for (int i = 0; i < tamano; i++) {
+            claveCartas -= CLAVE_MANO[asiento * CLASES + manos[asiento * MANO + i]];
+        }
+        claveCartas += CLAVE_ELIMINADO[asiento];
+        tamanoMano[asiento] = 0;
+        eliminado[asiento] = true;
+        activos--;
+        double valor = continuar(profundidad, alfa, beta);
+        activos++;
+        eliminado[asiento] = false;
+        tamanoMano[asiento] = tamano;
+        claveCartas = clavePrevia;
+        return valor;
+    }
+
+    /**
+     * Juega una carta del jugador en turno, recicla y roba si corresponde y
+     * devuelve el valor resultante, dejando la posición como estaba.
+     */
+    private double jugar(int posicion, int profundidad, double alfa, double beta) {
+        int asiento = turno;
+        int base = asiento * MANO;
+        int tamano = tamanoMano[asiento];
+        int carta = manos[base + posicion];
+        long clavePrevia = claveCartas;
+        int sumaPrevia = suma;
+        int topePrevio = tope;
+        int cursorPrevio = cursorRobo;
+        boolean ordenPrevio = roboEnOrden;
+
+        manos[base + posicion] = manos[base + tamano - 1];
+        tamanoMano[asiento] = tamano - 1;
+        claveCartas += CLAVE_TOPE[carta] - CLAVE_MANO[asiento * CLASES + carta];
+        suma += SimulacionRapida.valor(REPRESENTANTE[carta], suma);
+        if (topePrevio >= 0) {
+            conteoMesa[topePrevio]++;
+            cuerpoMesa++;
+            claveCartas += CLAVE_MESA[topePrevio] - CLAVE_TOPE[topePrevio];
+        }
+        tope = carta;
+        boolean reciclada = roboVacio() && cuerpoMesa > 0;
+        if (reciclada) {
+            reciclar();
+        }
+
+        double valor;
+        if (tamanoMano[asiento] < MANO && !roboVacio()) {
+            if (roboEnOrden) {
+                int robada = roboConocido[cursorRobo++];
+                manos[base + tamanoMano[asiento]++] = robada;
+                claveCartas += CLAVE_MANO[asiento * CLASES + robada];
+                valor = continuar(profundidad, alfa, beta);
+                tamanoMano[asiento]--;
+            } else {
+                valor = robarAlAzar(profundidad);
+            }
+        } else {
+            valor = continuar(profundidad, alfa, beta);
+        }
+
+        if (reciclada) {
+            deshacerReciclaje();
+        }
+        if (topePrevio >= 0) {
+            conteoMesa[topePrevio]--;
+            cuerpoMesa--;
+        }
+        tope = topePrevio;
+        suma = sumaPrevia;
+        cursorRobo = cursorPrevio;
+        roboEnOrden = ordenPrevio;
+        claveCartas = clavePrevia;
+        manos[base + tamano - 1] = manos[base + posicion];
+        manos[base + posicion] = carta;
+        tamanoMano[asiento] = tamano;
+        return valor;
+    }
+
+    /**
+     * Nodo de azar: el jugador en turno roba una carta de un mazo de orden
+     * desconocido, con probabilidad proporcional a las copias de cada carta.
+     */
+    private double robarAlAzar(int profundidad) {
+        int asiento = turno;
+        int ranura = asiento * MANO + tamanoMano[asiento];
+        int total = totalRobo;
+        double acumulado = 0.0;
+        tamanoMano[asiento]++;
+        totalRobo--;
+        for (int clase = 0; clase < CLASES; clase++) {
+            int copias = conteoRobo[clase];
+            if (copias == 0) {
+                continue;
+            }
+            long diferencia = CLAVE_MANO[asiento * CLASES + clase] - CLAVE_ROBO[clase];
+            conteoRobo[clase]--;
+            manos[ranura] = clase;
+            claveCartas += diferencia;
+            acumulado += copias * continuar(profundidad, 0.0, 1.0);
+            claveCartas -= diferencia;
+            conteoRobo[clase]++;
+        }
+        totalRobo++;
+        tamanoMano[asiento]--;
+        return acumulado / total;
+    }
+
+    /**
+     * Pasa el turno al siguiente asiento activo y busca desde allí.
+     */
+    private double continuar(int profundidad, double alfa, double beta) {
+        int asiento = turno;
+        if (!terminada()) {
+            do {
+                turno = turno + 1 == jugadores ? 0 : turno + 1;
+            } while (eliminado[turno]);
+        }
+        double valor = buscar(profundidad - 1, alfa, beta);
+        turno = asiento;
+        return valor;
+    }
+
+    /**
+     * Pasa el cuerpo de la mesa al mazo, que desde entonces tiene orden
+     * desconocido.
+     */
+    private void reciclar() {
+        for (int clase = 0; clase < CLASES; clase++) {
+            int copias = conteoMesa[clase];
+            conteoRobo[clase] = copias;
+            conteoMesa[clase] = 0;
+            claveCartas += copias * (CLAVE_ROBO[clase] - CLAVE_MESA[clase]);
+        }
+        totalRobo = cuerpoMesa;
+        cuerpoMesa = 0;
+        roboEnOrden = false;
+    }
+
+    /**
+     * Devuelve al cuerpo de la mesa las cartas recicladas. La clave la
+     * restaura quien llamó.
+     */
+    private void deshacerReciclaje() {
+        for (int clase = 0; clase < CLASES; clase++) {
+            conteoMesa[clase] = conteoRobo[clase];
+            conteoRobo[clase] = 0;
+        }
+        cuerpoMesa = totalRobo;
+        totalRobo = 0;
+    }
+
+    private boolean roboVacio() {
+        return roboEnOrden ? cursorRobo == roboConocido.length : totalRobo == 0;
+    }
+
+    private int jugables() {
+        int base = turno * MANO;
+        int mascara = 0;
+        for (int i = 0; i < tamanoMano[turno]; i++) {
+            if (suma + SimulacionRapida.valor(REPRESENTANTE[manos[base + i]], suma) <= SimulacionRapida.LIMITE) {
+                mascara |= 1 << i;
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Indica si una posición jugable repite la carta de otra anterior, que ya
+     * se exploró.
+     */
+    private boolean repetida(int base, int posicion, int mascara) {
+        for (int resto = mascara & ((1 << posicion) - 1); resto != 0; resto &= resto - 1) {
+            if (manos[base + Integer.numberOfTrailingZeros(resto)] == manos[base + posicion]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean terminada() {
+        return activos <= 1 || !hastaUltimoEnPie && eliminado[0];
+    }
+
+    private int ganador() {
+        for (int i = 0; i < jugadores; i++) {
+            if (!eliminado[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long clave() {
+        long clave = claveCartas + CLAVE_TURNO[turno] + CLAVE_RAIZ[raiz] + mezclar(suma);
+        if (roboEnOrden) {
+            clave += mezclar(claveSecuencia + cursorRobo);
+        }
+        return clave;
+    }
+
+    /**
+     * Guarda un valor en la cubeta: la primera entrada solo se reemplaza por
+     * búsquedas al menos igual de profundas; si no, se usa la segunda.
+     */
+    private void guardar(long clave, int indice, int profundidad, int tipo, double valor) {
+        int destino = claves[indice] == clave || profundidad >= profundidadDe(datos[indice]) ? indice : indice + 1;
+        claves[destino] = clave;
+        valores[destino] = valor;
+        datos[destino] = tipo << 16 | profundidad;
+    }
+
+    private static int profundidadDe(int dato) {
+        return dato & 0xFFFF;
+    }
+
+    private static long mezclar(long valor) {
+        long z = valor * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Vacía la tabla de transposición.
+     */
+    public void limpiarTabla() {
+        Arrays.fill(claves, 0L);
+        Arrays.fill(datos, 0);
+    }
+
+    /**
+     * Resultado de una búsqueda con sus estadísticas.
+     */
+    public static class Resultado {
+        private final Carta mejorCarta;
+        private final double valor;
+        private final boolean exacto;
+        private final int profundidad;
+        private final long nodos;
+        private final long consultas;
+        private final long aciertos;
+        private final long duracionNanos;
+
+        /**
+         * Crea el resultado.
+         *
+         * @param mejorCarta    carta elegida o {@code null} si no había jugadas
+         * @param valor         probabilidad de ganar con juego perfecto
+         * @param exacto        {@code true} si ninguna rama se cortó por
+         *                      profundidad
+         * @param profundidad   turnos explorados en la última iteración
+         *                      completa
+         * @param nodos         posiciones visitadas
+         * @param consultas     consultas a la tabla de transposición
+         * @param aciertos      consultas que encontraron una entrada útil
+         * @param duracionNanos tiempo de búsqueda
+         */
+        public Resultado(Carta mejorCarta, double valor, boolean exacto, int profundidad, long nodos,
+                         long consultas, long aciertos, long duracionNanos) {
+            this.mejorCarta = mejorCarta;
+            this.valor = valor;
+            this.exacto = exacto;
+            this.profundidad = profundidad;
+            this.nodos = nodos;
+            this.consultas = consultas;
+            this.aciertos = aciertos;
+            this.duracionNanos = duracionNanos;
+        }
+
+        /**
+         * Devuelve la mejor carta para el asiento en turno.
+         *
+         * @return carta canónica o {@code null} si no había jugadas
+         */
+        public Carta getMejorCarta() {
+            return mejorCarta;
+        }
+
+        /**
+         * Devuelve la probabilidad de ganar del asiento en turno si juega la
+         * mejor carta y los rivales juegan en su contra.
+         *
+         * @return valor entre 0 y 1
+         */
+        public double getValor() {
+            return valor;
+        }
+
+        /**
+         * Indica si el valor es exacto o se estimó en alguna rama al llegar a
+         * la profundidad máxima.
+         *
+         * @return {@code true} si la búsqueda llegó al final en todas las ramas
+         */
+        public boolean esExacto() {
+            return exacto;
+        }
+
+        /**
+         * Devuelve hasta cuántos turnos llegó la última iteración completa.
+         *
+         * @return profundidad alcanzada
+         */
+        public int getProfundidad() {
+            return profundidad;
+        }
+
+        /**
+         * Devuelve cuántas posiciones se visitaron.
+         *
+         * @return nodos de la búsqueda
+         */
+        public long getNodos() {
+            return nodos;
+        }
+
+        /**
+         * Calcula la velocidad de la búsqueda.
+         *
+         * @return nodos por segundo
+         */
+        public double getNodosPorSegundo() {
+            return duracionNanos == 0 ? 0.0 : nodos * 1_000_000_000.0 / duracionNanos;
+        }
+
+        /**
+         * Calcula la proporción de consultas resueltas con la tabla.
+         *
+         * @return aciertos sobre consultas, entre 0 y 1
+         */
+        public double getTasaAciertos() {
+            return consultas == 0 ? 0.0 : (double) aciertos / consultas;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Mejor carta: %s, valor: %.4f%s, profundidad %d, %d nodos (%.0f nodos/s), "
+                    + "aciertos: %.1f%%", mejorCarta, valor, exacto ? "" : " (estimado)", profundidad, nodos,
+                    getNodosPorSegundo(),
+                    100.0 * getTasaAciertos());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.el_cincuentenazo.mesas;
+
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Anfitrión que aloja muchas mesas en el mismo proceso. Cada mesa tiene su
+ * propia {@link Partida} confinada a un buzón de comandos, y todas se reparten
+ * un pool pequeño de hilos de trabajo. Las operaciones devuelven futuros que
+ * se completan cuando la mesa procesa el comando; los errores de juego llegan
+ * como excepciones del futuro.
+ */
+public class AnfitrionMesas implements AutoCloseable {
+
+    /** Eventos recientes que conserva cada mesa. */
+    private static final int CAPACIDAD_HISTORIAL = 64;
+
+    private final ForkJoinPool trabajadores;
+    private final Map<Long, Mesa> mesas;
+    private final AtomicLong siguienteId;
+
+    /**
+     * Crea un anfitrión con un hilo de trabajo por núcleo.
+     */
+    public AnfitrionMesas() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un anfitrión con la cantidad de hilos de trabajo indicada.
+     *
+     * @param hilos hilos que se reparten todas las mesas
+     */
+    public AnfitrionMesas(int hilos) {
+        if (hilos < 1) {
+            throw new ConfiguracionInvalidaException("El anfitrión necesita al menos un hilo");
+        }
+        this.trabajadores = new ForkJoinPool(hilos, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.mesas = new ConcurrentHashMap<>();
+        this.siguienteId = new AtomicLong();
+    }
+
+    /**
+     * Abre una mesa nueva con el asiento humano libre.
+     *
+     * @param cantidadCPUs rivales automáticos (1 a {@link Partida#MAX_CPUS})
+     * @param semilla      semilla del barajado
+     * @return identificador de la mesa
+     */
+    public long crearMesa(int cantidadCPUs, long semilla) {
+        if (cantidadCPUs < 1 || cantidadCPUs > Partida.MAX_CPUS) {
+            throw new ConfiguracionInvalidaException("La cantidad de CPUs debe estar entre 1 y " + Partida.MAX_CPUS);
+        }
+        long id = siguienteId.incrementAndGet();
+        Partida partida = new Partida();
+        Mesa mesa = new Mesa(id, partida, trabajadores);
+        mesas.put(id, mesa);
+        mesa.enviar(() -> {
+            partida.configurarHistorial(RegistroEventos.Modo.ACOTADO, CAPACIDAD_HISTORIAL);
+            partida.iniciar(cantidadCPUs, semilla);
+            return null;
+        });
+        return id;
+    }
+
+    /**
+     * Sienta a un jugador en el asiento humano de una mesa.
+     *
+     * @param id      mesa elegida
+     * @param jugador nombre del jugador
+     * @return futuro con el estado de la mesa tras sentarse
+     */
+    public CompletableFuture<EstadoMesa> unirse(long id, String jugador) {
+        Objects.requireNonNull(jugador);
+        return enviar(id, mesa -> {
+            if (mesa.getJugador() != null && !mesa.getJugador().equals(jugador)) {
+                throw new ConfiguracionInvalidaException("La mesa " + id + " ya tiene jugador");
+            }
+            mesa.setJugador(jugador);
+            return EstadoMesa.de(mesa);
+        });
+    }
+
+    /**
+     * Juega la carta en la posición indicada de la mano y luego los turnos de
+     * las CPUs. Si después el jugador se queda sin jugadas, queda eliminado.
+     *
+     * @param id       mesa en la que juega
+     * @param jugador  jugador sentado en la mesa
+     * @param posicion posición de la carta en la mano
+     * @return futuro con el estado tras la ronda; falla con
+     *         {@link JugadaInvalidaException} si la jugada no es posible
+     */
+    public CompletableFuture<EstadoMesa> jugar(long id, String jugador, int posicion) {
+        return enviar(id, mesa -> {
+            if (!Objects.equals(mesa.getJugador(), jugador)) {
+                throw new ConfiguracionInvalidaException(jugador + " no está sentado en la mesa " + id);
+            }
+            Partida partida = mesa.getPartida();
+            if (posicion < 0 || posicion >= partida.getJugadorHumano().getMano().size()) {
+                throw new JugadaInvalidaException("No hay carta en la posición " + posicion);
+            }
+            partida.jugarTurnoHumano(partida.getJugadorHumano().getMano().get(posicion));
+            partida.jugarTurnoCPU();
+            if (!partida.estaTerminada() && !partida.humanoTieneJugada()) {
+                partida.eliminarHumanoPorFaltaDeJugadas();
+            }
+            return EstadoMesa.de(mesa);
+        });
+    }
+
+    /**
+     * Consulta el estado de una mesa sin modificarla.
+     *
+     * @param id mesa a consultar
+     * @return futuro con el estado actual
+     */
+    public CompletableFuture<EstadoMesa> consultar(long id) {
+        return enviar(id, EstadoMesa::de);
+    }
+
+    /**
+     * Cierra una mesa. Los comandos ya encolados se procesan antes del cierre
+     * y los posteriores fallan.
+     *
+     * @param id mesa a cerrar
+     * @return futuro que se completa cuando la mesa quedó cerrada
+     */
+    public CompletableFuture<Void> cerrarMesa(long id) {
+        Mesa mesa = mesas.remove(id);
+        if (mesa == null) {
+            return CompletableFuture.failedFuture(mesaInexistente(id));
+        }
+        return mesa.enviar(() -> {
+            mesa.cerrar();
+            return null;
+        });
+    }
+
+    /**
+     * Devuelve cuántas mesas siguen abiertas.
+     *
+     * @return mesas abiertas
+     */
+    public int getMesasAbiertas() {
+        return mesas.size();
+    }
+
+    /**
+     * Detiene los hilos de trabajo. Los comandos pendientes se descartan.
+     */
+    @Override
+    public void close() {
+        mesas.clear();
+        trabajadores.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> enviar(long id, ComandoMesa<T> comando) {
+        Mesa mesa = mesas.get(id);
+        if (mesa == null) {
+            return CompletableFuture.failedFuture(mesaInexistente(id));
+        }
+        return mesa.enviar(() -> comando.ejecutar(mesa));
+    }
+
+    private static ConfiguracionInvalidaException mesaInexistente(long id) {
+        return new ConfiguracionInvalidaException("No existe la mesa " + id);
+    }
+
+    /**
+     * Comando que corre dentro del buzón de una mesa.
+     */
+    @FunctionalInterface
+    private interface ComandoMesa<T> {
+        T ejecutar(Mesa mesa) throws Exception;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.el_cincuentenazo.mesas;
+
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cliente en el mismo proceso que reemplaza a un jugador real. Solo conoce las
+ * fotos {@link EstadoMesa} que devuelve el anfitrión, igual que lo haría un
+ * cliente remoto, y sirve para probar y cargar el anfitrión sin red.
+ */
+public class ClienteLocal {
+
+    private final AnfitrionMesas anfitrion;
+    private final String nombre;
+
+    /**
+     * Crea el cliente.
+     *
+     * @param anfitrion anfitrión al que se conecta
+     * @param nombre    nombre con el que se sienta en las mesas
+     */
+    public ClienteLocal(AnfitrionMesas anfitrion, String nombre) {
+        this.anfitrion = Objects.requireNonNull(anfitrion);
+        this.nombre = Objects.requireNonNull(nombre);
+    }
+
+    /**
+     * Se sienta en una mesa.
+     *
+     * @param mesa identificador de la mesa
+     * @return futuro con el estado de la mesa
+     */
+    public CompletableFuture<EstadoMesa> unirse(long mesa) {
+        return anfitrion.unirse(mesa, nombre);
+    }
+
+    /**
+     * Juega la carta en la posición indicada.
+     *
+     * @param mesa     identificador de la mesa
+     * @param posicion posición de la carta en la mano
+     * @return futuro con el estado tras la ronda
+     */
+    public CompletableFuture<EstadoMesa> jugar(long mesa, int posicion) {
+        return anfitrion.jugar(mesa, nombre, posicion);
+    }
+
+    /**
+     * Juega siempre la primera carta segura hasta que la partida termine o se
+     * alcancen {@link SimuladorPartidas#MAX_RONDAS} rondas. Cada jugada se
+     * envía cuando llega la respuesta de la anterior, sin bloquear ningún hilo.
+     *
+     * @param mesa identificador de la mesa en la que ya está sentado
+     * @return futuro con el estado final de la mesa
+     */
+    public CompletableFuture<EstadoMesa> jugarHastaTerminar(long mesa) {
+        return anfitrion.consultar(mesa).thenCompose(estado -> continuar(mesa, estado, 0));
+    }
+
+    /**
+     * Devuelve el nombre del cliente.
+     *
+     * @return nombre con el que se sienta
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    private CompletableFuture<EstadoMesa> continuar(long mesa, EstadoMesa estado, int rondas) {
+        if (estado.estaTerminada() || estado.getJugables() == 0 || rondas >= SimuladorPartidas.MAX_RONDAS) {
+            return CompletableFuture.completedFuture(estado);
+        }
+        return jugar(mesa, Integer.numberOfTrailingZeros(estado.getJugables()))
+                .thenCompose(siguiente -> continuar(mesa, siguiente, rondas + 1));
+    }
+}
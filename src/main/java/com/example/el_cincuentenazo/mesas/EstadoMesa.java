@@ -0,0 +1,132 @@
+package com.example.el_cincuentenazo.mesas;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.List;
+
+/**
+ * Foto inmutable de una mesa tomada dentro de su buzón. Es lo único que sale
+ * de la mesa hacia los clientes, de modo que nunca comparten la
+ * {@link Partida}.
+ */
+public final class EstadoMesa {
+
+    private final long mesa;
+    private final String jugador;
+    private final int sumaMesa;
+    private final Carta ultimaCartaMesa;
+    private final List<Carta> mano;
+    private final int jugables;
+    private final int jugadasRealizadas;
+    private final boolean terminada;
+    private final String ganador;
+
+    private EstadoMesa(long mesa, String jugador, int sumaMesa, Carta ultimaCartaMesa, List<Carta> mano,
+                       int jugables, int jugadasRealizadas, boolean terminada, String ganador) {
+        this.mesa = mesa;
+        this.jugador = jugador;
+        this.sumaMesa = sumaMesa;
+        this.ultimaCartaMesa = ultimaCartaMesa;
+        this.mano = mano;
+        this.jugables = jugables;
+        this.jugadasRealizadas = jugadasRealizadas;
+        this.terminada = terminada;
+        this.ganador = ganador;
+    }
+
+    /**
+     * Toma la foto de una mesa. Solo debe llamarse desde su buzón.
+     */
+    static EstadoMesa de(Mesa mesa) {
+        Partida partida = mesa.getPartida();
+        Jugador humano = partida.getJugadorHumano();
+        Jugador ganador = partida.estaTerminada() ? partida.ganador() : null;
+        return new EstadoMesa(mesa.getId(), mesa.getJugador(), partida.getSumaMesa(),
+                partida.getUltimaCartaMesa(), List.copyOf(humano.getMano()),
+                humano.mascaraJugables(partida.getSumaMesa()), partida.getJugadasRealizadas(),
+                partida.estaTerminada(), ganador == null ? null : ganador.getNombre());
+    }
+
+    /**
+     * Devuelve el identificador de la mesa.
+     *
+     * @return identificador asignado por el anfitrión
+     */
+    public long getMesa() {
+        return mesa;
+    }
+
+    /**
+     * Devuelve el jugador sentado en el asiento humano.
+     *
+     * @return nombre del jugador o {@code null} si el asiento está libre
+     */
+    public String getJugador() {
+        return jugador;
+    }
+
+    /**
+     * Devuelve la suma acumulada en la mesa.
+     *
+     * @return suma actual
+     */
+    public int getSumaMesa() {
+        return sumaMesa;
+    }
+
+    /**
+     * Devuelve la última carta jugada.
+     *
+     * @return carta en la cima de la mesa
+     */
+    public Carta getUltimaCartaMesa() {
+        return ultimaCartaMesa;
+    }
+
+    /**
+     * Devuelve la mano del asiento humano.
+     *
+     * @return lista inmutable de cartas
+     */
+    public List<Carta> getMano() {
+        return mano;
+    }
+
+    /**
+     * Devuelve las posiciones de la mano que pueden jugarse.
+     *
+     * @return máscara con el bit {@code i} encendido si la carta {@code i} es
+     *         segura
+     */
+    public int getJugables() {
+        return jugables;
+    }
+
+    /**
+     * Devuelve cuántas cartas se jugaron en la partida.
+     *
+     * @return jugadas realizadas
+     */
+    public int getJugadasRealizadas() {
+        return jugadasRealizadas;
+    }
+
+    /**
+     * Indica si la partida de la mesa terminó.
+     *
+     * @return {@code true} si ya no se aceptan jugadas
+     */
+    public boolean estaTerminada() {
+        return terminada;
+    }
+
+    /**
+     * Devuelve el ganador de una partida terminada.
+     *
+     * @return nombre del ganador o {@code null} si no hay
+     */
+    public String getGanador() {
+        return ganador;
+    }
+}
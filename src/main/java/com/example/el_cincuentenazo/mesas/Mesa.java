@@ -0,0 +1,102 @@
+package com.example.el_cincuentenazo.mesas;
+
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mesa confinada a un buzón de comandos. Los comandos se ejecutan de a uno,
+ * en orden de llegada, en algún hilo del pool del anfitrión; como nunca hay dos
+ * comandos de la misma mesa corriendo a la vez, la {@link Partida} y el resto
+ * del estado de la mesa no necesitan sincronización.
+ */
+final class Mesa {
+
+    /** Comandos procesados antes de ceder el hilo a otras mesas. */
+    private static final int COMANDOS_POR_TURNO = 32;
+
+    private final long id;
+    private final Partida partida;
+    private final Executor trabajadores;
+    private final Queue<Runnable> buzon;
+    private final AtomicBoolean programada;
+
+    private String jugador;
+    private boolean cerrada;
+
+    Mesa(long id, Partida partida, Executor trabajadores) {
+        this.id = id;
+        this.partida = partida;
+        this.trabajadores = trabajadores;
+        this.buzon = new ConcurrentLinkedQueue<>();
+        this.programada = new AtomicBoolean();
+    }
+
+    /**
+     * Encola un comando. Puede llamarse desde cualquier hilo.
+     *
+     * @param comando acción a ejecutar dentro del buzón
+     * @return futuro con el resultado del comando o su excepción
+     */
+    <T> CompletableFuture<T> enviar(Callable<T> comando) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        buzon.add(() -> {
+            if (cerrada) {
+                resultado.completeExceptionally(new ConfiguracionInvalidaException("La mesa " + id + " está cerrada"));
+                return;
+            }
+            try {
+                resultado.complete(comando.call());
+            } catch (Throwable e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+        programar();
+        return resultado;
+    }
+
+    private void programar() {
+        if (programada.compareAndSet(false, true)) {
+            trabajadores.execute(this::drenar);
+        }
+    }
+
+    private void drenar() {
+        for (int i = 0; i < COMANDOS_POR_TURNO; i++) {
+            Runnable comando = buzon.poll();
+            if (comando == null) {
+                break;
+            }
+            comando.run();
+        }
+        programada.set(false);
+        if (!buzon.isEmpty()) {
+            programar();
+        }
+    }
+
+    long getId() {
+        return id;
+    }
+
+    Partida getPartida() {
+        return partida;
+    }
+
+    String getJugador() {
+        return jugador;
+    }
+
+    void setJugador(String jugador) {
+        this.jugador = jugador;
+    }
+
+    void cerrar() {
+        cerrada = true;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.el_cincuentenazo.metricas;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Resume las latencias de los eventos del juego guardados en una grabación de
+ * Flight Recorder.
+ *
+ * <p>Los eventos del juego están desactivados por defecto. Para grabarlos se
+ * activan al arrancar, por ejemplo con
+ * {@code -XX:StartFlightRecording:filename=juego.jfr,cincuentenazo.Jugada#enabled=true,cincuentenazo.Barajado#enabled=true,cincuentenazo.Reciclaje#enabled=true,cincuentenazo.Renderizado#enabled=true},
+ * y luego se resume el archivo con
+ * {@code java com.example.el_cincuentenazo.metricas.AnalizadorJfr juego.jfr}.
+ * Las jugadas se separan en las del humano y las de las CPU.</p>
+ */
+public final class AnalizadorJfr {
+
+    /** Prefijo común de los nombres de los eventos del juego. */
+    public static final String PREFIJO_EVENTOS = "cincuentenazo.";
+
+    private AnalizadorJfr() {
+    }
+
+    /**
+     * Latencias de una fase del juego.
+     */
+    public static final class ResumenFase {
+
+        private final String fase;
+        private final long[] duraciones;
+
+        private ResumenFase(String fase, long[] duraciones) {
+            this.fase = fase;
+            this.duraciones = duraciones;
+        }
+
+        /**
+         * Devuelve el nombre de la fase.
+         *
+         * @return nombre del evento, con el tipo de jugador en las jugadas
+         */
+        public String getFase() {
+            return fase;
+        }
+
+        /**
+         * Cuenta los eventos de la fase.
+         *
+         * @return eventos leídos
+         */
+        public int getCantidad() {
+            return duraciones.length;
+        }
+
+        /**
+         * Calcula un percentil exacto de las duraciones por rango más cercano.
+         *
+         * @param percentil valor entre 0 y 100
+         * @return duración en nanosegundos
+         */
+        public long getPercentilNanos(double percentil) {
+            if (percentil < 0 || percentil > 100) {
+                throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+            }
+            int rango = (int) Math.ceil(percentil / 100.0 * duraciones.length);
+            return duraciones[Math.max(0, rango - 1)];
+        }
+
+        /**
+         * Devuelve la mayor duración de la fase.
+         *
+         * @return máximo en nanosegundos
+         */
+        public long getMaximoNanos() {
+            return duraciones[duraciones.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-24s %8d  p50 %9.1f µs  p90 %9.1f µs  p99 %9.1f µs  máx %9.1f µs",
+                    fase, getCantidad(), getPercentilNanos(50) / 1_000.0, getPercentilNanos(90) / 1_000.0,
+                    getPercentilNanos(99) / 1_000.0, getMaximoNanos() / 1_000.0);
+        }
+    }
+
+    /**
+     * Lee una grabación y agrupa las duraciones de los eventos del juego por
+     * fase. Los demás eventos se ignoran.
+     *
+     * @param archivo grabación {@code .jfr}
+     * @return resumen de cada fase con al menos un evento, ordenado por nombre
+     * @throws IOException si el archivo no puede leerse o no es una grabación
+     */
+    public static List<ResumenFase> analizar(Path archivo) throws IOException {
+        Map<String, long[]> duraciones = new TreeMap<>();
+        Map<String, Integer> cantidades = new TreeMap<>();
+        try (RecordingFile grabacion = new RecordingFile(archivo)) {
+            while (grabacion.hasMoreEvents()) {
+                RecordedEvent evento = grabacion.readEvent();
+                String nombre = evento.getEventType().getName();
+                if (!nombre.startsWith(PREFIJO_EVENTOS)) {
+                    continue;
+                }
+                String fase = nombre.substring(PREFIJO_EVENTOS.length());
+                if (evento.hasField("humano")) {
+                    fase += evento.getBoolean("humano") ? " humano" : " CPU";
+                }
+                int cantidad = cantidades.getOrDefault(fase, 0);
+                long[] valores = duraciones.get(fase);
+                if (valores == null || cantidad == valores.length) {
+                    valores = valores == null ? new long[64] : Arrays.copyOf(valores, cantidad << 1);
+                    duraciones.put(fase, valores);
+                }
+                valores[cantidad] = evento.getDuration().toNanos();
+                cantidades.put(fase, cantidad + 1);
+            }
+        }
+        List<ResumenFase> resumen = new ArrayList<>(duraciones.size());
+        for (Map.Entry<String, long[]> entrada : duraciones.entrySet()) {
+            long[] valores = Arrays.copyOf(entrada.getValue(), cantidades.get(entrada.getKey()));
+            Arrays.sort(valores);
+            resumen.add(new ResumenFase(entrada.getKey(), valores));
+        }
+        return resumen;
+    }
+
+    /**
+     * Imprime el resumen de una grabación.
+     *
+     * @param args ruta del archivo {@code .jfr}
+     * @throws IOException si el archivo no puede leerse
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: AnalizadorJfr <grabacion.jfr>");
+            return;
+        }
+        List<ResumenFase> resumen = analizar(Path.of(args[0]));
+        if (resumen.isEmpty()) {
+            System.out.println("La grabación no contiene eventos del juego.");
+        }
+        for (ResumenFase fase : resumen) {
+            System.out.println(fase);
+        }
+    }
+}
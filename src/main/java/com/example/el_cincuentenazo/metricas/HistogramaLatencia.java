@@ -0,0 +1,87 @@
+package com.example.el_cincuentenazo.metricas;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de duraciones en nanosegundos con una cubeta por potencia de dos.
+ * Cada cubeta es un {@link LongAdder}, por lo que muchos hilos pueden registrar
+ * a la vez sin competir por la misma posición de memoria.
+ */
+final class HistogramaLatencia {
+
+    /** Cubetas: la 0 guarda duraciones nulas y la {@code i} las de {@code [2^(i-1), 2^i)}. */
+    static final int CUBETAS = Long.SIZE + 1;
+
+    private final LongAdder[] cubetas;
+    private final LongAdder sumaNanos;
+    private final LongAccumulator maximoNanos;
+
+    HistogramaLatencia() {
+        this.cubetas = new LongAdder[CUBETAS];
+        for (int i = 0; i < CUBETAS; i++) {
+            cubetas[i] = new LongAdder();
+        }
+        this.sumaNanos = new LongAdder();
+        this.maximoNanos = new LongAccumulator(Math::max, 0L);
+    }
+
+    /**
+     * Registra una duración.
+     *
+     * @param nanos duración medida; los valores negativos cuentan como cero
+     */
+    void registrar(long nanos) {
+        long valor = Math.max(0L, nanos);
+        cubetas[cubeta(valor)].increment();
+        sumaNanos.add(valor);
+        maximoNanos.accumulate(valor);
+    }
+
+    /**
+     * Copia los conteos actuales en el arreglo recibido.
+     *
+     * @param destino arreglo de {@link #CUBETAS} posiciones
+     */
+    void copiarCubetas(long[] destino) {
+        for (int i = 0; i < CUBETAS; i++) {
+            destino[i] = cubetas[i].sum();
+        }
+    }
+
+    long getSumaNanos() {
+        return sumaNanos.sum();
+    }
+
+    long getMaximoNanos() {
+        return maximoNanos.get();
+    }
+
+    void reiniciar() {
+        for (LongAdder cubeta : cubetas) {
+            cubeta.reset();
+        }
+        sumaNanos.reset();
+        maximoNanos.reset();
+    }
+
+    /**
+     * Calcula la cubeta de una duración.
+     *
+     * @param nanos duración no negativa
+     * @return índice de la cubeta
+     */
+    static int cubeta(long nanos) {
+        return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * Devuelve el mayor valor que puede caer en una cubeta.
+     *
+     * @param cubeta índice de la cubeta
+     * @return límite superior inclusivo en nanosegundos
+     */
+    static long limiteSuperior(int cubeta) {
+        return cubeta >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << cubeta) - 1;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.el_cincuentenazo.metricas;
+
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Contador;
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Operacion;
+
+/**
+ * Copia inmutable de las métricas del motor en un momento dado.
+ */
+public final class InstantaneaMetricas {
+
+    private final long[] contadores;
+    private final long[][] cubetas;
+    private final long[] sumasNanos;
+    private final long[] maximosNanos;
+
+    InstantaneaMetricas(long[] contadores, long[][] cubetas, long[] sumasNanos, long[] maximosNanos) {
+        this.contadores = contadores;
+        this.cubetas = cubetas;
+        this.sumasNanos = sumasNanos;
+        this.maximosNanos = maximosNanos;
+    }
+
+    /**
+     * Devuelve el valor de un contador.
+     *
+     * @param contador contador consultado
+     * @return eventos contados
+     */
+    public long get(Contador contador) {
+        return contadores[contador.ordinal()];
+    }
+
+    /**
+     * Cuenta cuántas veces se midió una operación.
+     *
+     * @param operacion operación consultada
+     * @return mediciones registradas
+     */
+    public long getMediciones(Operacion operacion) {
+        long total = 0;
+        for (long conteo : cubetas[operacion.ordinal()]) {
+            total += conteo;
+        }
+        return total;
+    }
+
+    /**
+     * Calcula la duración media de una operación.
+     *
+     * @param operacion operación consultada
+     * @return promedio en nanosegundos o {@code 0} si no hay mediciones
+     */
+    public double getPromedioNanos(Operacion operacion) {
+        long mediciones = getMediciones(operacion);
+        return mediciones == 0 ? 0.0 : (double) sumasNanos[operacion.ordinal()] / mediciones;
+    }
+
+    /**
+     * Devuelve la mayor duración registrada de una operación.
+     *
+     * @param operacion operación consultada
+     * @return máximo en nanosegundos
+     */
+    public long getMaximoNanos(Operacion operacion) {
+        return maximosNanos[operacion.ordinal()];
+    }
+
+    /**
+     * Estima un percentil de la duración de una operación. El resultado es el
+     * límite superior de la cubeta que lo contiene, acotado por el máximo
+     * observado, por lo que puede exceder al valor real hasta el doble.
+     *
+     * @param operacion operación consultada
+     * @param percentil valor entre 0 y 100
+     * @return duración estimada en nanosegundos o {@code 0} si no hay
+     *         mediciones
+     */
+    public long getPercentilNanos(Operacion operacion, double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        long mediciones = getMediciones(operacion);
+        if (mediciones == 0) {
+            return 0L;
+        }
+        long objetivo = Math.max(1L, (long) Math.ceil(mediciones * percentil / 100.0));
+        long acumulado = 0;
+        long[] conteos = cubetas[operacion.ordinal()];
+        for (int i = 0; i < conteos.length; i++) {
+            acumulado += conteos[i];
+            if (acumulado >= objetivo) {
+                return Math.min(HistogramaLatencia.limiteSuperior(i), getMaximoNanos(operacion));
+            }
+        }
+        return getMaximoNanos(operacion);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        for (Contador contador : Contador.values()) {
+            texto.append(contador).append(": ").append(get(contador)).append(System.lineSeparator());
+        }
+        for (Operacion operacion : Operacion.values()) {
+            texto.append(String.format("%s: %d mediciones, media %.1f µs, p50 %.1f µs, p99 %.1f µs, máx %.1f µs%n",
+                    operacion, getMediciones(operacion), getPromedioNanos(operacion) / 1_000.0,
+                    getPercentilNanos(operacion, 50) / 1_000.0, getPercentilNanos(operacion, 99) / 1_000.0,
+                    getMaximoNanos(operacion) / 1_000.0));
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.el_cincuentenazo.metricas;
+
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Contador;
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Operacion;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Implementación del MXBean que delega en las métricas estáticas del motor.
+ */
+final class MetricasJmx implements MetricasMotorMXBean {
+
+    @Override
+    public boolean isActivas() {
+        return MetricasMotor.estanActivas();
+    }
+
+    @Override
+    public void setActivas(boolean activas) {
+        if (activas) {
+            MetricasMotor.activar();
+        } else {
+            MetricasMotor.desactivar();
+        }
+    }
+
+    @Override
+    public Map<String, Long> getContadores() {
+        InstantaneaMetricas instantanea = MetricasMotor.instantanea();
+        Map<String, Long> valores = new LinkedHashMap<>();
+        for (Contador contador : Contador.values()) {
+            valores.put(contador.name(), instantanea.get(contador));
+        }
+        return valores;
+    }
+
+    @Override
+    public Map<String, Long> getMediciones() {
+        return porOperacion((instantanea, operacion) -> instantanea.getMediciones(operacion));
+    }
+
+    @Override
+    public Map<String, Double> getPromedioNanos() {
+        return porOperacion((instantanea, operacion) -> instantanea.getPromedioNanos(operacion));
+    }
+
+    @Override
+    public Map<String, Long> getPercentil50Nanos() {
+        return porOperacion((instantanea, operacion) -> instantanea.getPercentilNanos(operacion, 50));
+    }
+
+    @Override
+    public Map<String, Long> getPercentil99Nanos() {
+        return porOperacion((instantanea, operacion) -> instantanea.getPercentilNanos(operacion, 99));
+    }
+
+    @Override
+    public Map<String, Long> getMaximoNanos() {
+        return porOperacion((instantanea, operacion) -> instantanea.getMaximoNanos(operacion));
+    }
+
+    @Override
+    public void reiniciar() {
+        MetricasMotor.reiniciar();
+    }
+
+    private static <T> Map<String, T> porOperacion(BiFunction<InstantaneaMetricas, Operacion, T> valor) {
+        InstantaneaMetricas instantanea = MetricasMotor.instantanea();
+        Map<String, T> valores = new LinkedHashMap<>();
+        for (Operacion operacion : Operacion.values()) {
+            valores.put(operacion.name(), valor.apply(instantanea, operacion));
+        }
+        return valores;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.el_cincuentenazo.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Contadores y latencias del motor de juego, compartidos por todas las
+ * partidas del proceso.
+ *
+ * <p>Los contadores son {@link LongAdder} y los histogramas usan una cubeta
+ * por potencia de dos, de modo que muchas mesas concurrentes pueden registrar
+ * sin bloquearse. Mientras las métricas están desactivadas, cada punto de
+ * medición se reduce a leer un campo volátil, sin tomar tiempos. Se activan
+ * con la propiedad del sistema {@value #PROPIEDAD} o con {@link #activar()}, y
+ * se consultan con {@link #instantanea()} o por JMX tras
+ * {@link #registrarEnJmx()}.</p>
+ */
+public final class MetricasMotor {
+
+    /** Propiedad del sistema que activa las métricas al arrancar. */
+    public static final String PROPIEDAD = "cincuentenazo.metricas";
+    /** Nombre con el que se publican en el servidor JMX de la plataforma. */
+    public static final String NOMBRE_JMX = "com.example.el_cincuentenazo:type=MetricasMotor";
+
+    /**
+     * Eventos que se cuentan.
+     */
+    public enum Contador {
+        /** Cartas jugadas por cualquier jugador. */
+        TURNOS,
+        /** Reciclajes de la mesa sobre la baraja de robo. */
+        RECICLAJES,
+        /** Jugadores eliminados por no poder jugar. */
+        ELIMINACIONES,
+        /** Mezclas de una baraja. */
+        BARAJADOS,
+        /** Cargas de una baraja desde su archivo o plantilla. */
+        RECARGAS_BARAJA
+    }
+
+    /**
+     * Operaciones cuya duración se mide.
+     */
+    public enum Operacion {
+        /** {@code Partida.jugarTurnoHumano}. */
+        TURNO_HUMANO,
+        /** {@code Partida.jugarTurnoCPU}, con todas las CPU de la ronda. */
+        TURNO_CPU,
+        /** {@code Partida.reciclarSiHaceFalta} cuando efectivamente recicla. */
+        RECICLAJE
+    }
+
+    private static final Contador[] CONTADORES = Contador.values();
+    private static final Operacion[] OPERACIONES = Operacion.values();
+    private static final LongAdder[] CUENTAS = new LongAdder[CONTADORES.length];
+    private static final HistogramaLatencia[] LATENCIAS = new HistogramaLatencia[OPERACIONES.length];
+
+    static {
+        for (int i = 0; i < CUENTAS.length; i++) {
+            CUENTAS[i] = new LongAdder();
+        }
+        for (int i = 0; i < LATENCIAS.length; i++) {
+            LATENCIAS[i] = new HistogramaLatencia();
+        }
+    }
+
+    private static volatile boolean activas = Boolean.getBoolean(PROPIEDAD);
+
+    private MetricasMotor() {
+    }
+
+    /**
+     * Indica si las métricas se están registrando. Los puntos de medición lo
+     * consultan antes de tomar tiempos.
+     *
+     * @return {@code true} si están activas
+     */
+    public static boolean estanActivas() {
+        return activas;
+    }
+
+    /**
+     * Empieza a registrar métricas.
+     */
+    public static void activar() {
+        activas = true;
+    }
+
+    /**
+     * Deja de registrar métricas conservando los valores acumulados.
+     */
+    public static void desactivar() {
+        activas = false;
+    }
+
+    /**
+     * Pone en cero todos los contadores e histogramas.
+     */
+    public static void reiniciar() {
+        for (LongAdder cuenta : CUENTAS) {
+            cuenta.reset();
+        }
+        for (HistogramaLatencia latencia : LATENCIAS) {
+            latencia.reiniciar();
+        }
+    }
+
+    /**
+     * Suma uno a un contador si las métricas están activas.
+     *
+     * @param contador contador a incrementar
+     */
+    public static void contar(Contador contador) {
+        if (activas) {
+            CUENTAS[contador.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Suma una cantidad a un contador si las métricas están activas.
+     *
+     * @param contador contador a incrementar
+     * @param cantidad cantidad a sumar
+     */
+    public static void contar(Contador contador, long cantidad) {
+        if (activas && cantidad != 0) {
+            CUENTAS[contador.ordinal()].add(cantidad);
+        }
+    }
+
+    /**
+     * Registra la duración de una operación. Quien mide debe haber consultado
+     * {@link #estanActivas()} antes de tomar el tiempo inicial.
+     *
+     * @param operacion operación medida
+     * @param nanos     duración en nanosegundos
+     */
+    public static void registrar(Operacion operacion, long nanos) {
+        LATENCIAS[operacion.ordinal()].registrar(nanos);
+    }
+
+    /**
+     * Copia el estado actual de todas las métricas. Los valores de cada
+     * contador son exactos, aunque distintos contadores pueden reflejar
+     * instantes ligeramente diferentes si hay mesas jugando.
+     *
+     * @return copia inmutable de las métricas
+     */
+    public static InstantaneaMetricas instantanea() {
+        long[] contadores = new long[CONTADORES.length];
+        for (int i = 0; i < contadores.length; i++) {
+            contadores[i] = CUENTAS[i].sum();
+        }
+        long[][] cubetas = new long[OPERACIONES.length][HistogramaLatencia.CUBETAS];
+        long[] sumas = new long[OPERACIONES.length];
+        long[] maximos = new long[OPERACIONES.length];
+        for (int i = 0; i < OPERACIONES.length; i++) {
+            LATENCIAS[i].copiarCubetas(cubetas[i]);
+            sumas[i] = LATENCIAS[i].getSumaNanos();
+            maximos[i] = LATENCIAS[i].getMaximoNanos();
+        }
+        return new InstantaneaMetricas(contadores, cubetas, sumas, maximos);
+    }
+
+    /**
+     * Publica las métricas en el servidor JMX de la plataforma con el nombre
+     * {@value #NOMBRE_JMX}. Llamarlo de nuevo no tiene efecto.
+     *
+     * @throws IllegalStateException si el servidor rechaza el registro
+     */
+    public static void registrarEnJmx() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            servidor.registerMBean(new MetricasJmx(), new ObjectName(NOMBRE_JMX));
+        } catch (InstanceAlreadyExistsException e) {
+            // ya estaba publicado
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudieron publicar las métricas por JMX", e);
+        }
+    }
+}
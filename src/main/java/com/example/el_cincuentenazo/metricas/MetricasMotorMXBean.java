@@ -0,0 +1,71 @@
+package com.example.el_cincuentenazo.metricas;
+
+import java.util.Map;
+
+/**
+ * Vista JMX de {@link MetricasMotor}. Cada atributo se calcula a partir de una
+ * instantánea nueva.
+ */
+public interface MetricasMotorMXBean {
+
+    /**
+     * Indica si las métricas se están registrando.
+     *
+     * @return {@code true} si están activas
+     */
+    boolean isActivas();
+
+    /**
+     * Activa o desactiva el registro de métricas.
+     *
+     * @param activas nuevo estado
+     */
+    void setActivas(boolean activas);
+
+    /**
+     * Devuelve todos los contadores por nombre.
+     *
+     * @return valor de cada {@link MetricasMotor.Contador}
+     */
+    Map<String, Long> getContadores();
+
+    /**
+     * Devuelve la cantidad de mediciones de cada operación.
+     *
+     * @return mediciones por {@link MetricasMotor.Operacion}
+     */
+    Map<String, Long> getMediciones();
+
+    /**
+     * Devuelve la duración media de cada operación.
+     *
+     * @return promedio en nanosegundos por operación
+     */
+    Map<String, Double> getPromedioNanos();
+
+    /**
+     * Devuelve la mediana estimada de cada operación.
+     *
+     * @return percentil 50 en nanosegundos por operación
+     */
+    Map<String, Long> getPercentil50Nanos();
+
+    /**
+     * Devuelve el percentil 99 estimado de cada operación.
+     *
+     * @return percentil 99 en nanosegundos por operación
+     */
+    Map<String, Long> getPercentil99Nanos();
+
+    /**
+     * Devuelve la mayor duración de cada operación.
+     *
+     * @return máximo en nanosegundos por operación
+     */
+    Map<String, Long> getMaximoNanos();
+
+    /**
+     * Pone en cero todas las métricas.
+     */
+    void reiniciar();
+}
@@ -1,26 +1,41 @@
 package com.example.el_cincuentenazo.modelo;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.List;
+import com.example.el_cincuentenazo.metricas.MetricasMotor;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa el mazo de cartas desde el cual se reparten y se roban nuevas
  * cartas durante la partida. Permite cargar la configuración desde un archivo o
  * crear una baraja por defecto.
+ *
+ * <p>Las cartas se guardan en un arreglo circular cuya capacidad es siempre
+ * potencia de dos, de modo que robar por el inicio y poner o sacar por el
+ * final no desplazan elementos, y el barajado se hace en el mismo arreglo.</p>
  */
 public class Baraja {
 
-    /** Cartas disponibles para robar en el orden actual. */
-    private final Deque<Carta> cartas;
+    /** Capacidad inicial del arreglo circular, suficiente para una baraja. */
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    /** Cartas disponibles para robar en orden circular a partir de {@link #inicio}. */
+    private Carta[] cartas;
+    /** Posición física de la primera carta del mazo. */
+    private int inicio;
+    /** Cantidad de cartas presentes. */
+    private int cantidad;
+    /** Fuente de azar propia de la baraja. */
+    private RandomGenerator generador;
+
+    /**
+     * Crea una baraja vacía, como la pila de la mesa al comenzar.
+     */
+    public Baraja() {
+        this.cartas = new Carta[CAPACIDAD_INICIAL];
+        this.generador = new SplittableRandom();
+    }
 
     /**
      * Crea una baraja intentando cargar su contenido desde un archivo externo.
@@ -28,101 +43,96 @@ public class Baraja {
      * @param rutaArchivo ubicación del archivo de configuración o recurso
      */
     public Baraja(String rutaArchivo) {
-        this.cartas = new ArrayDeque<>();
+        this(rutaArchivo, new SplittableRandom());
+    }
+
+    /**
+     * Crea una baraja que usará el generador indicado en cada barajado.
+     *
+     * @param rutaArchivo ubicación del archivo de configuración o recurso
+     * @param generador   fuente de azar de la baraja
+     */
+    public Baraja(String rutaArchivo, RandomGenerator generador) {
+        this.cartas = new Carta[CAPACIDAD_INICIAL];
+        this.generador = Objects.requireNonNull(generador);
         cargarDesdeArchivo(rutaArchivo);
     }
 
     /**
-     * Lee las cartas desde el archivo indicado. Si la ruta es inválida o ocurre
-     * algún error, se recurre a la baraja por defecto.
+     * Reemplaza la fuente de azar usada por {@link #barajar()}.
+     *
+     * @param generador nuevo generador
+     */
+    public void setGenerador(RandomGenerator generador) {
+        this.generador = Objects.requireNonNull(generador);
+    }
+
+    /**
+     * Carga las cartas descritas en el archivo indicado. Cada archivo se lee
+     * una sola vez mientras no cambie su fecha de modificación; las cargas
+     * siguientes copian la plantilla ya interpretada. Si la ruta es inválida o
+     * ocurre algún error, se recurre a la baraja por defecto.
      *
      * @param rutaArchivo archivo o recurso a leer
      */
     public void cargarDesdeArchivo(String rutaArchivo) {
+        MetricasMotor.contar(MetricasMotor.Contador.RECARGAS_BARAJA);
         if (rutaArchivo == null || rutaArchivo.isBlank()) {
             cargarPorDefecto();
             return;
         }
-        try {
-            cartas.clear();
-            InputStream entrada = obtenerStreamDesdeRuta(rutaArchivo);
-            if (entrada == null) {
-                cargarPorDefecto();
-                return;
-            }
-            try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
-                String linea;
-                while ((linea = lector.readLine()) != null) {
-                    procesarLinea(linea);
-                }
-            }
-        } catch (IOException | RuntimeException e) {
+        Carta[] plantilla = PlantillaBaraja.obtener(rutaArchivo);
+        if (plantilla == null) {
             cargarPorDefecto();
+            return;
         }
+        reemplazar(plantilla);
     }
 
     /**
-     * Intenta abrir la ruta dada como recurso del classpath o archivo físico.
+     * Reemplaza el contenido por una copia de las cartas indicadas, en el
+     * mismo orden.
      *
-     * @param rutaArchivo cadena con la ruta del archivo
-     * @return flujo de entrada listo para leerse o {@code null} si no existe
+     * @param nuevas cartas a copiar; el arreglo no se conserva
      */
-    private InputStream obtenerStreamDesdeRuta(String rutaArchivo) {
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        InputStream stream = classLoader.getResourceAsStream(rutaArchivo);
-        if (stream != null) {
-            return stream;
-        }
-        try {
-            return java.nio.file.Files.newInputStream(java.nio.file.Path.of(rutaArchivo));
-        } catch (IOException e) {
-            return null;
+    void reemplazar(Carta[] nuevas) {
+        vaciar();
+        if (cartas.length < nuevas.length) {
+            cartas = new Carta[Integer.highestOneBit(nuevas.length - 1) << 1];
         }
+        System.arraycopy(nuevas, 0, cartas, 0, nuevas.length);
+        cantidad = nuevas.length;
     }
 
     /**
-     * Convierte una línea de texto en una o más cartas y las agrega al mazo.
+     * Escribe la cantidad de cartas y cada una en orden de robo.
      *
-     * @param linea cadena con cartas separadas por coma o tabulación
+     * @param salida búfer de la instantánea
      */
-    private void procesarLinea(String linea) {
-        String[] partes = linea.split("[\\t,]");
-        for (String parte : partes) {
-            String textoCarta = parte.trim();
-            if (textoCarta.isEmpty()) {
-                continue;
-            }
-            String[] secciones = textoCarta.split(" de ");
-            if (secciones.length != 2) {
-                throw new IllegalArgumentException("Formato de carta inválido: " + textoCarta);
-            }
-            String valor = normalizarValor(secciones[0]);
-            String palo = secciones[1].trim();
-            cartas.addLast(new Carta(valor, palo));
+    void escribir(CodificadorBinario salida) {
+        salida.escribirVarint(cantidad);
+        int mascara = cartas.length - 1;
+        for (int i = 0; i < cantidad; i++) {
+            salida.escribirCarta(cartas[(inicio + i) & mascara]);
         }
     }
 
     /**
-     * Homogeneiza la forma escrita de los valores leídos.
+     * Lee las cartas escritas por {@link #escribir(CodificadorBinario)}.
      *
-     * @param valorOriginal texto original encontrado en el archivo
-     * @return representación interna del valor
+     * @param entrada búfer de la instantánea
+     * @param maximo  cantidad máxima aceptada
+     * @return cartas en orden de robo
      */
-    private String normalizarValor(String valorOriginal) {
-        String limpio = valorOriginal.trim();
-        if (limpio.equalsIgnoreCase("As")) {
-            return "A";
-        }
-        if (limpio.equalsIgnoreCase("Sota")) {
-            return "J";
-        }
-        if (limpio.equalsIgnoreCase("Reina")) {
-            return "Q";
-        }
-        if (limpio.equalsIgnoreCase("Rey")) {
-            return "K";
+    static Carta[] leerCartas(CodificadorBinario entrada, int maximo) {
+        Carta[] leidas = new Carta[entrada.leerEntero(maximo)];
+        for (int i = 0; i < leidas.length; i++) {
+            leidas[i] = entrada.leerCarta();
+            if (leidas[i] == null) {
+                throw new IllegalArgumentException("Falta una carta en la instantánea");
+            }
         }
-        return limpio.toUpperCase();
+        return leidas;
     }
 
     /**
@@ -130,42 +140,110 @@ public class Baraja {
      * archivo.
      */
     public void cargarPorDefecto() {
-        cartas.clear();
-        List<String> palos = List.of("tréboles", "picas", "corazones", "diamantes");
-        List<String> valores = new ArrayList<>();
-        valores.add("A");
-        for (int i = 2; i <= 10; i++) {
-            valores.add(String.valueOf(i));
-        }
-        valores.add("J");
-        valores.add("Q");
-        valores.add("K");
-        for (String palo : palos) {
-            for (String valor : valores) {
-                cartas.addLast(new Carta(valor, palo));
+        vaciar();
+        for (int ordinal = 0; ordinal < Carta.TOTAL_CARTAS; ordinal++) {
+            poner(Carta.de(ordinal));
+        }
+    }
+
+    /**
+     * Repite el contenido actual hasta reunir la cantidad de copias indicada,
+     * para mesas con más jugadores de los que alcanza una sola baraja.
+     *
+     * @param copias copias totales deseadas, al menos una
+     */
+    public void multiplicar(int copias) {
+        if (copias < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una copia");
+        }
+        int original = cantidad;
+        for (int copia = 1; copia < copias; copia++) {
+            for (int i = 0; i < original; i++) {
+                poner(cartas[(inicio + i) & (cartas.length - 1)]);
             }
         }
     }
 
     /**
-     * Desordena aleatoriamente las cartas restantes.
+     * Desordena aleatoriamente las cartas restantes con el generador propio de
+     * la baraja.
      */
     public void barajar() {
-        List<Carta> temporal = new ArrayList<>(cartas);
-        Collections.shuffle(temporal);
-        cartas.clear();
-        for (Carta carta : temporal) {
-            cartas.addLast(carta);
+        barajar(generador);
+    }
+
+    /**
+     * Desordena las cartas restantes usando la fuente de azar indicada, lo que
+     * permite reproducir el mismo orden a partir de una semilla. Aplica
+     * Fisher–Yates directamente sobre el arreglo circular.
+     *
+     * @param aleatorio generador a utilizar en la mezcla
+     */
+    public void barajar(RandomGenerator aleatorio) {
+        Objects.requireNonNull(aleatorio);
+        MetricasMotor.contar(MetricasMotor.Contador.BARAJADOS);
+        EventoBarajado evento = new EventoBarajado();
+        evento.begin();
+        int mascara = cartas.length - 1;
+        for (int i = cantidad - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int fisicaI = (inicio + i) & mascara;
+            int fisicaJ = (inicio + j) & mascara;
+            Carta temporal = cartas[fisicaI];
+            cartas[fisicaI] = cartas[fisicaJ];
+            cartas[fisicaJ] = temporal;
+        }
+        if (evento.shouldCommit()) {
+            evento.cartas = cantidad;
+            evento.commit();
         }
     }
 
+    /**
+     * Convierte la pila de la mesa en el nuevo mazo de robo: todas sus cartas
+     * salvo la última pasan a esta baraja y quedan barajadas, mientras la mesa
+     * conserva solo la carta visible. Si esta baraja está vacía los arreglos se
+     * intercambian sin copiar carta por carta.
+     *
+     * @param mesa pila de descarte a reciclar
+     */
+    public void reciclarDesde(Baraja mesa) {
+        Carta visible = mesa.sacarUltimaCarta();
+        if (visible == null) {
+            return;
+        }
+        if (cantidad == 0) {
+            Carta[] vacio = cartas;
+            cartas = mesa.cartas;
+            inicio = mesa.inicio;
+            cantidad = mesa.cantidad;
+            mesa.cartas = vacio;
+            mesa.inicio = 0;
+            mesa.cantidad = 0;
+        } else {
+            Carta carta;
+            while ((carta = mesa.robar()) != null) {
+                poner(carta);
+            }
+        }
+        mesa.poner(visible);
+        barajar();
+    }
+
     /**
      * Extrae la carta situada al inicio del mazo.
      *
      * @return carta obtenida o {@code null} si no quedan cartas
      */
     public Carta robar() {
-        return cartas.pollFirst();
+        if (cantidad == 0) {
+            return null;
+        }
+        Carta carta = cartas[inicio];
+        cartas[inicio] = null;
+        inicio = (inicio + 1) & (cartas.length - 1);
+        cantidad--;
+        return carta;
     }
 
     /**
@@ -174,7 +252,25 @@ public class Baraja {
      * @param carta carta a insertar
      */
     public void poner(Carta carta) {
-        cartas.addLast(Objects.requireNonNull(carta));
+        Objects.requireNonNull(carta);
+        if (cantidad == cartas.length) {
+            crecer();
+        }
+        cartas[(inicio + cantidad) & (cartas.length - 1)] = carta;
+        cantidad++;
+    }
+
+    /**
+     * Duplica la capacidad del arreglo dejando las cartas contiguas desde la
+     * posición cero.
+     */
+    private void crecer() {
+        Carta[] nuevas = new Carta[cartas.length << 1];
+        int primerTramo = Math.min(cantidad, cartas.length - inicio);
+        System.arraycopy(cartas, inicio, nuevas, 0, primerTramo);
+        System.arraycopy(cartas, 0, nuevas, primerTramo, cantidad - primerTramo);
+        cartas = nuevas;
+        inicio = 0;
     }
 
     /**
@@ -183,7 +279,7 @@ public class Baraja {
      * @return {@code true} cuando la baraja está vacía
      */
     public boolean estaVacia() {
-        return cartas.isEmpty();
+        return cantidad == 0;
     }
 
     /**
@@ -192,14 +288,31 @@ public class Baraja {
      * @return tamaño actual del mazo
      */
     public int tamano() {
-        return cartas.size();
+        return cantidad;
     }
 
     /**
      * Elimina todas las cartas restantes.
      */
     public void vaciar() {
-        cartas.clear();
+        Arrays.fill(cartas, null);
+        inicio = 0;
+        cantidad = 0;
+    }
+
+    /**
+     * Copia los ordinales de las cartas en orden de robo, sin modificar el
+     * mazo.
+     *
+     * @return arreglo nuevo con un ordinal por carta
+     */
+    public int[] ordinales() {
+        int[] ordinales = new int[cantidad];
+        int mascara = cartas.length - 1;
+        for (int i = 0; i < cantidad; i++) {
+            ordinales[i] = cartas[(inicio + i) & mascara].getOrdinal();
+        }
+        return ordinales;
     }
 
     /**
@@ -208,7 +321,10 @@ public class Baraja {
      * @return carta al fondo o {@code null} si la baraja está vacía
      */
     public Carta verUltimaCarta() {
-        return cartas.peekLast();
+        if (cantidad == 0) {
+            return null;
+        }
+        return cartas[(inicio + cantidad - 1) & (cartas.length - 1)];
     }
 
     /**
@@ -217,6 +333,13 @@ public class Baraja {
      * @return carta extraída o {@code null} si ya no hay
      */
     public Carta sacarUltimaCarta() {
-        return cartas.pollLast();
+        if (cantidad == 0) {
+            return null;
+        }
+        int posicion = (inicio + cantidad - 1) & (cartas.length - 1);
+        Carta carta = cartas[posicion];
+        cartas[posicion] = null;
+        cantidad--;
+        return carta;
     }
 }
@@ -17,13 +17,7 @@ public class CPU extends Jugador {
 
     @Override
     public Carta jugarCarta(int sumaMesa) {
-        for (Carta carta : mano) {
-            int valor = carta.valorParaSuma(sumaMesa);
-            if (sumaMesa + valor <= 50) {
-                mano.remove(carta);
-                return carta;
-            }
-        }
-        return null;
+        int indice = indicePrimeraJugable(sumaMesa);
+        return indice < 0 ? null : retirarCarta(indice);
     }
 }
@@ -1,25 +1,165 @@
 package com.example.el_cincuentenazo.modelo;
 
+import java.util.Collection;
+
 /**
  * Representa una carta individual de la baraja española reducida utilizada por
  * el juego.
+ *
+ * <p>Internamente cada carta se identifica por un ordinal entre 0 y 51
+ * ({@code palo * 13 + rango - 1}) y guarda su rango y palo como enteros
+ * pequeños. Existe una tabla canónica con las 52 cartas que puede consultarse
+ * con {@link #de(int)} o {@link #de(String, String)}, de modo que el motor
+ * comparte siempre las mismas instancias en lugar de crear copias nuevas.</p>
  */
 public class Carta {
 
+    /** Cantidad de cartas distintas que admite la baraja. */
+    public static final int TOTAL_CARTAS = 52;
+    /** Cantidad de rangos por palo (A a K). */
+    public static final int RANGOS_POR_PALO = 13;
+
+    /** Nombres de los palos en el orden de sus índices. */
+    private static final String[] PALOS = {"tréboles", "picas", "corazones", "diamantes"};
+    /** Valores nominales en el orden de sus rangos, empezando por el As. */
+    private static final String[] VALORES = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+    /** Tabla canónica con una instancia por ordinal. */
+    private static final Carta[] TABLA = new Carta[TOTAL_CARTAS];
+
+    static {
+        for (int palo = 0; palo < PALOS.length; palo++) {
+            for (int rango = 1; rango <= RANGOS_POR_PALO; rango++) {
+                Carta carta = new Carta(rango, palo);
+                TABLA[carta.ordinal] = carta;
+            }
+        }
+    }
+
     /** Palo o familia a la que pertenece la carta. */
     private final String palo;
     /** Valor nominal mostrado en la carta. */
     private final String valor;
+    /** Rango numérico: 1 para el As, 11 a 13 para las figuras. */
+    private final int rango;
+    /** Índice del palo dentro de {@link #PALOS}. */
+    private final int indicePalo;
+    /** Posición de la carta dentro de la tabla canónica. */
+    private final int ordinal;
+    /** Aporte fijo a la suma; el As se resuelve aparte en {@link #valorParaSuma(int)}. */
+    private final int valorBase;
 
     /**
      * Crea una carta con su valor y palo correspondientes.
      *
      * @param valor número o figura representada
      * @param palo  palo al que pertenece la carta
+     * @throws IllegalArgumentException si el valor o el palo no existen en la
+     *                                  baraja
      */
     public Carta(String valor, String palo) {
-        this.valor = valor;
-        this.palo = palo;
+        this(rangoDe(valor), indiceDePalo(palo));
+    }
+
+    private Carta(int rango, int indicePalo) {
+        this.rango = rango;
+        this.indicePalo = indicePalo;
+        this.valor = VALORES[rango - 1];
+        this.palo = PALOS[indicePalo];
+        this.ordinal = indicePalo * RANGOS_POR_PALO + rango - 1;
+        this.valorBase = calcularValorBase(rango);
+    }
+
+    /**
+     * Obtiene la instancia canónica asociada a un ordinal.
+     *
+     * @param ordinal posición entre 0 y 51
+     * @return carta compartida de la tabla
+     */
+    public static Carta de(int ordinal) {
+        return TABLA[ordinal];
+    }
+
+    /**
+     * Obtiene la instancia canónica que corresponde al valor y palo indicados.
+     *
+     * @param valor número o figura representada
+     * @param palo  palo al que pertenece la carta
+     * @return carta compartida de la tabla
+     * @throws IllegalArgumentException si el valor o el palo no existen en la
+     *                                  baraja
+     */
+    public static Carta de(String valor, String palo) {
+        return TABLA[indiceDePalo(palo) * RANGOS_POR_PALO + rangoDe(valor) - 1];
+    }
+
+    /**
+     * Calcula la máscara de 64 bits de un conjunto de cartas, con un bit por
+     * ordinal. Las cartas repetidas ocupan un único bit.
+     *
+     * @param cartas cartas a representar
+     * @return máscara con los bits de cada carta encendidos
+     */
+    public static long mascaraDe(Collection<Carta> cartas) {
+        long mascara = 0L;
+        for (Carta carta : cartas) {
+            mascara |= carta.getMascara();
+        }
+        return mascara;
+    }
+
+    /**
+     * Traduce el valor nominal a su rango numérico.
+     *
+     * @param valor texto del valor
+     * @return rango entre 1 y 13
+     */
+    private static int rangoDe(String valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor de la carta no puede ser nulo");
+        }
+        for (int i = 0; i < VALORES.length; i++) {
+            if (VALORES[i].equals(valor)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Valor de carta inválido: " + valor);
+    }
+
+    /**
+     * Traduce el nombre de un palo a su índice.
+     *
+     * @param palo nombre del palo
+     * @return índice entre 0 y 3
+     */
+    private static int indiceDePalo(String palo) {
+        if (palo == null) {
+            throw new IllegalArgumentException("El palo de la carta no puede ser nulo");
+        }
+        for (int i = 0; i < PALOS.length; i++) {
+            if (PALOS[i].equalsIgnoreCase(palo)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Palo de carta inválido: " + palo);
+    }
+
+    /**
+     * Determina el aporte fijo de un rango a la suma de la mesa.
+     *
+     * @param rango rango de la carta
+     * @return aporte de la carta, o 10 en el caso del As
+     */
+    private static int calcularValorBase(int rango) {
+        if (rango > 10) {
+            return -10;
+        }
+        if (rango == 9) {
+            return 0;
+        }
+        if (rango == 1) {
+            return 10;
+        }
+        return rango;
     }
 
     /**
@@ -40,6 +180,42 @@ public class Carta {
         return valor;
     }
 
+    /**
+     * Devuelve el rango numérico de la carta.
+     *
+     * @return 1 para el As, 2 a 10 para los números y 11 a 13 para J, Q y K
+     */
+    public int getRango() {
+        return rango;
+    }
+
+    /**
+     * Devuelve el índice del palo de la carta.
+     *
+     * @return índice entre 0 y 3
+     */
+    public int getIndicePalo() {
+        return indicePalo;
+    }
+
+    /**
+     * Devuelve la posición de la carta dentro de la tabla canónica.
+     *
+     * @return ordinal entre 0 y 51
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Devuelve la máscara de un solo bit que identifica a la carta.
+     *
+     * @return {@code 1L << ordinal}
+     */
+    public long getMascara() {
+        return 1L << ordinal;
+    }
+
     /**
      * Calcula cuánto aporta la carta a la suma de la mesa considerando reglas
      * especiales para figuras y ases.
@@ -48,21 +224,26 @@ public class Carta {
      * @return cantidad que debe sumarse al total
      */
     public int valorParaSuma(int sumaActual) {
-        switch (valor) {
-            case "J":
-            case "Q":
-            case "K":
-                return -10;
-            case "9":
-                return 0;
-            case "A":
-                if (sumaActual + 10 <= 50) {
-                    return 10;
-                }
-                return 1;
-            default:
-                return Integer.parseInt(valor);
+        if (rango == 1 && sumaActual + 10 > 50) {
+            return 1;
+        }
+        return valorBase;
+    }
+
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
         }
+        if (!(otro instanceof Carta)) {
+            return false;
+        }
+        return ordinal == ((Carta) otro).ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
     }
 
     @Override
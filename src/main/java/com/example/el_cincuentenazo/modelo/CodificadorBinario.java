@@ -0,0 +1,167 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Búfer mínimo para escribir y leer las instantáneas de partida: bytes
+ * sueltos, enteros variables de 7 bits por byte, enteros con signo en zigzag,
+ * enteros fijos big-endian y cartas como un byte con su ordinal más uno.
+ */
+final class CodificadorBinario {
+
+    private byte[] datos;
+    private int posicion;
+    private final int limite;
+
+    /**
+     * Crea un búfer de escritura.
+     *
+     * @param capacidad tamaño inicial estimado
+     */
+    CodificadorBinario(int capacidad) {
+        this.datos = new byte[Math.max(16, capacidad)];
+        this.limite = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Crea un lector sobre datos ya escritos.
+     *
+     * @param datos bytes a leer, que no se copian
+     */
+    CodificadorBinario(byte[] datos) {
+        this.datos = datos;
+        this.limite = datos.length;
+    }
+
+    void escribirByte(int valor) {
+        asegurar(1);
+        datos[posicion++] = (byte) valor;
+    }
+
+    void escribirBytes(byte[] origen, int desde, int cantidad) {
+        asegurar(cantidad);
+        System.arraycopy(origen, desde, datos, posicion, cantidad);
+        posicion += cantidad;
+    }
+
+    void escribirVarint(long valor) {
+        asegurar(10);
+        while ((valor & ~0x7FL) != 0) {
+            datos[posicion++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        datos[posicion++] = (byte) valor;
+    }
+
+    void escribirZigzag(int valor) {
+        escribirVarint(((valor << 1) ^ (valor >> 31)) & 0xFFFFFFFFL);
+    }
+
+    void escribirInt(int valor) {
+        asegurar(Integer.BYTES);
+        for (int i = Integer.BYTES - 1; i >= 0; i--) {
+            datos[posicion++] = (byte) (valor >>> (i * 8));
+        }
+    }
+
+    void escribirLong(long valor) {
+        asegurar(Long.BYTES);
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            datos[posicion++] = (byte) (valor >>> (i * 8));
+        }
+    }
+
+    void escribirCarta(Carta carta) {
+        escribirByte(carta == null ? 0 : carta.getOrdinal() + 1);
+    }
+
+    int leerByte() {
+        if (posicion >= limite) {
+            throw new IllegalArgumentException("La instantánea está truncada");
+        }
+        return datos[posicion++] & 0xFF;
+    }
+
+    byte[] leerBytes(int cantidad) {
+        if (cantidad < 0 || cantidad > limite - posicion) {
+            throw new IllegalArgumentException("La instantánea está truncada");
+        }
+        byte[] copia = Arrays.copyOfRange(datos, posicion, posicion + cantidad);
+        posicion += cantidad;
+        return copia;
+    }
+
+    long leerVarint() {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < Long.SIZE; desplazamiento += 7) {
+            int actual = leerByte();
+            valor |= (long) (actual & 0x7F) << desplazamiento;
+            if ((actual & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Entero variable demasiado largo");
+    }
+
+    /**
+     * Lee un entero variable que debe caber entre cero y el máximo indicado.
+     */
+    int leerEntero(int maximo) {
+        long valor = leerVarint();
+        if (valor < 0 || valor > maximo) {
+            throw new IllegalArgumentException("Valor fuera de rango en la instantánea: " + valor);
+        }
+        return (int) valor;
+    }
+
+    int leerZigzag() {
+        int valor = (int) leerVarint();
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+
+    int leerInt() {
+        int valor = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            valor = (valor << 8) | leerByte();
+        }
+        return valor;
+    }
+
+    long leerLong() {
+        long valor = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            valor = (valor << 8) | leerByte();
+        }
+        return valor;
+    }
+
+    Carta leerCarta() {
+        int codigo = leerByte();
+        if (codigo > Carta.TOTAL_CARTAS) {
+            throw new IllegalArgumentException("Carta inválida en la instantánea: " + codigo);
+        }
+        return codigo == 0 ? null : Carta.de(codigo - 1);
+    }
+
+    boolean quedanDatos() {
+        return posicion < limite;
+    }
+
+    /**
+     * Indica cuántos bytes quedan por leer, para acotar lo que se reserve a
+     * partir de tamaños leídos de la instantánea.
+     */
+    int restantes() {
+        return limite - posicion;
+    }
+
+    byte[] aBytes() {
+        return Arrays.copyOf(datos, posicion);
+    }
+
+    private void asegurar(int cantidad) {
+        if (posicion + cantidad > datos.length) {
+            datos = Arrays.copyOf(datos, Math.max(datos.length << 1, posicion + cantidad));
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Posición inmutable de una partida: suma, turno, manos, mazo de robo, mesa,
+ * asientos eliminados y punto de la secuencia de mezcla. {@link #aplicar(int)}
+ * es una función pura que devuelve la posición siguiente con las mismas reglas
+ * que {@link Partida}, por lo que sirve para explorar alternativas sin copiar
+ * la partida entera.
+ * <p>
+ * Bifurcar una posición es barato porque casi todo se comparte: cada mano es
+ * un {@code long} con hasta ocho cartas de un byte, los eliminados son una
+ * máscara de bits, el mazo de robo es un arreglo que nunca se modifica y del
+ * que solo avanza el inicio, y la mesa es una pila enlazada donde jugar una
+ * carta agrega un nodo. Una jugada crea solo el estado nuevo, la copia del
+ * arreglo de manos y, salvo al reciclar, un nodo de mesa.
+ */
+public final class EstadoJuego {
+
+    /** Jugada que elimina al jugador en turno por no tener cartas seguras. */
+    public static final int SIN_JUGADA = -1;
+    /** Cartas que un jugador mantiene en la mano mientras haya para robar. */
+    public static final int CARTAS_POR_MANO = 4;
+    /** Cartas que caben en la representación compacta de una mano. */
+    private static final int MAXIMO_MANO = Long.BYTES;
+
+    private final int suma;
+    private final int turno;
+    private final long eliminados;
+    /** Una mano por asiento: el byte {@code i} guarda el ordinal más uno. */
+    private final long[] manos;
+    /** Mazo de robo compartido; las cartas por robar van de {@link #inicioRobo} al final. */
+    private final byte[] robo;
+    private final int inicioRobo;
+    private final Pila mesa;
+    private final long semilla;
+    private final long llamadas;
+    /** Si la partida sigue tras eliminar al asiento 0 hasta que quede uno solo. */
+    private final boolean hastaUltimoEnPie;
+
+    private EstadoJuego(int suma, int turno, long eliminados, long[] manos, byte[] robo, int inicioRobo,
+                        Pila mesa, long semilla, long llamadas, boolean hastaUltimoEnPie) {
+        this.suma = suma;
+        this.turno = turno;
+        this.eliminados = eliminados;
+        this.manos = manos;
+        this.robo = robo;
+        this.inicioRobo = inicioRobo;
+        this.mesa = mesa;
+        this.semilla = semilla;
+        this.llamadas = llamadas;
+        this.hastaUltimoEnPie = hastaUltimoEnPie;
+    }
+
+    /**
+     * Arma un estado a partir de los datos de una partida. El turno se mueve
+     * al primer asiento activo desde el indicado.
+     *
+     * @param suma       suma de la mesa
+     * @param turno      asiento que debe jugar
+     * @param eliminados bit {@code i} encendido si el asiento {@code i} quedó
+     *                   eliminado
+     * @param manos      manos ya empaquetadas con {@link #empaquetar(List)}
+     * @param robo       ordinales por robar, en el orden en que saldrán
+     * @param mesa       ordinales de la mesa, de la más antigua a la visible
+     * @param semilla          semilla del generador de mezclas
+     * @param llamadas         valores ya entregados por ese generador
+     * @param hastaUltimoEnPie si la partida sigue tras eliminar al asiento 0
+     * @return estado equivalente
+     */
+    static EstadoJuego crear(int suma, int turno, long eliminados, long[] manos, int[] robo, int[] mesa,
+                             long semilla, long llamadas, boolean hastaUltimoEnPie) {
+        byte[] cartasRobo = new byte[robo.length];
+        for (int i = 0; i < robo.length; i++) {
+            cartasRobo[i] = (byte) robo[i];
+        }
+        Pila pila = null;
+        for (int ordinal : mesa) {
+            pila = new Pila(ordinal, pila);
+        }
+        int enTurno = (eliminados & 1L << turno) == 0 ? turno : siguienteActivo(eliminados, manos.length, turno);
+        return new EstadoJuego(suma, enTurno, eliminados, manos, cartasRobo, 0, pila, semilla, llamadas,
+                hastaUltimoEnPie);
+    }
+
+    /**
+     * Empaqueta una mano en un {@code long}.
+     *
+     * @param mano cartas en orden
+     * @return mano compacta
+     * @throws IllegalStateException si la mano tiene más de ocho cartas
+     */
+    static long empaquetar(List<Carta> mano) {
+        if (mano.size() > MAXIMO_MANO) {
+            throw new IllegalStateException("La mano tiene demasiadas cartas para el estado compacto");
+        }
+        long empaquetada = 0;
+        for (int i = 0; i < mano.size(); i++) {
+            empaquetada |= (long) (mano.get(i).getOrdinal() + 1) << (i * Byte.SIZE);
+        }
+        return empaquetada;
+    }
+
+    /**
+     * Devuelve la posición que resulta de jugar en el turno actual. Jugar una
+     * carta la suma a la mesa, recicla la mesa si el mazo quedó vacío, repone
+     * la mano hasta {@link #CARTAS_POR_MANO} y pasa el turno al siguiente
+     * asiento activo. {@link #SIN_JUGADA} elimina al jugador en turno y solo se
+     * admite cuando no tiene cartas seguras. Este estado no cambia.
+     *
+     * @param jugada posición de la carta en la mano o {@link #SIN_JUGADA}
+     * @return estado siguiente
+     * @throws IllegalStateException    si la partida ya terminó
+     * @throws IllegalArgumentException si la jugada no es legal en esta posición
+     */
+    public EstadoJuego aplicar(int jugada) {
+        if (estaTerminada()) {
+            throw new IllegalStateException("La partida ya terminó");
+        }
+        int seguras = jugables();
+        if (jugada == SIN_JUGADA) {
+            if (seguras != 0) {
+                throw new IllegalArgumentException("El jugador en turno todavía tiene cartas seguras");
+            }
+            long nuevosEliminados = eliminados | 1L << turno;
+            long[] nuevasManos = manos.clone();
+            nuevasManos[turno] = 0;
+            return new EstadoJuego(suma, siguienteActivo(nuevosEliminados, manos.length, turno), nuevosEliminados,
+                    nuevasManos, robo, inicioRobo, mesa, semilla, llamadas, hastaUltimoEnPie);
+        }
+        if (jugada < 0 || jugada >= MAXIMO_MANO || (seguras & 1 << jugada) == 0) {
+            throw new IllegalArgumentException("La carta " + jugada + " no es una jugada segura");
+        }
+        long mano = manos[turno];
+        int ordinal = cartaEn(mano, jugada);
+        int nuevaSuma = suma + TablaJugadas.aporte(ordinal, suma);
+        mano = quitar(mano, jugada);
+        Pila nuevaMesa = new Pila(ordinal, mesa);
+        byte[] nuevoRobo = robo;
+        int nuevoInicio = inicioRobo;
+        long nuevasLlamadas = llamadas;
+        if (nuevoInicio == nuevoRobo.length && nuevaMesa.tamano > 1) {
+            GeneradorContado generador = GeneradorContado.restaurar(semilla, llamadas);
+            nuevoRobo = reciclar(nuevaMesa, generador);
+            nuevoInicio = 0;
+            nuevasLlamadas = generador.getLlamadas();
+            nuevaMesa = new Pila(ordinal, null);
+        }
+        int tamano = tamano(mano);
+        while (tamano < CARTAS_POR_MANO && nuevoInicio < nuevoRobo.length) {
+            mano |= (long) (nuevoRobo[nuevoInicio++] + 1) << (tamano++ * Byte.SIZE);
+        }
+        long[] nuevasManos = manos.clone();
+        nuevasManos[turno] = mano;
+        return new EstadoJuego(nuevaSuma, siguienteActivo(eliminados, manos.length, turno), eliminados, nuevasManos,
+                nuevoRobo, nuevoInicio, nuevaMesa, semilla, nuevasLlamadas, hastaUltimoEnPie);
+    }
+
+    /**
+     * Calcula qué posiciones de la mano del jugador en turno pueden jugarse.
+     *
+     * @return máscara con el bit {@code i} encendido si la carta {@code i} es
+     *         segura
+     */
+    public int jugables() {
+        long seguras = TablaJugadas.seguras(suma);
+        long mano = manos[turno];
+        int mascara = 0;
+        for (int i = 0; mano != 0; i++, mano >>>= Byte.SIZE) {
+            if ((seguras >>> ((int) (mano & 0xFF) - 1) & 1L) != 0) {
+                mascara |= 1 << i;
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Indica si la partida terminó.
+     *
+     * @return {@code true} cuando queda un jugador o el asiento 0 fue
+     *         eliminado, salvo que se juegue hasta el último en pie
+     */
+    public boolean estaTerminada() {
+        return !hastaUltimoEnPie && (eliminados & 1L) != 0
+                || Long.bitCount(~eliminados & asientos(manos.length)) <= 1;
+    }
+
+    /**
+     * Indica si la partida sigue tras eliminar al asiento 0.
+     *
+     * @return {@code true} si termina solo cuando queda un jugador
+     */
+    public boolean juegaHastaUltimoEnPie() {
+        return hastaUltimoEnPie;
+    }
+
+    /**
+     * Devuelve el menor asiento que sigue en pie, que es el ganador una vez
+     * terminada la partida.
+     *
+     * @return asiento activo o {@code -1} si ninguno quedó en pie
+     */
+    public int getAsientoGanador() {
+        long activos = ~eliminados & asientos(manos.length);
+        return activos == 0 ? -1 : Long.numberOfTrailingZeros(activos);
+    }
+
+    /**
+     * Devuelve la suma de la mesa.
+     *
+     * @return valor acumulado
+     */
+    public int getSuma() {
+        return suma;
+    }
+
+    /**
+     * Devuelve el asiento que debe jugar.
+     *
+     * @return índice del jugador en turno
+     */
+    public int getTurno() {
+        return turno;
+    }
+
+    /**
+     * Devuelve cuántos asientos tiene la mesa.
+     *
+     * @return cantidad de jugadores, incluido el humano
+     */
+    public int getJugadores() {
+        return manos.length;
+    }
+
+    /**
+     * Indica si un asiento quedó eliminado.
+     *
+     * @param asiento jugador consultado
+     * @return {@code true} si ya no participa
+     */
+    public boolean estaEliminado(int asiento) {
+        return (eliminados >>> asiento & 1L) != 0;
+    }
+
+    /**
+     * Indica cuántas cartas tiene un asiento.
+     *
+     * @param asiento jugador consultado
+     * @return tamaño de su mano
+     */
+    public int tamanoMano(int asiento) {
+        return tamano(manos[asiento]);
+    }
+
+    /**
+     * Consulta una carta de la mano de un asiento.
+     *
+     * @param asiento  jugador consultado
+     * @param posicion posición dentro de su mano
+     * @return ordinal de la carta
+     */
+    public int carta(int asiento, int posicion) {
+        if (posicion < 0 || posicion >= tamanoMano(asiento)) {
+            throw new IndexOutOfBoundsException("Posición fuera de la mano: " + posicion);
+        }
+        return cartaEn(manos[asiento], posicion);
+    }
+
+    /**
+     * Indica cuántas cartas quedan en el mazo de robo.
+     *
+     * @return cartas por robar
+     */
+    public int getCartasPorRobar() {
+        return robo.length - inicioRobo;
+    }
+
+    /**
+     * Indica cuántas cartas hay apiladas en la mesa, incluida la visible.
+     *
+     * @return tamaño de la pila de la mesa
+     */
+    public int getCartasEnMesa() {
+        return mesa == null ? 0 : mesa.tamano;
+    }
+
+    /**
+     * Devuelve la carta visible de la mesa.
+     *
+     * @return ordinal de la última carta jugada, o {@code -1} si la mesa está
+     *         vacía
+     */
+    public int getUltimaCarta() {
+        return mesa == null ? -1 : mesa.carta;
+    }
+
+    /**
+     * Compara dos posiciones carta por carta, incluido el punto de la
+     * secuencia de mezcla.
+     *
+     * @param otro objeto a comparar
+     * @return {@code true} si ambas posiciones continúan igual
+     */
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        if (!(otro instanceof EstadoJuego estado)) {
+            return false;
+        }
+        return suma == estado.suma && turno == estado.turno && eliminados == estado.eliminados
+                && semilla == estado.semilla && llamadas == estado.llamadas
+                && hastaUltimoEnPie == estado.hastaUltimoEnPie
+                && Arrays.equals(manos, estado.manos)
+                && Arrays.equals(robo, inicioRobo, robo.length, estado.robo, estado.inicioRobo, estado.robo.length)
+                && Pila.iguales(mesa, estado.mesa);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * suma + turno;
+        hash = 31 * hash + Long.hashCode(eliminados);
+        hash = 31 * hash + Long.hashCode(llamadas);
+        hash = 31 * hash + Arrays.hashCode(manos);
+        hash = 31 * hash + getCartasPorRobar();
+        return 31 * hash + getUltimaCarta();
+    }
+
+    /**
+     * Busca el siguiente asiento activo después del indicado, dando la vuelta.
+     * Si no queda ninguno, se mantiene el indicado.
+     */
+    private static int siguienteActivo(long eliminados, int jugadores, int desde) {
+        long activos = ~eliminados & asientos(jugadores);
+        long despues = activos & (-1L << desde << 1);
+        if (despues == 0) {
+            despues = activos;
+        }
+        return despues == 0 ? desde : Long.numberOfTrailingZeros(despues);
+    }
+
+    private static long asientos(int jugadores) {
+        return jugadores == Long.SIZE ? -1L : (1L << jugadores) - 1;
+    }
+
+    private static int cartaEn(long mano, int posicion) {
+        return (int) (mano >>> (posicion * Byte.SIZE) & 0xFF) - 1;
+    }
+
+    private static int tamano(long mano) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(mano) + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * Saca una carta de la mano y corre las siguientes una posición.
+     */
+    private static long quitar(long mano, int posicion) {
+        int corte = posicion * Byte.SIZE;
+        long anteriores = mano & ((1L << corte) - 1);
+        long posteriores = posicion + 1 == MAXIMO_MANO ? 0 : mano >>> (corte + Byte.SIZE);
+        return anteriores | posteriores << corte;
+    }
+
+    /**
+     * Forma el nuevo mazo con todas las cartas de la mesa salvo la visible, de
+     * la más antigua a la más reciente, y las mezcla igual que
+     * {@link Baraja#barajar(java.util.random.RandomGenerator)}.
+     */
+    private static byte[] reciclar(Pila mesa, GeneradorContado generador) {
+        byte[] cartas = new byte[mesa.tamano - 1];
+        Pila nodo = mesa.debajo;
+        for (int i = cartas.length - 1; i >= 0; i--, nodo = nodo.debajo) {
+            cartas[i] = nodo.carta;
+        }
+        for (int i = cartas.length - 1; i > 0; i--) {
+            int j = generador.nextInt(i + 1);
+            byte temporal = cartas[i];
+            cartas[i] = cartas[j];
+            cartas[j] = temporal;
+        }
+        return cartas;
+    }
+
+    /**
+     * Nodo inmutable de la pila de la mesa; los estados comparten los nodos
+     * de debajo.
+     */
+    private static final class Pila {
+        private final byte carta;
+        private final Pila debajo;
+        private final int tamano;
+
+        private Pila(int carta, Pila debajo) {
+            this.carta = (byte) carta;
+            this.debajo = debajo;
+            this.tamano = debajo == null ? 1 : debajo.tamano + 1;
+        }
+
+        private static boolean iguales(Pila a, Pila b) {
+            while (a != b) {
+                if (a == null || b == null || a.tamano != b.tamano || a.carta != b.carta) {
+                    return false;
+                }
+                a = a.debajo;
+                b = b.debajo;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.el_cincuentenazo.modelo;
+
+/**
+ * Forma de decidir qué carta juega un asiento automático. {@link Partida}
+ * puede recibir una estrategia por asiento con
+ * {@link Partida#setEstrategia(int, Estrategia)}; el asiento 0 solo la usa
+ * cuando la partida se juega sin interfaz.
+ */
+@FunctionalInterface
+public interface Estrategia {
+
+    /**
+     * Elige la carta a jugar entre las que no hacen superar 50.
+     *
+     * @param partida  partida en curso, para consultar la mesa y los rivales
+     * @param jugador  jugador que decide; su mano es {@link Jugador#getMano()}
+     * @param jugables máscara con el bit {@code i} encendido si la carta en la
+     *                 posición {@code i} de la mano es segura; nunca es cero
+     * @return posición elegida, que debe estar encendida en la máscara
+     */
+    int elegir(Partida partida, Jugador jugador, int jugables);
+}
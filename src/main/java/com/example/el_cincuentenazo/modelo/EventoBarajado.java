@@ -0,0 +1,26 @@
+package com.example.el_cincuentenazo.modelo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Flight Recorder con una mezcla de {@link Baraja}. Desactivado por
+ * defecto.
+ */
+@Name(EventoBarajado.NOMBRE)
+@Label("Barajado")
+@Category({"Cincuentenazo", "Motor"})
+@Enabled(false)
+@StackTrace(false)
+final class EventoBarajado extends Event {
+
+    /** Nombre del evento en las grabaciones. */
+    static final String NOMBRE = "cincuentenazo.Barajado";
+
+    @Label("Cartas")
+    int cartas;
+}
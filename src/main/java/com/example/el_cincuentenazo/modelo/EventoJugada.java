@@ -0,0 +1,60 @@
+package com.example.el_cincuentenazo.modelo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Flight Recorder con un turno individual: la jugada del humano o la
+ * de una CPU dentro de {@link Partida#jugarTurnoCPU()}. Está desactivado por
+ * defecto; si nadie lo activa, {@link #completar} no hace nada.
+ */
+@Name(EventoJugada.NOMBRE)
+@Label("Jugada")
+@Category({"Cincuentenazo", "Motor"})
+@Description("Turno de un jugador, desde que elige la carta hasta que roba")
+@Enabled(false)
+@StackTrace(false)
+final class EventoJugada extends Event {
+
+    /** Nombre del evento en las grabaciones. */
+    static final String NOMBRE = "cincuentenazo.Jugada";
+
+    @Label("Asiento")
+    int asiento;
+
+    @Label("Humano")
+    boolean humano;
+
+    @Label("Carta")
+    String carta;
+
+    @Label("Suma")
+    @Description("Suma de la mesa después del turno")
+    int suma;
+
+    @Label("Eliminado")
+    boolean eliminado;
+
+    /**
+     * Cierra la medición y la guarda si el evento está activo.
+     *
+     * @param asiento asiento que jugó
+     * @param carta   carta jugada o {@code null} si quedó eliminado
+     * @param suma    suma de la mesa tras el turno
+     */
+    void completar(int asiento, Carta carta, int suma) {
+        if (shouldCommit()) {
+            this.asiento = asiento;
+            this.humano = asiento == 0;
+            this.carta = carta == null ? null : carta.toString();
+            this.suma = suma;
+            this.eliminado = carta == null;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.el_cincuentenazo.modelo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Flight Recorder con un reciclaje de la mesa sobre la baraja de
+ * robo, incluida su mezcla. Desactivado por defecto.
+ */
+@Name(EventoReciclaje.NOMBRE)
+@Label("Reciclaje")
+@Category({"Cincuentenazo", "Motor"})
+@Enabled(false)
+@StackTrace(false)
+final class EventoReciclaje extends Event {
+
+    /** Nombre del evento en las grabaciones. */
+    static final String NOMBRE = "cincuentenazo.Reciclaje";
+
+    @Label("Cartas recicladas")
+    int cartas;
+
+    @Label("Suma")
+    int suma;
+}
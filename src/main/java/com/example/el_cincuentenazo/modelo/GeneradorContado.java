@@ -0,0 +1,58 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generador de la baraja de robo que recuerda su semilla y cuántos valores
+ * entregó. Produce exactamente la misma secuencia de
+ * {@link #nextInt(int)} que un {@link SplittableRandom} con la misma semilla,
+ * y su estado se puede guardar y reconstruir con solo esos dos números. Como
+ * cada valor depende únicamente de su posición en la secuencia, reconstruirlo
+ * en cualquier punto no cuesta nada.
+ */
+final class GeneradorContado implements RandomGenerator {
+
+    /** Incremento que usa {@link SplittableRandom} al crearse con una semilla. */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long semilla;
+    private long llamadas;
+
+    GeneradorContado(long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * Reconstruye un generador en el punto indicado de su secuencia.
+     *
+     * @param semilla  semilla original
+     * @param llamadas valores ya entregados
+     * @return generador en el mismo punto de la secuencia
+     */
+    static GeneradorContado restaurar(long semilla, long llamadas) {
+        GeneradorContado generador = new GeneradorContado(semilla);
+        generador.llamadas = llamadas;
+        return generador;
+    }
+
+    @Override
+    public int nextInt() {
+        long z = semilla + ++llamadas * GAMMA;
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        return ((long) nextInt() << 32) | (nextInt() & 0xFFFFFFFFL);
+    }
+
+    long getSemilla() {
+        return semilla;
+    }
+
+    long getLlamadas() {
+        return llamadas;
+    }
+}
@@ -17,6 +17,12 @@ public abstract class Jugador {
     protected final List<Carta> mano;
     /** Bandera que indica si el jugador salió de la partida. */
     protected boolean eliminado;
+    /** Posición en la mano de la última carta retirada para jugarse. */
+    private int indiceUltimaCarta;
+    /** Partida en la que está sentado, avisada al quedar eliminado. */
+    private Partida partida;
+    /** Asiento que ocupa en {@link #partida}. */
+    private int asiento;
 
     /**
      * Crea un nuevo jugador con su nombre y una mano vacía.
@@ -27,6 +33,7 @@ public abstract class Jugador {
         this.nombre = nombre;
         this.mano = new ArrayList<>();
         this.eliminado = false;
+        this.indiceUltimaCarta = -1;
     }
 
     /**
@@ -56,6 +63,16 @@ public abstract class Jugador {
         return Collections.unmodifiableList(mano);
     }
 
+    /**
+     * Representa la mano actual como una máscara de 64 bits con un bit por
+     * ordinal de carta. Dos copias de la misma carta ocupan un único bit.
+     *
+     * @return máscara de la mano
+     */
+    public long getMascaraMano() {
+        return Carta.mascaraDe(mano);
+    }
+
     /**
      * Entrega cuatro cartas iniciales tomadas de la baraja, siempre que haya
      * disponibilidad.
@@ -74,21 +91,98 @@ public abstract class Jugador {
 
     /**
      * Calcula qué cartas pueden jugarse sin que la suma supere el límite de 50.
+     * Crea una lista nueva en cada llamada, por lo que está pensada para la
+     * interfaz; el motor usa {@link #hayJugada(int)} o
+     * {@link #mascaraJugables(int)}.
      *
      * @param sumaMesa valor actual acumulado en la mesa
      * @return lista con las cartas seguras para jugar
      */
     public List<Carta> cartasJugables(int sumaMesa) {
+        long seguras = TablaJugadas.seguras(sumaMesa);
         List<Carta> jugables = new ArrayList<>();
         for (Carta carta : mano) {
-            int valor = carta.valorParaSuma(sumaMesa);
-            if (sumaMesa + valor <= 50) {
+            if ((seguras & carta.getMascara()) != 0) {
                 jugables.add(carta);
             }
         }
         return jugables;
     }
 
+    /**
+     * Indica si al menos una carta de la mano puede jugarse sin superar 50.
+     *
+     * @param sumaMesa valor actual acumulado en la mesa
+     * @return {@code true} si existe alguna jugada segura
+     */
+    public boolean hayJugada(int sumaMesa) {
+        return indicePrimeraJugable(sumaMesa) >= 0;
+    }
+
+    /**
+     * Cuenta cuántas cartas de la mano pueden jugarse sin superar 50.
+     *
+     * @param sumaMesa valor actual acumulado en la mesa
+     * @return cantidad de jugadas seguras
+     */
+    public int contarJugables(int sumaMesa) {
+        return Integer.bitCount(mascaraJugables(sumaMesa));
+    }
+
+    /**
+     * Calcula las jugadas seguras como una máscara de bits en la que el bit
+     * {@code i} se enciende si la carta en la posición {@code i} de la mano
+     * puede jugarse. Usa {@link TablaJugadas}, sin comparar carta por carta.
+     *
+     * @param sumaMesa valor actual acumulado en la mesa
+     * @return máscara de posiciones jugables
+     */
+    public int mascaraJugables(int sumaMesa) {
+        return TablaJugadas.mascaraMano(mano, sumaMesa);
+    }
+
+    /**
+     * Busca la primera carta de la mano que puede jugarse sin superar 50.
+     *
+     * @param sumaMesa valor actual acumulado en la mesa
+     * @return posición de la carta en la mano o {@code -1} si no hay ninguna
+     */
+    protected int indicePrimeraJugable(int sumaMesa) {
+        int mascara = mascaraJugables(sumaMesa);
+        return mascara == 0 ? -1 : Integer.numberOfTrailingZeros(mascara);
+    }
+
+    /**
+     * Retira de la mano la carta que se va a jugar y recuerda su posición, que
+     * la partida usa para registrar la jugada.
+     *
+     * @param indice posición de la carta dentro de la mano
+     * @return carta retirada
+     */
+    protected Carta retirarCarta(int indice) {
+        indiceUltimaCarta = indice;
+        return mano.remove(indice);
+    }
+
+    /**
+     * Devuelve la posición que ocupaba en la mano la última carta jugada.
+     *
+     * @return índice de la carta o {@code -1} si aún no jugó
+     */
+    int getIndiceUltimaCarta() {
+        return indiceUltimaCarta;
+    }
+
+    /**
+     * Restablece la posición de la última carta jugada al restaurar una
+     * instantánea.
+     *
+     * @param indiceUltimaCarta índice guardado
+     */
+    void setIndiceUltimaCarta(int indiceUltimaCarta) {
+        this.indiceUltimaCarta = indiceUltimaCarta;
+    }
+
     /**
      * Define la estrategia de cada tipo de jugador para decidir qué carta jugar.
      *
@@ -115,10 +209,30 @@ public abstract class Jugador {
     }
 
     /**
-     * Marca al jugador como eliminado y libera sus cartas actuales.
+     * Sienta al jugador en un asiento de la partida y lo deja activo.
+     *
+     * @param partida partida que lleva la cuenta de jugadores activos
+     * @param asiento índice del asiento
+     */
+    void sentar(Partida partida, int asiento) {
+        this.partida = partida;
+        this.asiento = asiento;
+        this.eliminado = false;
+    }
+
+    /**
+     * Marca al jugador como eliminado y libera sus cartas actuales. La partida
+     * en la que está sentado se entera en el momento, por lo que sus consultas
+     * de fin de juego no necesitan recorrer a los jugadores.
      */
     public void eliminar() {
-        eliminado = true;
         mano.clear();
+        if (eliminado) {
+            return;
+        }
+        eliminado = true;
+        if (partida != null) {
+            partida.registrarEliminacion(this, asiento);
+        }
     }
 }
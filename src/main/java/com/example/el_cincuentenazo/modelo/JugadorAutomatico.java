@@ -0,0 +1,63 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.Objects;
+
+/**
+ * Jugador automático cuya decisión se delega en una {@link Estrategia}.
+ */
+public class JugadorAutomatico extends Jugador {
+
+    private final Partida partida;
+    private final Estrategia estrategia;
+
+    /**
+     * Construye el jugador.
+     *
+     * @param nombre     etiqueta usada en la interfaz
+     * @param partida    partida en la que participa
+     * @param estrategia forma de elegir cada carta
+     */
+    public JugadorAutomatico(String nombre, Partida partida, Estrategia estrategia) {
+        super(nombre);
+        this.partida = Objects.requireNonNull(partida);
+        this.estrategia = Objects.requireNonNull(estrategia);
+    }
+
+    @Override
+    public Carta jugarCarta(int sumaMesa) {
+        int jugables = mascaraJugables(sumaMesa);
+        if (jugables == 0) {
+            return null;
+        }
+        return retirarCarta(elegirPosicion(estrategia, partida, this, jugables));
+    }
+
+    /**
+     * Devuelve la estrategia con la que decide este jugador.
+     *
+     * @return estrategia configurada
+     */
+    public Estrategia getEstrategia() {
+        return estrategia;
+    }
+
+    /**
+     * Consulta a una estrategia y comprueba que la posición devuelta sea una
+     * de las jugables.
+     *
+     * @param estrategia estrategia a consultar
+     * @param partida    partida en curso
+     * @param jugador    jugador que decide
+     * @param jugables   máscara de posiciones seguras, distinta de cero
+     * @return posición elegida
+     * @throws IllegalStateException si la estrategia elige una carta que no se
+     *                               puede jugar
+     */
+    public static int elegirPosicion(Estrategia estrategia, Partida partida, Jugador jugador, int jugables) {
+        int posicion = estrategia.elegir(partida, jugador, jugables);
+        if (posicion < 0 || posicion >= Integer.SIZE || (jugables & (1 << posicion)) == 0) {
+            throw new IllegalStateException("La estrategia eligió una carta que no se puede jugar: " + posicion);
+        }
+        return posicion;
+    }
+}
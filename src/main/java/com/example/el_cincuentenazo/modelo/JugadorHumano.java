@@ -17,7 +17,8 @@ public class JugadorHumano extends Jugador {
 
     @Override
     public Carta jugarCarta(int sumaMesa) {
-        return cartasJugables(sumaMesa).stream().findFirst().orElse(null);
+        int indice = indicePrimeraJugable(sumaMesa);
+        return indice < 0 ? null : mano.get(indice);
     }
 
     /**
@@ -32,11 +33,7 @@ public class JugadorHumano extends Jugador {
         if (carta == null) {
             return false;
         }
-        if (!mano.contains(carta)) {
-            return false;
-        }
-        int valor = carta.valorParaSuma(sumaMesa);
-        return sumaMesa + valor <= 50;
+        return TablaJugadas.esSegura(carta.getOrdinal(), sumaMesa) && mano.contains(carta);
     }
 
     /**
@@ -51,7 +48,6 @@ public class JugadorHumano extends Jugador {
         if (!puedeJugar(carta, sumaMesa)) {
             return null;
         }
-        mano.remove(carta);
-        return carta;
+        return retirarCarta(mano.indexOf(carta));
     }
 }
@@ -0,0 +1,40 @@
+package com.example.el_cincuentenazo.modelo;
+
+/**
+ * Recibe avisos de {@link Partida} cada vez que cambia una parte de su estado
+ * visible, para que una vista actualice solo lo que cambió. Los avisos se
+ * emiten en el hilo que modifica la partida, en medio de sus operaciones, por
+ * lo que el observador solo debe anotar el cambio y consultar la partida
+ * después.
+ */
+@FunctionalInterface
+public interface ObservadorPartida {
+
+    /** Asiento informado en los cambios que no corresponden a un jugador. */
+    int SIN_ASIENTO = -1;
+
+    /**
+     * Partes del estado que pueden cambiar.
+     */
+    enum Cambio {
+        /** La partida se inició o se restauró: todo puede ser distinto. */
+        REINICIO,
+        /** Cambiaron la suma y la carta visible de la mesa. */
+        SUMA,
+        /** Cambió la mano del humano. */
+        MANO_HUMANO,
+        /** Un jugador jugó una carta o quedó eliminado. */
+        JUGADOR,
+        /** Cambió el asiento en turno. */
+        TURNO
+    }
+
+    /**
+     * Avisa un cambio.
+     *
+     * @param cambio  parte del estado que cambió
+     * @param asiento jugador involucrado en {@link Cambio#JUGADOR}, o
+     *                {@link #SIN_ASIENTO}
+     */
+    void cambio(Cambio cambio, int asiento);
+}
@@ -1,69 +1,163 @@
 package com.example.el_cincuentenazo.modelo;
 
+import com.example.el_cincuentenazo.metricas.MetricasMotor;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 /**
  * Coordina el flujo completo de una partida del cincuentenazo, incluyendo la
  * administración de barajas, jugadores, turnos e historial de jugadas.
+ * <p>
+ * Una partida no es segura entre hilos. Con {@link #confinarAlHiloActual()}
+ * queda ligada a un único hilo dueño, y cualquier intento de modificarla o de
+ * capturarla desde otro hilo lanza {@link IllegalStateException}; el trabajo
+ * en paralelo se hace sobre copias obtenidas con {@link #copiar()}.
  */
 public class Partida {
 
     /** Ruta del archivo que contiene la definición textual de las cartas. */
     public static final String RUTA_BARAJA = "cartas.txt";
+    /** Cantidad máxima de rivales automáticos admitida por partida. */
+    public static final int MAX_CPUS = 63;
+    /** Jugadores que se reparten una misma baraja antes de sumar otra. */
+    public static final int JUGADORES_POR_BARAJA = 4;
+    /** Versión del formato de {@link #capturarInstantanea()}. */
+    public static final int VERSION_INSTANTANEA = 1;
+
+    /** Firma con la que empieza toda instantánea. */
+    private static final byte[] FIRMA_INSTANTANEA = {'C', '5', '0', 'S'};
+    /** Menor aporte de una carta a la suma, el de las figuras. */
+    private static final int APORTE_MINIMO = -10;
+
+    /** Marca de fin en la lista enlazada de asientos activos. */
+    private static final int FIN = -1;
+    /** Lista vacía de observadores, compartida por las partidas sin vista. */
+    private static final ObservadorPartida[] SIN_OBSERVADORES = new ObservadorPartida[0];
 
     private final JugadorHumano jugadorHumano;
     private final List<Jugador> jugadores;
     private final Baraja barajaComer;
     private final Baraja barajaMesa;
-    private final List<String> historial;
+    private final RegistroEventos eventos;
     private final Map<Jugador, Carta> ultimaCartaPorJugador;
+    private final RandomGenerator fuenteSemillas;
+    private final RegistroJugadas registro;
+    /** Generador de la baraja de robo, que permite guardar su posición. */
+    private GeneradorContado generadorRobo;
+    private ObservadorPartida[] observadores;
+    /** Único hilo que puede modificar la partida, o {@code null} si no se fijó. */
+    private Thread duenio;
 
+    private final Estrategia[] estrategias;
+    private Function<String, ? extends Jugador> fabricaCPU;
+    /** Si la partida sigue tras eliminar al humano hasta que quede uno solo. */
+    private boolean hastaUltimoEnPie;
+    private long semilla;
     private int sumaMesa;
     private int turnoActual;
     private Carta ultimaCartaMesa;
+    private int jugadasRealizadas;
+    private int barajas;
+    /** Jugadores que siguen en pie. */
+    private int jugadoresActivos;
+    /** Menor asiento activo o {@link #FIN}. */
+    private int primerActivo;
+    /**
+     * Siguiente y anterior asiento activo de cada asiento, en orden creciente.
+     * Un asiento eliminado conserva sus enlaces para poder seguir recorriendo
+     * desde él.
+     */
+    private int[] siguienteActivo;
+    private int[] anteriorActivo;
 
     /**
      * Construye una partida dejando listas las estructuras necesarias.
      */
     public Partida() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Construye una partida que obtiene la semilla de cada juego del generador
+     * recibido, de modo que una misma secuencia produce siempre los mismos
+     * repartos.
+     *
+     * @param fuenteSemillas generador del que se toma la semilla de cada
+     *                       llamada a {@link #iniciar(int)}
+     */
+    public Partida(RandomGenerator fuenteSemillas) {
+        this.fuenteSemillas = Objects.requireNonNull(fuenteSemillas);
         this.jugadorHumano = new JugadorHumano("Jugador");
         this.jugadores = new ArrayList<>();
         this.barajaComer = new Baraja(RUTA_BARAJA);
-        this.barajaMesa = new Baraja(RUTA_BARAJA);
-        this.barajaMesa.vaciar();
-        this.historial = new ArrayList<>();
+        this.barajaMesa = new Baraja();
+        this.eventos = new RegistroEventos();
         this.ultimaCartaPorJugador = new HashMap<>();
+        this.registro = new RegistroJugadas();
+        this.generadorRobo = new GeneradorContado(0L);
+        this.observadores = SIN_OBSERVADORES;
+        this.estrategias = new Estrategia[MAX_CPUS + 1];
+        this.fabricaCPU = CPU::new;
+        this.semilla = 0L;
         this.sumaMesa = 0;
         this.turnoActual = 0;
         this.ultimaCartaMesa = null;
+        this.jugadasRealizadas = 0;
+        this.barajas = 1;
+        this.jugadoresActivos = 0;
+        this.primerActivo = FIN;
+        this.siguienteActivo = new int[]{FIN};
+        this.anteriorActivo = new int[]{FIN};
     }
 
     /**
-     * Reinicia la partida con la cantidad de CPUs solicitada.
+     * Reinicia la partida con la cantidad de CPUs solicitada y una semilla
+     * nueva.
      *
-     * @param cantidadCPUs número de rivales automáticos (1 a 3)
+     * @param cantidadCPUs número de rivales automáticos (1 a {@link #MAX_CPUS})
      */
     public void iniciar(int cantidadCPUs) {
-        if (cantidadCPUs < 1 || cantidadCPUs > 3) {
-            throw new ConfiguracionInvalidaException("La cantidad de CPUs debe estar entre 1 y 3");
+        verificarHilo();
+        iniciar(cantidadCPUs, fuenteSemillas.nextLong());
+    }
+
+    /**
+     * Reinicia la partida con la cantidad de CPUs solicitada. Todas las mezclas
+     * de la partida, incluidas las de los reciclajes, dependen solo de la
+     * semilla, por lo que el mismo valor reproduce el mismo juego. Cada
+     * {@link #JUGADORES_POR_BARAJA} jugadores se suma una baraja completa al
+     * mazo.
+     *
+     * @param cantidadCPUs número de rivales automáticos (1 a {@link #MAX_CPUS})
+     * @param semilla      semilla del barajado
+     */
+    public void iniciar(int cantidadCPUs, long semilla) {
+        verificarHilo();
+        if (cantidadCPUs < 1 || cantidadCPUs > MAX_CPUS) {
+            throw new ConfiguracionInvalidaException("La cantidad de CPUs debe estar entre 1 y " + MAX_CPUS);
         }
+        this.semilla = semilla;
         jugadores.clear();
-        historial.clear();
+        eventos.limpiar();
         ultimaCartaPorJugador.clear();
+        registro.limpiar();
+        generadorRobo = new GeneradorContado(semilla);
+        barajaComer.setGenerador(generadorRobo);
         barajaComer.cargarDesdeArchivo(RUTA_BARAJA);
+        barajas = barajasNecesarias(cantidadCPUs + 1);
+        barajaComer.multiplicar(barajas);
         barajaComer.barajar();
         barajaMesa.vaciar();
-        jugadorHumano.eliminado = false;
-        jugadores.add(jugadorHumano);
-        for (int i = 1; i <= cantidadCPUs; i++) {
-            jugadores.add(new CPU("CPU " + i));
-        }
+        crearJugadores(cantidadCPUs);
         for (Jugador jugador : jugadores) {
-            jugador.eliminado = false;
             jugador.obtenerCartasIniciales(barajaComer);
             ultimaCartaPorJugador.put(jugador, null);
         }
@@ -74,8 +168,212 @@ public class Partida {
         barajaMesa.poner(cartaInicial);
         ultimaCartaMesa = cartaInicial;
         sumaMesa = cartaInicial.valorParaSuma(0);
-        historial.add("Comienza la partida con " + cartaInicial + ". Suma: " + sumaMesa + ".");
+        eventos.registrar(RegistroEventos.Tipo.INICIO, RegistroEventos.SIN_ASIENTO, cartaInicial, sumaMesa);
         turnoActual = 0;
+        jugadasRealizadas = 0;
+        notificar(ObservadorPartida.Cambio.REINICIO, ObservadorPartida.SIN_ASIENTO);
+    }
+
+    /**
+     * Registra un observador que recibirá los cambios de la partida. Una
+     * partida sin observadores no paga nada por los avisos.
+     *
+     * @param observador observador a agregar
+     */
+    public void agregarObservador(ObservadorPartida observador) {
+        verificarHilo();
+        Objects.requireNonNull(observador);
+        ObservadorPartida[] nuevos = Arrays.copyOf(observadores, observadores.length + 1);
+        nuevos[observadores.length] = observador;
+        observadores = nuevos;
+    }
+
+    /**
+     * Deja de avisar a un observador.
+     *
+     * @param observador observador a quitar; si no estaba registrado no pasa
+     *                   nada
+     */
+    public void quitarObservador(ObservadorPartida observador) {
+        verificarHilo();
+        for (int i = 0; i < observadores.length; i++) {
+            if (observadores[i] == observador) {
+                ObservadorPartida[] nuevos = new ObservadorPartida[observadores.length - 1];
+                System.arraycopy(observadores, 0, nuevos, 0, i);
+                System.arraycopy(observadores, i + 1, nuevos, i, nuevos.length - i);
+                observadores = nuevos.length == 0 ? SIN_OBSERVADORES : nuevos;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Liga la partida al hilo que llama, que pasa a ser el único autorizado a
+     * modificarla. Si ya tenía dueño, solo ese hilo puede cederla.
+     *
+     * @throws IllegalStateException si la partida pertenece a otro hilo
+     */
+    public void confinarAlHiloActual() {
+        verificarHilo();
+        duenio = Thread.currentThread();
+    }
+
+    /**
+     * Comprueba que la partida se use desde su hilo dueño, si lo tiene.
+     *
+     * @throws IllegalStateException si la llamada viene de otro hilo
+     */
+    private void verificarHilo() {
+        Thread actual = duenio;
+        if (actual != null && actual != Thread.currentThread()) {
+            throw new IllegalStateException("La partida solo puede usarse desde el hilo " + actual.getName());
+        }
+    }
+
+    /**
+     * Avisa un cambio a todos los observadores.
+     *
+     * @param cambio  parte del estado que cambió
+     * @param asiento jugador involucrado o {@link ObservadorPartida#SIN_ASIENTO}
+     */
+    private void notificar(ObservadorPartida.Cambio cambio, int asiento) {
+        for (ObservadorPartida observador : observadores) {
+            observador.cambio(cambio, asiento);
+        }
+    }
+
+    /**
+     * Sienta al humano y crea los rivales automáticos según las estrategias y
+     * la fábrica configuradas.
+     *
+     * @param cantidadCPUs número de rivales automáticos
+     */
+    private void crearJugadores(int cantidadCPUs) {
+        jugadores.clear();
+        jugadores.add(jugadorHumano);
+        for (int i = 1; i <= cantidadCPUs; i++) {
+            String nombre = "CPU " + i;
+            jugadores.add(estrategias[i] != null
+                    ? new JugadorAutomatico(nombre, this, estrategias[i])
+                    : Objects.requireNonNull(fabricaCPU.apply(nombre)));
+        }
+        prepararAsientosActivos();
+    }
+
+    /**
+     * Calcula cuántas barajas completas necesita una mesa.
+     *
+     * @param jugadores jugadores en la mesa, incluido el humano
+     * @return una baraja cada {@link #JUGADORES_POR_BARAJA} jugadores
+     */
+    public static int barajasNecesarias(int jugadores) {
+        return Math.max(1, (jugadores + JUGADORES_POR_BARAJA - 1) / JUGADORES_POR_BARAJA);
+    }
+
+    /**
+     * Sienta a los jugadores recién creados y arma la lista de asientos
+     * activos con todos ellos.
+     */
+    private void prepararAsientosActivos() {
+        int cantidad = jugadores.size();
+        if (siguienteActivo.length < cantidad) {
+            siguienteActivo = new int[cantidad];
+            anteriorActivo = new int[cantidad];
+        }
+        for (int i = 0; i < cantidad; i++) {
+            jugadores.get(i).sentar(this, i);
+            siguienteActivo[i] = i + 1 < cantidad ? i + 1 : FIN;
+            anteriorActivo[i] = i - 1;
+        }
+        primerActivo = cantidad > 0 ? 0 : FIN;
+        jugadoresActivos = cantidad;
+    }
+
+    /**
+     * Quita un asiento de la lista de activos. Lo invoca
+     * {@link Jugador#eliminar()} la primera vez que el jugador queda eliminado.
+     *
+     * @param jugador jugador eliminado
+     * @param asiento asiento que ocupa en esta partida
+     */
+    void registrarEliminacion(Jugador jugador, int asiento) {
+        if (asiento >= jugadores.size() || jugadores.get(asiento) != jugador) {
+            return;
+        }
+        int anterior = anteriorActivo[asiento];
+        int siguiente = siguienteActivo[asiento];
+        if (anterior == FIN) {
+            primerActivo = siguiente;
+        } else {
+            siguienteActivo[anterior] = siguiente;
+        }
+        if (siguiente != FIN) {
+            anteriorActivo[siguiente] = anterior;
+        }
+        jugadoresActivos--;
+    }
+
+    /**
+     * Define cómo se crean los rivales automáticos en los próximos inicios.
+     * Por defecto se usa {@link CPU}.
+     *
+     * @param fabricaCPU función que recibe el nombre visible y devuelve el
+     *                   jugador automático
+     */
+    public void setFabricaCPU(Function<String, ? extends Jugador> fabricaCPU) {
+        verificarHilo();
+        this.fabricaCPU = Objects.requireNonNull(fabricaCPU);
+    }
+
+    /**
+     * Asigna la estrategia de un asiento para los próximos inicios. En los
+     * asientos de CPU tiene prioridad sobre la fábrica; en el asiento 0 la usan
+     * los recorridos sin interfaz para jugar el turno del humano.
+     *
+     * @param asiento    índice del asiento (0 a {@link #MAX_CPUS})
+     * @param estrategia estrategia a usar o {@code null} para volver al
+     *                   comportamiento por defecto
+     */
+    public void setEstrategia(int asiento, Estrategia estrategia) {
+        verificarHilo();
+        if (asiento < 0 || asiento >= estrategias.length) {
+            throw new ConfiguracionInvalidaException("El asiento debe estar entre 0 y " + MAX_CPUS);
+        }
+        estrategias[asiento] = estrategia;
+    }
+
+    /**
+     * Define si la partida sigue cuando el humano queda eliminado. Por defecto
+     * termina en ese momento y gana el menor asiento en pie, como en la
+     * interfaz; los recorridos sin interfaz lo activan para que el asiento 0
+     * se juegue como uno más y las victorias por asiento no dependan de esa
+     * regla.
+     *
+     * @param hastaUltimoEnPie {@code true} para seguir jugando hasta que solo
+     *                         quede un jugador
+     */
+    public void setHastaUltimoEnPie(boolean hastaUltimoEnPie) {
+        verificarHilo();
+        this.hastaUltimoEnPie = hastaUltimoEnPie;
+    }
+
+    /**
+     * Indica si la partida sigue tras eliminar al humano.
+     *
+     * @return {@code true} si se juega hasta que solo quede un jugador
+     */
+    public boolean juegaHastaUltimoEnPie() {
+        return hastaUltimoEnPie;
+    }
+
+    /**
+     * Devuelve la estrategia asignada a un asiento.
+     *
+     * @param asiento índice del asiento
+     * @return estrategia configurada o {@code null} si usa la de por defecto
+     */
+    public Estrategia getEstrategia(int asiento) {
+        return asiento < estrategias.length ? estrategias[asiento] : null;
     }
 
     /**
@@ -115,12 +413,78 @@ public class Partida {
     }
 
     /**
-     * Proporciona una vista del historial de eventos.
+     * Proporciona el historial de eventos como texto. Las líneas se arman en
+     * cada llamada a partir del registro tipado, por lo que conviene no
+     * invocarlo en bucles calientes.
      *
-     * @return lista inmutable con las entradas registradas
+     * @return lista inmutable con las entradas guardadas, de la más antigua a
+     *         la más reciente
      */
     public List<String> getHistorial() {
-        return Collections.unmodifiableList(historial);
+        long desde = eventos.getPrimerDisponible();
+        long hasta = eventos.getTotal();
+        List<String> lineas = new ArrayList<>((int) (hasta - desde));
+        for (long i = desde; i < hasta; i++) {
+            lineas.add(formatearEvento(i));
+        }
+        return Collections.unmodifiableList(lineas);
+    }
+
+    /**
+     * Arma el texto de un evento guardado.
+     *
+     * @param indice índice absoluto del evento dentro del registro
+     * @return línea de historial legible
+     */
+    public String formatearEvento(long indice) {
+        int evento = eventos.evento(indice);
+        Carta carta = RegistroEventos.carta(evento);
+        int suma = RegistroEventos.suma(evento);
+        switch (RegistroEventos.tipo(evento)) {
+            case INICIO:
+                return "Comienza la partida con " + carta + ". Suma: " + suma + ".";
+            case JUGADA:
+                return nombreDelAsiento(evento) + " juega " + carta + ". Suma: " + suma + ".";
+            case HUMANO_SIN_JUGADAS:
+                return nombreDelAsiento(evento) + " no tiene jugadas y queda eliminado.";
+            case CPU_ELIMINADA:
+                return nombreDelAsiento(evento) + " no puede jugar y queda eliminado.";
+            case RECICLAJE:
+                return "Se recicla la mesa. La carta visible es " + carta + ".";
+            default:
+                throw new IllegalStateException("Tipo de evento desconocido");
+        }
+    }
+
+    /**
+     * Obtiene el nombre del jugador asociado a un evento.
+     *
+     * @param evento evento codificado
+     * @return nombre visible del jugador
+     */
+    private String nombreDelAsiento(int evento) {
+        return jugadores.get(RegistroEventos.asiento(evento)).getNombre();
+    }
+
+    /**
+     * Expone el registro tipado de eventos de la partida en curso.
+     *
+     * @return registro de eventos, que se vacía en cada inicio
+     */
+    public RegistroEventos getEventos() {
+        return eventos;
+    }
+
+    /**
+     * Cambia cómo se guarda el historial: completo, acotado a los últimos
+     * eventos o desactivado para simulaciones. Descarta lo ya registrado.
+     *
+     * @param modo      política de almacenamiento
+     * @param capacidad eventos a conservar en modo acotado
+     */
+    public void configurarHistorial(RegistroEventos.Modo modo, int capacidad) {
+        verificarHilo();
+        eventos.configurar(modo, capacidad);
     }
 
     /**
@@ -139,16 +503,21 @@ public class Partida {
      * @return {@code true} si al menos una carta es segura
      */
     public boolean humanoTieneJugada() {
-        return !jugadorHumano.cartasJugables(sumaMesa).isEmpty();
+        return jugadorHumano.hayJugada(sumaMesa);
     }
 
     /**
      * Marca al humano como eliminado cuando no puede jugar más cartas.
      */
     public void eliminarHumanoPorFaltaDeJugadas() {
+        verificarHilo();
         if (!jugadorHumano.estaEliminado()) {
             jugadorHumano.eliminar();
-            historial.add(jugadorHumano.getNombre() + " no tiene jugadas y queda eliminado.");
+            MetricasMotor.contar(MetricasMotor.Contador.ELIMINACIONES);
+            registro.agregarEliminacion();
+            eventos.registrar(RegistroEventos.Tipo.HUMANO_SIN_JUGADAS, 0, null, sumaMesa);
+            notificar(ObservadorPartida.Cambio.JUGADOR, 0);
+            notificar(ObservadorPartida.Cambio.MANO_HUMANO, ObservadorPartida.SIN_ASIENTO);
         }
     }
 
@@ -156,16 +525,29 @@ public class Partida {
      * Procesa la jugada del humano, validando la carta seleccionada.
      *
      * @param cartaElegida carta tomada desde la interfaz
-     * @throws JugadaInvalidaException si la jugada no es posible o la partida ya
-     *                                 terminó
+     * @throws JugadaInvalidaException si la jugada no es posible, la partida ya
+     *                                 terminó o todavía no es el turno del
+     *                                 humano
+     * @throws IllegalArgumentException si no se indica ninguna carta
      */
     public void jugarTurnoHumano(Carta cartaElegida) throws JugadaInvalidaException {
+        verificarHilo();
         if (estaTerminada()) {
             throw new JugadaInvalidaException("No se puede jugar, la partida ya terminó");
         }
+        if (turnoActual != 0) {
+            throw new JugadaInvalidaException("Todavía no es tu turno");
+        }
+        if (jugadorHumano.estaEliminado()) {
+            throw new JugadaInvalidaException("Ya no puedes jugar, quedaste eliminado");
+        }
         if (cartaElegida == null) {
-            throw new JugadaInvalidaException("Debe seleccionarse una carta válida");
+            throw new IllegalArgumentException("Debe seleccionarse una carta válida");
         }
+        boolean medir = MetricasMotor.estanActivas();
+        long inicio = medir ? System.nanoTime() : 0L;
+        EventoJugada evento = new EventoJugada();
+        evento.begin();
         Carta cartaJugada = jugadorHumano.jugarCartaElegida(cartaElegida, sumaMesa);
         if (cartaJugada == null) {
             throw new JugadaInvalidaException("La carta seleccionada haría superar 50 puntos");
@@ -175,29 +557,95 @@ public class Partida {
         barajaMesa.poner(cartaJugada);
         ultimaCartaMesa = cartaJugada;
         ultimaCartaPorJugador.put(jugadorHumano, cartaJugada);
-        historial.add(jugadorHumano.getNombre() + " juega " + cartaJugada + ". Suma: " + sumaMesa + ".");
+        registro.agregarJugada(jugadorHumano.getIndiceUltimaCarta());
+        jugadasRealizadas++;
+        eventos.registrar(RegistroEventos.Tipo.JUGADA, 0, cartaJugada, sumaMesa);
         reciclarSiHaceFalta();
         jugadorHumano.robarSiHaceFalta(barajaComer);
         turnoActual = 1;
+        evento.completar(0, cartaJugada, sumaMesa);
+        notificar(ObservadorPartida.Cambio.SUMA, ObservadorPartida.SIN_ASIENTO);
+        notificar(ObservadorPartida.Cambio.JUGADOR, 0);
+        notificar(ObservadorPartida.Cambio.MANO_HUMANO, ObservadorPartida.SIN_ASIENTO);
+        notificar(ObservadorPartida.Cambio.TURNO, ObservadorPartida.SIN_ASIENTO);
+        if (medir) {
+            MetricasMotor.contar(MetricasMotor.Contador.TURNOS);
+            MetricasMotor.registrar(MetricasMotor.Operacion.TURNO_HUMANO, System.nanoTime() - inicio);
+        }
     }
 
     /**
-     * Ejecuta los turnos consecutivos de todas las CPU activas.
+     * Ejecuta los turnos consecutivos de todas las CPU activas, recorriendo
+     * solo los asientos que siguen en pie. Si la ronda había quedado a medias,
+     * continúa desde la CPU en turno.
      */
     public void jugarTurnoCPU() {
-        for (int i = 1; i < jugadores.size(); i++) {
+        verificarHilo();
+        try {
+            jugarRondaCPU(null, 0);
+        } catch (JugadaInvalidaException e) {
+            throw new IllegalStateException("Una CPU eligió una jugada inválida", e);
+        }
+    }
+
+    /**
+     * Ejecuta los turnos de las CPU aplicando decisiones ya tomadas en lugar de
+     * consultarlas a cada jugador, con los mismos avisos que
+     * {@link #jugarTurnoCPU()}. Las decisiones usan el formato de
+     * {@link RegistroJugadas} y se consumen desde {@code desde} hasta cerrar la
+     * ronda o agotar el arreglo; en ese caso el turno queda en la CPU que
+     * sigue.
+     *
+     * @param decisiones entradas a aplicar, una por turno de CPU
+     * @param desde      primera entrada a consumir
+     * @throws JugadaInvalidaException si una decisión no es posible en la
+     *                                 posición alcanzada; los turnos anteriores
+     *                                 quedan jugados
+     */
+    public void jugarTurnoCPU(int[] decisiones, int desde) throws JugadaInvalidaException {
+        verificarHilo();
+        Objects.requireNonNull(decisiones);
+        if (desde < 0 || desde > decisiones.length) {
+            throw new IllegalArgumentException("Posición de inicio fuera de las decisiones: " + desde);
+        }
+        jugarRondaCPU(decisiones, desde);
+    }
+
+    private void jugarRondaCPU(int[] decisiones, int desde) throws JugadaInvalidaException {
+        boolean medir = MetricasMotor.estanActivas();
+        long inicio = medir ? System.nanoTime() : 0L;
+        int turnos = 0;
+        int eliminaciones = 0;
+        int cursor = desde;
+        boolean pendiente = false;
+        int primero;
+        if (turnoActual != 0 && !jugadores.get(turnoActual).estaEliminado()) {
+            primero = turnoActual;
+        } else {
+            primero = jugadorHumano.estaEliminado() ? primerActivo : siguienteActivo[0];
+        }
+        for (int i = primero; i != FIN; i = siguienteActivo[i]) {
             Jugador jugador = jugadores.get(i);
             turnoActual = i;
-            if (jugador.estaEliminado()) {
-                continue;
-            }
             if (estaTerminada()) {
                 break;
             }
-            Carta carta = jugador.jugarCarta(sumaMesa);
+            if (decisiones != null && cursor == decisiones.length) {
+                pendiente = true;
+                break;
+            }
+            EventoJugada evento = new EventoJugada();
+            evento.begin();
+            Carta carta = decisiones == null
+                    ? jugador.jugarCarta(sumaMesa)
+                    : aplicarDecision(jugador, decisiones[cursor++]);
             if (carta == null) {
                 jugador.eliminar();
-                historial.add(jugador.getNombre() + " no puede jugar y queda eliminado.");
+                eliminaciones++;
+                registro.agregarEliminacion();
+                eventos.registrar(RegistroEventos.Tipo.CPU_ELIMINADA, i, null, sumaMesa);
+                evento.completar(i, null, sumaMesa);
+                notificar(ObservadorPartida.Cambio.JUGADOR, i);
                 continue;
             }
             int valor = carta.valorParaSuma(sumaMesa);
@@ -205,14 +653,53 @@ public class Partida {
             barajaMesa.poner(carta);
             ultimaCartaMesa = carta;
             ultimaCartaPorJugador.put(jugador, carta);
-            historial.add(jugador.getNombre() + " juega " + carta + ". Suma: " + sumaMesa + ".");
+            registro.agregarJugada(jugador.getIndiceUltimaCarta());
+            jugadasRealizadas++;
+            turnos++;
+            eventos.registrar(RegistroEventos.Tipo.JUGADA, i, carta, sumaMesa);
             reciclarSiHaceFalta();
             jugador.robarSiHaceFalta(barajaComer);
+            evento.completar(i, carta, sumaMesa);
+            notificar(ObservadorPartida.Cambio.SUMA, ObservadorPartida.SIN_ASIENTO);
+            notificar(ObservadorPartida.Cambio.JUGADOR, i);
             if (estaTerminada()) {
                 break;
             }
         }
-        turnoActual = 0;
+        if (!pendiente) {
+            turnoActual = 0;
+        }
+        notificar(ObservadorPartida.Cambio.TURNO, ObservadorPartida.SIN_ASIENTO);
+        if (medir) {
+            MetricasMotor.contar(MetricasMotor.Contador.TURNOS, turnos);
+            MetricasMotor.contar(MetricasMotor.Contador.ELIMINACIONES, eliminaciones);
+            MetricasMotor.registrar(MetricasMotor.Operacion.TURNO_CPU, System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Retira de la mano la carta indicada por una decisión ya tomada,
+     * comprobando que sea jugable. Una eliminación solo se acepta si el
+     * jugador no tiene ninguna carta jugable.
+     *
+     * @param jugador  CPU en turno
+     * @param decision entrada en el formato de {@link RegistroJugadas}
+     * @return carta retirada o {@code null} si la decisión es eliminarse
+     * @throws JugadaInvalidaException si la decisión no es posible
+     */
+    private Carta aplicarDecision(Jugador jugador, int decision) throws JugadaInvalidaException {
+        int jugables = jugador.mascaraJugables(sumaMesa);
+        if (decision == RegistroJugadas.ELIMINACION) {
+            if (jugables != 0) {
+                throw new JugadaInvalidaException(jugador.getNombre() + " todavía tiene jugadas");
+            }
+            return null;
+        }
+        int indice = decision - 1;
+        if (indice < 0 || indice >= Integer.SIZE || (jugables & 1 << indice) == 0) {
+            throw new JugadaInvalidaException(jugador.getNombre() + " no puede jugar la carta en la posición " + indice);
+        }
+        return jugador.retirarCarta(indice);
     }
 
     /**
@@ -220,44 +707,41 @@ public class Partida {
      * cartas para robar.
      */
     public void reciclarSiHaceFalta() {
+        verificarHilo();
         if (!barajaComer.estaVacia()) {
             return;
         }
         if (barajaMesa.tamano() <= 1) {
             return;
         }
-        Carta ultima = barajaMesa.sacarUltimaCarta();
-        List<Carta> recicladas = new ArrayList<>();
-        Carta carta;
-        while ((carta = barajaMesa.robar()) != null) {
-            recicladas.add(carta);
+        boolean medir = MetricasMotor.estanActivas();
+        long inicio = medir ? System.nanoTime() : 0L;
+        EventoReciclaje evento = new EventoReciclaje();
+        evento.begin();
+        int cartasRecicladas = barajaMesa.tamano() - 1;
+        barajaComer.reciclarDesde(barajaMesa);
+        if (evento.shouldCommit()) {
+            evento.cartas = cartasRecicladas;
+            evento.suma = sumaMesa;
+            evento.commit();
         }
-        for (Carta reciclada : recicladas) {
-            barajaComer.poner(reciclada);
+        if (medir) {
+            MetricasMotor.contar(MetricasMotor.Contador.RECICLAJES);
+            MetricasMotor.registrar(MetricasMotor.Operacion.RECICLAJE, System.nanoTime() - inicio);
         }
-        barajaComer.barajar();
-        barajaMesa.vaciar();
-        barajaMesa.poner(ultima);
-        historial.add("Se recicla la mesa. La carta visible es " + ultima + ".");
+        Carta ultima = barajaMesa.verUltimaCarta();
+        eventos.registrar(RegistroEventos.Tipo.RECICLAJE, RegistroEventos.SIN_ASIENTO, ultima, sumaMesa);
     }
 
     /**
      * Indica si la partida ya terminó.
      *
      * @return {@code true} cuando solo queda un jugador o el humano fue
-     *         eliminado
+     *         eliminado, salvo que se juegue
+     *         {@linkplain #setHastaUltimoEnPie(boolean) hasta el último en pie}
      */
     public boolean estaTerminada() {
-        int jugadoresActivos = 0;
-        for (Jugador jugador : jugadores) {
-            if (!jugador.estaEliminado()) {
-                jugadoresActivos++;
-            }
-        }
-        if (jugadoresActivos <= 1) {
-            return true;
-        }
-        return jugadorHumano.estaEliminado();
+        return jugadoresActivos <= 1 || !hastaUltimoEnPie && jugadorHumano.estaEliminado();
     }
 
     /**
@@ -266,12 +750,34 @@ public class Partida {
      * @return jugador aún activo o {@code null} si ninguno quedó en pie
      */
     public Jugador ganador() {
-        for (Jugador jugador : jugadores) {
-            if (!jugador.estaEliminado()) {
-                return jugador;
-            }
-        }
-        return null;
+        return primerActivo == FIN ? null : jugadores.get(primerActivo);
+    }
+
+    /**
+     * Devuelve el asiento del ganador una vez concluida la partida.
+     *
+     * @return menor asiento aún activo o {@code -1} si ninguno quedó en pie
+     */
+    public int getAsientoGanador() {
+        return primerActivo;
+    }
+
+    /**
+     * Indica cuántos jugadores siguen en pie.
+     *
+     * @return jugadores no eliminados
+     */
+    public int getJugadoresActivos() {
+        return jugadoresActivos;
+    }
+
+    /**
+     * Indica cuántas barajas completas se mezclaron en la partida en curso.
+     *
+     * @return barajas usadas en el último inicio
+     */
+    public int getBarajas() {
+        return barajas;
     }
 
     /**
@@ -282,4 +788,244 @@ public class Partida {
     public int getTurnoActual() {
         return turnoActual;
     }
+
+    /**
+     * Indica cuántas cartas quedan en la baraja para robar.
+     *
+     * @return tamaño actual de la baraja de robo
+     */
+    public int getCartasPorRobar() {
+        return barajaComer.tamano();
+    }
+
+    /**
+     * Indica cuántas cartas hay apiladas en la mesa, incluida la visible.
+     *
+     * @return tamaño actual de la pila de la mesa
+     */
+    public int getCartasEnMesa() {
+        return barajaMesa.tamano();
+    }
+
+    /**
+     * Lista las cartas apiladas en la mesa, de la más antigua a la visible.
+     * Son las únicas cartas ya jugadas que no volvieron al mazo de robo.
+     *
+     * @return ordinales de las cartas de la mesa
+     */
+    public int[] getOrdinalesEnMesa() {
+        return barajaMesa.ordinales();
+    }
+
+    /**
+     * Lista las cartas del mazo de robo en el orden en que saldrán. Es
+     * información oculta para los jugadores; la usan las herramientas de
+     * análisis que resuelven posiciones con información completa.
+     *
+     * @return ordinales de las cartas por robar
+     */
+    public int[] getOrdinalesPorRobar() {
+        return barajaComer.ordinales();
+    }
+
+    /**
+     * Guarda el estado completo de la partida en un arreglo compacto: ambas
+     * barajas en orden, la mano y la eliminación de cada jugador, la suma, el
+     * turno, las últimas cartas, los dos historiales y la posición del
+     * generador de la baraja de robo. Solo lee el estado, por lo que debe
+     * llamarse desde el hilo que juega la partida; tarda unos microsegundos y
+     * el resultado puede escribirse a disco desde cualquier otro hilo.
+     *
+     * @return bytes en el formato {@link #VERSION_INSTANTANEA}
+     */
+    public byte[] capturarInstantanea() {
+        verificarHilo();
+        CodificadorBinario salida = new CodificadorBinario(
+                256 + barajas * Carta.TOTAL_CARTAS + registro.tamanoEnBytes()
+                + (int) (eventos.getTotal() - eventos.getPrimerDisponible()) * Integer.BYTES);
+        salida.escribirBytes(FIRMA_INSTANTANEA, 0, FIRMA_INSTANTANEA.length);
+        salida.escribirByte(VERSION_INSTANTANEA);
+        salida.escribirLong(semilla);
+        salida.escribirVarint(generadorRobo.getLlamadas());
+        salida.escribirVarint(barajas);
+        salida.escribirZigzag(sumaMesa);
+        salida.escribirVarint(turnoActual);
+        salida.escribirVarint(jugadasRealizadas);
+        salida.escribirCarta(ultimaCartaMesa);
+        salida.escribirVarint(jugadores.size());
+        for (Jugador jugador : jugadores) {
+            salida.escribirByte(jugador.estaEliminado() ? 1 : 0);
+            salida.escribirVarint(jugador.mano.size());
+            for (Carta carta : jugador.mano) {
+                salida.escribirCarta(carta);
+            }
+            salida.escribirCarta(ultimaCartaPorJugador.get(jugador));
+            salida.escribirZigzag(jugador.getIndiceUltimaCarta());
+        }
+        barajaComer.escribir(salida);
+        barajaMesa.escribir(salida);
+        registro.escribir(salida);
+        eventos.escribir(salida);
+        return salida.aBytes();
+    }
+
+    /**
+     * Devuelve la partida al estado guardado por
+     * {@link #capturarInstantanea()}. Los rivales se vuelven a crear con las
+     * estrategias y la fábrica configuradas en esta partida, y la baraja de
+     * robo sigue mezclando igual que la original, por lo que ambas continúan
+     * de forma idéntica. Los datos se validan por completo antes de tocar el
+     * estado actual.
+     *
+     * @param datos bytes de la instantánea
+     * @throws IllegalArgumentException si los datos están truncados, son de
+     *                                  otra versión o no describen una partida
+     *                                  válida
+     */
+    public void restaurarInstantanea(byte[] datos) {
+        verificarHilo();
+        CodificadorBinario entrada = new CodificadorBinario(Objects.requireNonNull(datos));
+        for (byte esperado : FIRMA_INSTANTANEA) {
+            if (entrada.leerByte() != esperado) {
+                throw new IllegalArgumentException("Los datos no son una instantánea de partida");
+            }
+        }
+        int version = entrada.leerByte();
+        if (version != VERSION_INSTANTANEA) {
+            throw new IllegalArgumentException("Versión de instantánea no soportada: " + version);
+        }
+        long semillaLeida = entrada.leerLong();
+        long llamadas = entrada.leerVarint();
+        int barajasLeidas = entrada.leerEntero(barajasNecesarias(MAX_CPUS + 1));
+        int maximoCartas = Math.max(1, barajasLeidas) * Carta.TOTAL_CARTAS;
+        int sumaLeida = entrada.leerZigzag();
+        int turnoLeido = entrada.leerEntero(MAX_CPUS);
+        int jugadasLeidas = entrada.leerEntero(Integer.MAX_VALUE);
+        Carta ultimaMesaLeida = entrada.leerCarta();
+        int cantidadJugadores = entrada.leerEntero(MAX_CPUS + 1);
+        if (cantidadJugadores < 2 || turnoLeido >= cantidadJugadores) {
+            throw new IllegalArgumentException("Cantidad de jugadores inválida en la instantánea");
+        }
+        if (sumaLeida > TablaJugadas.LIMITE || sumaLeida < (jugadasLeidas + 1L) * APORTE_MINIMO) {
+            throw new IllegalArgumentException("Suma de la mesa fuera de rango en la instantánea: " + sumaLeida);
+        }
+        boolean[] eliminados = new boolean[cantidadJugadores];
+        Carta[][] manos = new Carta[cantidadJugadores][];
+        Carta[] ultimas = new Carta[cantidadJugadores];
+        int[] indices = new int[cantidadJugadores];
+        for (int i = 0; i < cantidadJugadores; i++) {
+            int eliminado = entrada.leerByte();
+            if (eliminado > 1) {
+                throw new IllegalArgumentException("Marca de eliminación inválida en la instantánea");
+            }
+            eliminados[i] = eliminado == 1;
+            manos[i] = Baraja.leerCartas(entrada, maximoCartas);
+            ultimas[i] = entrada.leerCarta();
+            indices[i] = entrada.leerZigzag();
+        }
+        Carta[] porRobar = Baraja.leerCartas(entrada, maximoCartas);
+        Carta[] enMesa = Baraja.leerCartas(entrada, maximoCartas);
+        RegistroJugadas registroLeido = RegistroJugadas.leer(entrada);
+        RegistroEventos eventosLeidos = RegistroEventos.leer(entrada);
+        if (entrada.quedanDatos()) {
+            throw new IllegalArgumentException("La instantánea tiene datos sobrantes");
+        }
+
+        semilla = semillaLeida;
+        barajas = barajasLeidas;
+        crearJugadores(cantidadJugadores - 1);
+        ultimaCartaPorJugador.clear();
+        for (int i = 0; i < cantidadJugadores; i++) {
+            Jugador jugador = jugadores.get(i);
+            jugador.mano.clear();
+            Collections.addAll(jugador.mano, manos[i]);
+            if (eliminados[i]) {
+                jugador.eliminar();
+            }
+            jugador.setIndiceUltimaCarta(indices[i]);
+            ultimaCartaPorJugador.put(jugador, ultimas[i]);
+        }
+        generadorRobo = GeneradorContado.restaurar(semillaLeida, llamadas);
+        barajaComer.setGenerador(generadorRobo);
+        barajaComer.reemplazar(porRobar);
+        barajaMesa.reemplazar(enMesa);
+        registro.copiarDe(registroLeido);
+        eventos.copiarDe(eventosLeidos);
+        sumaMesa = sumaLeida;
+        turnoActual = turnoLeido;
+        jugadasRealizadas = jugadasLeidas;
+        ultimaCartaMesa = ultimaMesaLeida;
+        notificar(ObservadorPartida.Cambio.REINICIO, ObservadorPartida.SIN_ASIENTO);
+    }
+
+    /**
+     * Devuelve la posición actual como un valor inmutable. Sobre ella se pueden
+     * probar jugadas con {@link EstadoJuego#aplicar(int)} sin tocar la partida:
+     * jugar las mismas cartas aquí y allí lleva a la misma posición, incluidos
+     * los reciclajes de la mesa.
+     *
+     * @return estado equivalente a la partida en curso
+     */
+    public EstadoJuego getEstado() {
+        verificarHilo();
+        long[] manos = new long[jugadores.size()];
+        long eliminados = 0;
+        for (int i = 0; i < manos.length; i++) {
+            Jugador jugador = jugadores.get(i);
+            if (jugador.estaEliminado()) {
+                eliminados |= 1L << i;
+            }
+            manos[i] = EstadoJuego.empaquetar(jugador.mano);
+        }
+        return EstadoJuego.crear(sumaMesa, turnoActual, eliminados, manos, barajaComer.ordinales(),
+                barajaMesa.ordinales(), generadorRobo.getSemilla(), generadorRobo.getLlamadas(), hastaUltimoEnPie);
+    }
+
+    /**
+     * Crea una partida independiente en el mismo estado que esta, con las
+     * mismas estrategias, la misma fábrica de rivales y la misma regla de
+     * final, pero sin observadores.
+     * Sirve para calcular jugadas en otro hilo sin tocar la partida original;
+     * las estrategias y la fábrica deben poder usarse desde ese hilo y crear
+     * jugadores propios de cada partida. Debe llamarse desde el hilo dueño de
+     * esta partida; la copia no tiene dueño hasta que algún hilo la confine.
+     *
+     * @return copia lista para usarse desde cualquier hilo
+     */
+    public Partida copiar() {
+        Partida copia = new Partida(new SplittableRandom(semilla));
+        copia.fabricaCPU = fabricaCPU;
+        copia.hastaUltimoEnPie = hastaUltimoEnPie;
+        System.arraycopy(estrategias, 0, copia.estrategias, 0, estrategias.length);
+        copia.restaurarInstantanea(capturarInstantanea());
+        return copia;
+    }
+
+    /**
+     * Devuelve la semilla con la que se barajó la partida en curso.
+     *
+     * @return semilla usada en el último inicio
+     */
+    public long getSemilla() {
+        return semilla;
+    }
+
+    /**
+     * Expone el registro compacto de decisiones de la partida en curso, con una
+     * entrada por turno en el orden en que se jugaron.
+     *
+     * @return registro de jugadas, válido hasta el próximo inicio
+     */
+    public RegistroJugadas getRegistro() {
+        return registro;
+    }
+
+    /**
+     * Cuenta las cartas jugadas desde el último inicio de la partida.
+     *
+     * @return número de jugadas realizadas por todos los jugadores
+     */
+    public int getJugadasRealizadas() {
+        return jugadasRealizadas;
+    }
 }
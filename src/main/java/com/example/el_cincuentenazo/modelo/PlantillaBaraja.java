@@ -0,0 +1,168 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caché de barajas leídas desde archivo. Cada ruta se interpreta una sola vez
+ * y se guarda como un arreglo inmutable de cartas junto con la fecha de
+ * modificación del archivo; mientras esa fecha no cambie, las barajas se
+ * cargan copiando el arreglo en lugar de volver a leer y separar el texto.
+ */
+final class PlantillaBaraja {
+
+    /** Fecha usada para recursos que no cambian mientras corre la aplicación. */
+    private static final long SIN_FECHA = Long.MIN_VALUE;
+    /** Fecha usada cuando la ruta no existe. */
+    private static final long INEXISTENTE = Long.MIN_VALUE + 1;
+
+    private static final Map<String, PlantillaBaraja> CACHE = new ConcurrentHashMap<>();
+
+    private final long fechaModificacion;
+    /** Cartas en orden de archivo, o {@code null} si el archivo no es válido. */
+    private final Carta[] cartas;
+
+    private PlantillaBaraja(long fechaModificacion, Carta[] cartas) {
+        this.fechaModificacion = fechaModificacion;
+        this.cartas = cartas;
+    }
+
+    /**
+     * Obtiene las cartas descritas en una ruta, leyéndola solo si no está en
+     * caché o si el archivo cambió desde la última lectura.
+     *
+     * @param rutaArchivo archivo o recurso del classpath
+     * @return arreglo compartido que no debe modificarse, o {@code null} si la
+     *         ruta no existe o su formato es inválido
+     */
+    static Carta[] obtener(String rutaArchivo) {
+        long fecha = fechaDe(rutaArchivo);
+        PlantillaBaraja plantilla = CACHE.get(rutaArchivo);
+        if (plantilla == null || plantilla.fechaModificacion != fecha) {
+            plantilla = new PlantillaBaraja(fecha, fecha == INEXISTENTE ? null : leer(rutaArchivo));
+            CACHE.put(rutaArchivo, plantilla);
+        }
+        return plantilla.cartas;
+    }
+
+    /**
+     * Calcula la fecha de modificación de la ruta, resolviéndola igual que
+     * {@link #abrir(String)}.
+     */
+    private static long fechaDe(String rutaArchivo) {
+        try {
+            URL recurso = Thread.currentThread().getContextClassLoader().getResource(rutaArchivo);
+            if (recurso != null) {
+                if ("file".equals(recurso.getProtocol())) {
+                    return Files.getLastModifiedTime(Path.of(recurso.toURI())).toMillis();
+                }
+                return SIN_FECHA;
+            }
+            Path archivo = Path.of(rutaArchivo);
+            return Files.exists(archivo) ? Files.getLastModifiedTime(archivo).toMillis() : INEXISTENTE;
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return INEXISTENTE;
+        }
+    }
+
+    /**
+     * Lee y convierte todas las cartas del archivo.
+     *
+     * @return cartas leídas o {@code null} si ocurre cualquier error
+     */
+    private static Carta[] leer(String rutaArchivo) {
+        try {
+            InputStream entrada = abrir(rutaArchivo);
+            if (entrada == null) {
+                return null;
+            }
+            List<Carta> cartas = new ArrayList<>();
+            try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+                String linea;
+                while ((linea = lector.readLine()) != null) {
+                    procesarLinea(linea, cartas);
+                }
+            }
+            return cartas.toArray(new Carta[0]);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Intenta abrir la ruta dada como recurso del classpath o archivo físico.
+     *
+     * @param rutaArchivo cadena con la ruta del archivo
+     * @return flujo de entrada listo para leerse o {@code null} si no existe
+     */
+    private static InputStream abrir(String rutaArchivo) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        InputStream stream = classLoader.getResourceAsStream(rutaArchivo);
+        if (stream != null) {
+            return stream;
+        }
+        try {
+            return Files.newInputStream(Path.of(rutaArchivo));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Convierte una línea de texto en una o más cartas. Cada carta se resuelve
+     * a su instancia canónica de {@link Carta#de(String, String)}.
+     *
+     * @param linea  cadena con cartas separadas por coma o tabulación
+     * @param cartas lista donde se agregan las cartas leídas
+     */
+    private static void procesarLinea(String linea, List<Carta> cartas) {
+        String[] partes = linea.split("[\\t,]");
+        for (String parte : partes) {
+            String textoCarta = parte.trim();
+            if (textoCarta.isEmpty()) {
+                continue;
+            }
+            String[] secciones = textoCarta.split(" de ");
+            if (secciones.length != 2) {
+                throw new IllegalArgumentException("Formato de carta inválido: " + textoCarta);
+            }
+            String valor = normalizarValor(secciones[0]);
+            String palo = secciones[1].trim();
+            cartas.add(Carta.de(valor, palo));
+        }
+    }
+
+    /**
+     * Homogeneiza la forma escrita de los valores leídos.
+     *
+     * @param valorOriginal texto original encontrado en el archivo
+     * @return representación interna del valor
+     */
+    private static String normalizarValor(String valorOriginal) {
+        String limpio = valorOriginal.trim();
+        if (limpio.equalsIgnoreCase("As")) {
+            return "A";
+        }
+        if (limpio.equalsIgnoreCase("Sota")) {
+            return "J";
+        }
+        if (limpio.equalsIgnoreCase("Reina")) {
+            return "Q";
+        }
+        if (limpio.equalsIgnoreCase("Rey")) {
+            return "K";
+        }
+        return limpio.toUpperCase();
+    }
+}
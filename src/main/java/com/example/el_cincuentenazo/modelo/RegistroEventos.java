@@ -0,0 +1,285 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Bitácora tipada de los eventos de una partida. Cada evento se guarda como un
+ * único {@code int} con su tipo, el asiento involucrado, la carta y la suma de
+ * la mesa, de modo que registrar un turno no crea objetos. El texto legible se
+ * arma solo cuando alguien lo pide.
+ *
+ * <p>Según el {@link Modo} el registro crece sin límite, conserva únicamente
+ * los últimos eventos en un búfer circular o no guarda nada.</p>
+ */
+public class RegistroEventos {
+
+    /**
+     * Clases de evento que pueden registrarse.
+     */
+    public enum Tipo {
+        /** Se colocó la carta inicial de la mesa. */
+        INICIO,
+        /** Un jugador jugó una carta. */
+        JUGADA,
+        /** El humano se quedó sin jugadas y fue eliminado. */
+        HUMANO_SIN_JUGADAS,
+        /** Una CPU no pudo jugar y fue eliminada. */
+        CPU_ELIMINADA,
+        /** La mesa se recicló sobre la baraja de robo. */
+        RECICLAJE
+    }
+
+    /**
+     * Política de almacenamiento de los eventos.
+     */
+    public enum Modo {
+        /** Guarda todos los eventos de la partida. */
+        COMPLETO,
+        /** Guarda solo los eventos más recientes hasta la capacidad indicada. */
+        ACOTADO,
+        /** No guarda eventos; pensado para simulaciones sin interfaz. */
+        DESACTIVADO
+    }
+
+    /** Valor de asiento para eventos que no involucran a un jugador. */
+    public static final int SIN_ASIENTO = 0;
+    /**
+     * Eventos que puede conservar como máximo un historial acotado; también
+     * limita la capacidad inicial de uno completo.
+     */
+    public static final int CAPACIDAD_MAXIMA = 1 << 20;
+    /** Capacidad inicial del búfer en modo completo. */
+    private static final int CAPACIDAD_INICIAL = 64;
+
+    private static final Tipo[] TIPOS = Tipo.values();
+
+    private Modo modo;
+    private int[] eventos;
+    private long total;
+
+    /**
+     * Crea un registro completo.
+     */
+    public RegistroEventos() {
+        this(Modo.COMPLETO, CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Crea un registro con la política indicada.
+     *
+     * @param modo      política de almacenamiento
+     * @param capacidad eventos a conservar en modo acotado, o capacidad inicial
+     *                  en modo completo
+     */
+    public RegistroEventos(Modo modo, int capacidad) {
+        configurar(modo, capacidad);
+    }
+
+    /**
+     * Cambia la política de almacenamiento descartando los eventos guardados.
+     *
+     * @param modo      política de almacenamiento
+     * @param capacidad eventos a conservar en modo acotado, o capacidad inicial
+     *                  en modo completo
+     */
+    public void configurar(Modo modo, int capacidad) {
+        if (modo == Modo.ACOTADO && capacidad < 1) {
+            throw new ConfiguracionInvalidaException("El historial acotado necesita capacidad positiva");
+        }
+        if (modo == Modo.ACOTADO && capacidad > CAPACIDAD_MAXIMA) {
+            throw new ConfiguracionInvalidaException("El historial acotado admite hasta " + CAPACIDAD_MAXIMA + " eventos");
+        }
+        this.modo = modo;
+        this.eventos = modo == Modo.DESACTIVADO ? new int[0]
+                : new int[Math.max(1, Math.min(capacidad, CAPACIDAD_MAXIMA))];
+        this.total = 0;
+    }
+
+    /**
+     * Registra un evento.
+     *
+     * @param tipo    clase de evento
+     * @param asiento índice del jugador involucrado
+     * @param carta   carta involucrada o {@code null}
+     * @param suma    suma de la mesa tras el evento
+     */
+    public void registrar(Tipo tipo, int asiento, Carta carta, int suma) {
+        if (modo == Modo.DESACTIVADO) {
+            total++;
+            return;
+        }
+        int codigoCarta = carta == null ? 0 : carta.getOrdinal() + 1;
+        int evento = tipo.ordinal() << 29 | (asiento & 0x7F) << 22 | codigoCarta << 16 | (suma & 0xFFFF);
+        if (modo == Modo.COMPLETO) {
+            if (total == eventos.length) {
+                eventos = Arrays.copyOf(eventos, eventos.length << 1);
+            }
+            eventos[(int) total] = evento;
+        } else {
+            eventos[(int) (total % eventos.length)] = evento;
+        }
+        total++;
+    }
+
+    /**
+     * Descarta todos los eventos conservando la política.
+     */
+    public void limpiar() {
+        total = 0;
+    }
+
+    /**
+     * Escribe la política, la capacidad, el total y los eventos que siguen
+     * guardados, del más antiguo al más reciente.
+     *
+     * @param salida búfer de la instantánea
+     */
+    void escribir(CodificadorBinario salida) {
+        salida.escribirByte(modo.ordinal());
+        salida.escribirVarint(eventos.length);
+        salida.escribirVarint(total);
+        long desde = getPrimerDisponible();
+        salida.escribirVarint(total - desde);
+        for (long i = desde; i < total; i++) {
+            salida.escribirInt(eventos[(int) (i % eventos.length)]);
+        }
+    }
+
+    /**
+     * Lee un registro escrito por {@link #escribir(CodificadorBinario)}. Los
+     * tamaños leídos se acotan antes de reservar memoria: los eventos guardados
+     * no pueden superar los bytes que quedan y la capacidad no puede superar
+     * {@link #CAPACIDAD_MAXIMA}, salvo en un historial completo que ya creció
+     * por duplicación hasta el doble de sus eventos.
+     *
+     * @param entrada búfer de la instantánea
+     * @return registro con la misma política y los mismos eventos
+     * @throws IllegalArgumentException si los tamaños no son coherentes
+     */
+    static RegistroEventos leer(CodificadorBinario entrada) {
+        int codigoModo = entrada.leerByte();
+        if (codigoModo >= Modo.values().length) {
+            throw new IllegalArgumentException("Modo de historial inválido: " + codigoModo);
+        }
+        Modo modo = Modo.values()[codigoModo];
+        int capacidad = entrada.leerEntero(Integer.MAX_VALUE);
+        long total = entrada.leerVarint();
+        int guardados = entrada.leerEntero(entrada.restantes() / Integer.BYTES);
+        boolean coherente = switch (modo) {
+            case COMPLETO -> guardados == total && capacidad >= Math.max(1, guardados)
+                    && capacidad <= Math.max(CAPACIDAD_MAXIMA, 2L * guardados);
+            case ACOTADO -> capacidad >= 1 && capacidad <= CAPACIDAD_MAXIMA && guardados <= capacidad
+                    && guardados <= total;
+            case DESACTIVADO -> guardados == 0 && total >= 0;
+        };
+        if (!coherente) {
+            throw new IllegalArgumentException("Historial inconsistente en la instantánea");
+        }
+        RegistroEventos registro = new RegistroEventos(modo, capacidad);
+        if (modo == Modo.COMPLETO) {
+            registro.eventos = new int[capacidad];
+        }
+        registro.total = total;
+        for (long i = total - guardados; i < total; i++) {
+            registro.eventos[(int) (i % registro.eventos.length)] = entrada.leerInt();
+        }
+        return registro;
+    }
+
+    /**
+     * Reemplaza la política y los eventos por los de otro registro.
+     *
+     * @param otro registro a copiar
+     */
+    void copiarDe(RegistroEventos otro) {
+        modo = otro.modo;
+        eventos = otro.eventos.clone();
+        total = otro.total;
+    }
+
+    /**
+     * Devuelve la política de almacenamiento vigente.
+     *
+     * @return modo configurado
+     */
+    public Modo getModo() {
+        return modo;
+    }
+
+    /**
+     * Cuenta los eventos registrados desde el último reinicio, estén o no
+     * guardados todavía.
+     *
+     * @return total de eventos registrados
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Devuelve el índice del evento más antiguo que sigue guardado.
+     *
+     * @return primer índice consultable con {@link #evento(long)}
+     */
+    public long getPrimerDisponible() {
+        if (modo == Modo.DESACTIVADO) {
+            return total;
+        }
+        return Math.max(0, total - eventos.length);
+    }
+
+    /**
+     * Obtiene un evento codificado por su índice absoluto.
+     *
+     * @param indice índice entre {@link #getPrimerDisponible()} y
+     *               {@link #getTotal()} (exclusivo)
+     * @return evento codificado
+     */
+    public int evento(long indice) {
+        if (indice < getPrimerDisponible() || indice >= total) {
+            throw new IndexOutOfBoundsException("Evento no disponible: " + indice);
+        }
+        return eventos[(int) (indice % eventos.length)];
+    }
+
+    /**
+     * Extrae el tipo de un evento codificado.
+     *
+     * @param evento evento codificado
+     * @return tipo del evento
+     */
+    public static Tipo tipo(int evento) {
+        return TIPOS[evento >>> 29];
+    }
+
+    /**
+     * Extrae el asiento de un evento codificado.
+     *
+     * @param evento evento codificado
+     * @return índice del jugador
+     */
+    public static int asiento(int evento) {
+        return (evento >>> 22) & 0x7F;
+    }
+
+    /**
+     * Extrae la carta de un evento codificado.
+     *
+     * @param evento evento codificado
+     * @return carta canónica o {@code null} si el evento no tiene carta
+     */
+    public static Carta carta(int evento) {
+        int codigo = (evento >>> 16) & 0x3F;
+        return codigo == 0 ? null : Carta.de(codigo - 1);
+    }
+
+    /**
+     * Extrae la suma de la mesa de un evento codificado.
+     *
+     * @param evento evento codificado
+     * @return suma tras el evento
+     */
+    public static int suma(int evento) {
+        return (short) evento;
+    }
+}
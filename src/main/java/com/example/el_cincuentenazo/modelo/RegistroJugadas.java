@@ -0,0 +1,219 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.Arrays;
+
+/**
+ * Secuencia compacta de las decisiones tomadas en una partida, una por turno,
+ * codificadas como enteros variables (varint) de 7 bits por byte. Cada entrada
+ * vale {@code 0} cuando el jugador quedó eliminado o la posición de la carta
+ * jugada dentro de su mano más uno, por lo que casi siempre ocupa un byte.
+ *
+ * <p>Junto con la semilla y la cantidad de jugadores basta para reproducir la
+ * partida completa.</p>
+ */
+public class RegistroJugadas {
+
+    /** Entrada que indica que el jugador del turno quedó eliminado. */
+    public static final int ELIMINACION = 0;
+
+    private byte[] bytes;
+    private int tamano;
+    private int cantidad;
+
+    /**
+     * Crea un registro vacío.
+     */
+    public RegistroJugadas() {
+        this.bytes = new byte[64];
+        this.tamano = 0;
+        this.cantidad = 0;
+    }
+
+    /**
+     * Reconstruye un registro a partir de sus bytes codificados.
+     *
+     * @param codificado bytes con las entradas en formato varint
+     * @param cantidad   número de entradas contenidas
+     * @throws IllegalArgumentException si los bytes no contienen exactamente
+     *                                  esa cantidad de entradas completas
+     */
+    public RegistroJugadas(byte[] codificado, int cantidad) {
+        if (cantidad != contarEntradas(codificado)) {
+            throw new IllegalArgumentException("Los bytes no contienen " + cantidad + " entradas completas");
+        }
+        this.bytes = Arrays.copyOf(codificado, Math.max(codificado.length, 16));
+        this.tamano = codificado.length;
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Agrega la entrada de un turno.
+     *
+     * @param valor entrada no negativa a registrar
+     */
+    public void agregar(int valor) {
+        if (tamano + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length << 1);
+        }
+        tamano = escribirVarint(bytes, tamano, valor);
+        cantidad++;
+    }
+
+    /**
+     * Registra una carta jugada desde la posición indicada de la mano.
+     *
+     * @param indiceEnMano posición de la carta antes de jugarla
+     */
+    public void agregarJugada(int indiceEnMano) {
+        agregar(indiceEnMano + 1);
+    }
+
+    /**
+     * Registra la eliminación del jugador del turno.
+     */
+    public void agregarEliminacion() {
+        agregar(ELIMINACION);
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void limpiar() {
+        tamano = 0;
+        cantidad = 0;
+    }
+
+    /**
+     * Indica cuántas entradas contiene el registro.
+     *
+     * @return cantidad de turnos registrados
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Indica cuántos bytes ocupan las entradas codificadas.
+     *
+     * @return tamaño en bytes
+     */
+    public int tamanoEnBytes() {
+        return tamano;
+    }
+
+    /**
+     * Devuelve una copia de los bytes codificados.
+     *
+     * @return arreglo con las entradas en formato varint
+     */
+    public byte[] aBytes() {
+        return Arrays.copyOf(bytes, tamano);
+    }
+
+    /**
+     * Decodifica todas las entradas.
+     *
+     * @return arreglo con una entrada por turno
+     */
+    public int[] decodificar() {
+        int[] valores = new int[cantidad];
+        int posicion = 0;
+        for (int i = 0; i < cantidad; i++) {
+            int valor = 0;
+            int desplazamiento = 0;
+            byte actual;
+            do {
+                actual = bytes[posicion++];
+                valor |= (actual & 0x7F) << desplazamiento;
+                desplazamiento += 7;
+            } while (actual < 0);
+            valores[i] = valor;
+        }
+        return valores;
+    }
+
+    /**
+     * Compara el contenido codificado con el de otro registro.
+     *
+     * @param otro registro a comparar
+     * @return {@code true} si ambos contienen las mismas entradas
+     */
+    public boolean mismoContenido(RegistroJugadas otro) {
+        return cantidad == otro.cantidad
+                && Arrays.equals(bytes, 0, tamano, otro.bytes, 0, otro.tamano);
+    }
+
+    /**
+     * Escribe la cantidad de entradas, el tamaño y los bytes codificados.
+     *
+     * @param salida búfer de la instantánea
+     */
+    void escribir(CodificadorBinario salida) {
+        salida.escribirVarint(cantidad);
+        salida.escribirVarint(tamano);
+        salida.escribirBytes(bytes, 0, tamano);
+    }
+
+    /**
+     * Lee un registro escrito por {@link #escribir(CodificadorBinario)}.
+     *
+     * @param entrada búfer de la instantánea
+     * @return registro con las mismas entradas
+     */
+    static RegistroJugadas leer(CodificadorBinario entrada) {
+        int cantidad = entrada.leerEntero(entrada.restantes());
+        byte[] codificado = entrada.leerBytes(entrada.leerEntero(entrada.restantes()));
+        return new RegistroJugadas(codificado, cantidad);
+    }
+
+    /**
+     * Cuenta las entradas de una secuencia varint, comprobando que la última
+     * no quede cortada y que ninguna ocupe más de cinco bytes.
+     *
+     * @param codificado bytes a recorrer
+     * @return cantidad de entradas o {@code -1} si la secuencia está mal
+     *         formada
+     */
+    private static int contarEntradas(byte[] codificado) {
+        int entradas = 0;
+        int longitud = 0;
+        for (byte actual : codificado) {
+            if (++longitud > 5) {
+                return -1;
+            }
+            if (actual >= 0) {
+                entradas++;
+                longitud = 0;
+            }
+        }
+        return longitud == 0 ? entradas : -1;
+    }
+
+    /**
+     * Reemplaza el contenido por el de otro registro.
+     *
+     * @param otro registro a copiar
+     */
+    void copiarDe(RegistroJugadas otro) {
+        bytes = Arrays.copyOf(otro.bytes, Math.max(otro.bytes.length, 16));
+        tamano = otro.tamano;
+        cantidad = otro.cantidad;
+    }
+
+    /**
+     * Escribe un entero no negativo en formato varint.
+     *
+     * @param destino  arreglo de salida con espacio suficiente
+     * @param posicion primera posición libre
+     * @param valor    entero a escribir
+     * @return posición siguiente al último byte escrito
+     */
+    public static int escribirVarint(byte[] destino, int posicion, int valor) {
+        while ((valor & ~0x7F) != 0) {
+            destino[posicion++] = (byte) ((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        destino[posicion++] = (byte) valor;
+        return posicion;
+    }
+}
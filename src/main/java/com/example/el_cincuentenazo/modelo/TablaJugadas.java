@@ -0,0 +1,125 @@
+package com.example.el_cincuentenazo.modelo;
+
+import java.util.List;
+
+/**
+ * Tablas precalculadas de aportes y jugadas seguras por suma de la mesa.
+ *
+ * <p>Con una suma de hasta 40 cualquier carta es segura y el As vale 10; solo
+ * entre 41 y 50 cambian el valor del As y las cartas permitidas. Por eso bastan
+ * once filas, de 40 a 50, y las sumas menores usan la primera. Cada fila guarda
+ * el aporte de las 52 cartas y una máscara de 64 bits con las que no hacen
+ * superar 50, de modo que saber qué cartas de una mano son seguras cuesta una
+ * lectura de tabla y un desplazamiento por carta, sin comparaciones. Las
+ * tablas se derivan de {@link Carta#valorParaSuma(int)}, que sigue siendo la
+ * definición de las reglas.</p>
+ */
+public final class TablaJugadas {
+
+    /** Suma máxima permitida en la mesa. */
+    public static final int LIMITE = 50;
+
+    /** Primera suma en la que alguna carta deja de ser segura. */
+    private static final int PRIMERA_SUMA = LIMITE - 10;
+    private static final int FILAS = LIMITE - PRIMERA_SUMA + 1;
+
+    /** Cartas seguras de cada fila, con un bit por ordinal. */
+    private static final long[] SEGURAS = new long[FILAS];
+    /** Aporte de cada carta en cada fila, en {@code fila * TOTAL_CARTAS + ordinal}. */
+    private static final byte[] APORTES = new byte[FILAS * Carta.TOTAL_CARTAS];
+
+    static {
+        for (int fila = 0; fila < FILAS; fila++) {
+            int suma = PRIMERA_SUMA + fila;
+            for (int ordinal = 0; ordinal < Carta.TOTAL_CARTAS; ordinal++) {
+                int aporte = Carta.de(ordinal).valorParaSuma(suma);
+                APORTES[fila * Carta.TOTAL_CARTAS + ordinal] = (byte) aporte;
+                if (suma + aporte <= LIMITE) {
+                    SEGURAS[fila] |= 1L << ordinal;
+                }
+            }
+        }
+    }
+
+    private TablaJugadas() {
+    }
+
+    /**
+     * Calcula la fila de una suma recortándola al rango de 40 a 50.
+     *
+     * @param suma suma de la mesa
+     * @return índice de fila
+     */
+    private static int fila(int suma) {
+        return Math.min(Math.max(suma, PRIMERA_SUMA), LIMITE) - PRIMERA_SUMA;
+    }
+
+    /**
+     * Devuelve las cartas que pueden jugarse con una suma dada.
+     *
+     * @param suma suma de la mesa, como máximo {@link #LIMITE}
+     * @return máscara con un bit encendido por ordinal seguro
+     */
+    public static long seguras(int suma) {
+        return SEGURAS[fila(suma)];
+    }
+
+    /**
+     * Indica si una carta puede jugarse con una suma dada.
+     *
+     * @param ordinal ordinal de la carta
+     * @param suma    suma de la mesa, como máximo {@link #LIMITE}
+     * @return {@code true} si no hace superar el límite
+     */
+    public static boolean esSegura(int ordinal, int suma) {
+        return (seguras(suma) >>> ordinal & 1L) != 0;
+    }
+
+    /**
+     * Devuelve cuánto suma una carta, igual que
+     * {@link Carta#valorParaSuma(int)}.
+     *
+     * @param ordinal ordinal de la carta
+     * @param suma    suma de la mesa antes de jugarla
+     * @return aporte de la carta
+     */
+    public static int aporte(int ordinal, int suma) {
+        return APORTES[fila(suma) * Carta.TOTAL_CARTAS + ordinal];
+    }
+
+    /**
+     * Calcula las posiciones seguras de una mano.
+     *
+     * @param mano cartas en orden
+     * @param suma suma de la mesa, como máximo {@link #LIMITE}
+     * @return máscara con el bit {@code i} encendido si la carta {@code i} es
+     *         segura
+     */
+    public static int mascaraMano(List<Carta> mano, int suma) {
+        long seguras = seguras(suma);
+        int mascara = 0;
+        for (int i = 0; i < mano.size(); i++) {
+            mascara |= (int) (seguras >>> mano.get(i).getOrdinal() & 1L) << i;
+        }
+        return mascara;
+    }
+
+    /**
+     * Calcula las posiciones seguras de una mano guardada como ordinales.
+     *
+     * @param ordinales arreglo con las cartas
+     * @param desde     posición de la primera carta de la mano
+     * @param cantidad  cartas en la mano
+     * @param suma      suma de la mesa, como máximo {@link #LIMITE}
+     * @return máscara con el bit {@code i} encendido si la carta
+     *         {@code desde + i} es segura
+     */
+    public static int mascaraMano(int[] ordinales, int desde, int cantidad, int suma) {
+        long seguras = seguras(suma);
+        int mascara = 0;
+        for (int i = 0; i < cantidad; i++) {
+            mascara |= (int) (seguras >>> ordinales[desde + i] & 1L) << i;
+        }
+        return mascara;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.el_cincuentenazo.repeticion;
+
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroJugadas;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Repetición binaria de una partida: la semilla, la regla de final, la
+ * cantidad de jugadores y una entrada varint por turno, más la suma y el
+ * ganador finales para comprobar que al reproducirla se llega al mismo estado.
+ *
+ * <p>Formato (versión 2): firma {@code C50R}, byte de versión, semilla de 8
+ * bytes big-endian, un byte que vale 1 si la partida se jugó
+ * {@linkplain Partida#setHastaUltimoEnPie(boolean) hasta el último en pie} y 0
+ * si no, y a continuación como varint la cantidad de jugadores, la cantidad de
+ * entradas, los bytes de las entradas, la suma final en zigzag y el asiento
+ * ganador más uno (0 si no hubo). La versión 1 no tiene el byte de la regla y
+ * se lee como una partida que termina al eliminar al humano.</p>
+ */
+public class Repeticion {
+
+    /** Versión del formato que escribe esta clase. */
+    public static final int VERSION = 2;
+    /** Extensión sugerida para los archivos de repetición. */
+    public static final String EXTENSION = ".c50r";
+
+    private static final byte[] FIRMA = {'C', '5', '0', 'R'};
+
+    private final long semilla;
+    private final boolean hastaUltimoEnPie;
+    private final int cantidadJugadores;
+    private final RegistroJugadas jugadas;
+    private final int sumaFinal;
+    private final int ganadorFinal;
+
+    /**
+     * Crea una repetición con todos sus datos.
+     *
+     * @param semilla           semilla con la que se inició la partida
+     * @param cantidadJugadores jugadores en la mesa, incluido el humano
+     * @param jugadas           entradas por turno
+     * @param sumaFinal         suma de la mesa al terminar la grabación
+     * @param ganadorFinal      asiento ganador o {@code -1} si no lo hubo
+     */
+    public Repeticion(long semilla, int cantidadJugadores, RegistroJugadas jugadas, int sumaFinal, int ganadorFinal) {
+        this(semilla, false, cantidadJugadores, jugadas, sumaFinal, ganadorFinal);
+    }
+
+    /**
+     * Crea una repetición indicando también la regla de final de la partida.
+     *
+     * @param semilla           semilla con la que se inició la partida
+     * @param hastaUltimoEnPie  si la partida siguió tras eliminar al humano
+     * @param cantidadJugadores jugadores en la mesa, incluido el humano
+     * @param jugadas           entradas por turno
+     * @param sumaFinal         suma de la mesa al terminar la grabación
+     * @param ganadorFinal      asiento ganador o {@code -1} si no lo hubo
+     */
+    public Repeticion(long semilla, boolean hastaUltimoEnPie, int cantidadJugadores, RegistroJugadas jugadas,
+                      int sumaFinal, int ganadorFinal) {
+        this.semilla = semilla;
+        this.hastaUltimoEnPie = hastaUltimoEnPie;
+        this.cantidadJugadores = cantidadJugadores;
+        this.jugadas = jugadas;
+        this.sumaFinal = sumaFinal;
+        this.ganadorFinal = ganadorFinal;
+    }
+
+    /**
+     * Captura la repetición de la partida en su estado actual.
+     *
+     * @param partida partida iniciada
+     * @return repetición equivalente
+     */
+    public static Repeticion de(Partida partida) {
+        RegistroJugadas registro = partida.getRegistro();
+        RegistroJugadas copia = new RegistroJugadas(registro.aBytes(), registro.cantidad());
+        return new Repeticion(partida.getSemilla(), partida.juegaHastaUltimoEnPie(), partida.getJugadores().size(),
+                copia, partida.getSumaMesa(), asientoGanador(partida));
+    }
+
+    /**
+     * Calcula el asiento ganador si la partida terminó.
+     *
+     * @param partida partida consultada
+     * @return índice del ganador o {@code -1}
+     */
+    static int asientoGanador(Partida partida) {
+        if (!partida.estaTerminada()) {
+            return -1;
+        }
+        return partida.getAsientoGanador();
+    }
+
+    /**
+     * Serializa la repetición en el formato binario.
+     *
+     * @return bytes listos para guardarse
+     */
+    public byte[] codificar() {
+        byte[] entradas = jugadas.aBytes();
+        byte[] salida = new byte[FIRMA.length + 2 + Long.BYTES + 4 * 5 + entradas.length];
+        System.arraycopy(FIRMA, 0, salida, 0, FIRMA.length);
+        int posicion = FIRMA.length;
+        salida[posicion++] = (byte) VERSION;
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            salida[posicion++] = (byte) (semilla >>> (i * 8));
+        }
+        salida[posicion++] = (byte) (hastaUltimoEnPie ? 1 : 0);
+        posicion = RegistroJugadas.escribirVarint(salida, posicion, cantidadJugadores);
+        posicion = RegistroJugadas.escribirVarint(salida, posicion, jugadas.cantidad());
+        System.arraycopy(entradas, 0, salida, posicion, entradas.length);
+        posicion += entradas.length;
+        posicion = RegistroJugadas.escribirVarint(salida, posicion, (sumaFinal << 1) ^ (sumaFinal >> 31));
+        posicion = RegistroJugadas.escribirVarint(salida, posicion, ganadorFinal + 1);
+        return Arrays.copyOf(salida, posicion);
+    }
+
+    /**
+     * Reconstruye una repetición desde su forma binaria.
+     *
+     * @param datos bytes leídos
+     * @return repetición decodificada
+     * @throws IllegalArgumentException si los datos no tienen el formato esperado
+     */
+    public static Repeticion decodificar(byte[] datos) {
+        Lector lector = new Lector(datos);
+        for (byte esperado : FIRMA) {
+            if (lector.byteSiguiente() != esperado) {
+                throw new IllegalArgumentException("El archivo no es una repetición del cincuentenazo");
+            }
+        }
+        int version = lector.byteSiguiente() & 0xFF;
+        if (version != 1 && version != VERSION) {
+            throw new IllegalArgumentException("Versión de repetición no soportada: " + version);
+        }
+        long semilla = 0L;
+        for (int i = 0; i < Long.BYTES; i++) {
+            semilla = (semilla << 8) | (lector.byteSiguiente() & 0xFF);
+        }
+        int regla = version == 1 ? 0 : lector.byteSiguiente();
+        if (regla != 0 && regla != 1) {
+            throw new IllegalArgumentException("Regla de final inválida en la repetición: " + regla);
+        }
+        int cantidadJugadores = lector.varint();
+        int cantidadJugadas = lector.varint();
+        int inicioJugadas = lector.posicion;
+        for (int i = 0; i < cantidadJugadas; i++) {
+            lector.varint();
+        }
+        byte[] entradas = Arrays.copyOfRange(datos, inicioJugadas, lector.posicion);
+        int zigzag = lector.varint();
+        int sumaFinal = (zigzag >>> 1) ^ -(zigzag & 1);
+        int ganadorFinal = lector.varint() - 1;
+        return new Repeticion(semilla, regla == 1, cantidadJugadores, new RegistroJugadas(entradas, cantidadJugadas),
+                sumaFinal, ganadorFinal);
+    }
+
+    /**
+     * Guarda la repetición en un archivo.
+     *
+     * @param archivo ruta de destino
+     * @throws IOException si no se puede escribir
+     */
+    public void guardar(Path archivo) throws IOException {
+        Files.write(archivo, codificar());
+    }
+
+    /**
+     * Lee una repetición desde un archivo.
+     *
+     * @param archivo ruta de origen
+     * @return repetición decodificada
+     * @throws IOException si no se puede leer
+     */
+    public static Repeticion leer(Path archivo) throws IOException {
+        return decodificar(Files.readAllBytes(archivo));
+    }
+
+    /**
+     * Devuelve la semilla con la que se inició la partida.
+     *
+     * @return semilla del barajado
+     */
+    public long getSemilla() {
+        return semilla;
+    }
+
+    /**
+     * Indica si la partida grabada siguió tras eliminar al humano.
+     *
+     * @return {@code true} si se jugó hasta que solo quedó un jugador
+     */
+    public boolean juegaHastaUltimoEnPie() {
+        return hastaUltimoEnPie;
+    }
+
+    /**
+     * Devuelve cuántos jugadores había en la mesa.
+     *
+     * @return jugadores incluido el humano
+     */
+    public int getCantidadJugadores() {
+        return cantidadJugadores;
+    }
+
+    /**
+     * Devuelve las entradas grabadas, una por turno.
+     *
+     * @return registro de jugadas
+     */
+    public RegistroJugadas getJugadas() {
+        return jugadas;
+    }
+
+    /**
+     * Devuelve la suma de la mesa al terminar la grabación.
+     *
+     * @return suma final
+     */
+    public int getSumaFinal() {
+        return sumaFinal;
+    }
+
+    /**
+     * Devuelve el asiento ganador grabado.
+     *
+     * @return índice del ganador o {@code -1} si no lo hubo
+     */
+    public int getGanadorFinal() {
+        return ganadorFinal;
+    }
+
+    /**
+     * Cursor de lectura sobre los bytes de una repetición.
+     */
+    private static final class Lector {
+        private final byte[] datos;
+        private int posicion;
+
+        private Lector(byte[] datos) {
+            this.datos = datos;
+        }
+
+        private byte byteSiguiente() {
+            if (posicion >= datos.length) {
+                throw new IllegalArgumentException("Repetición truncada");
+            }
+            return datos[posicion++];
+        }
+
+        private int varint() {
+            int valor = 0;
+            for (int desplazamiento = 0; desplazamiento < 35; desplazamiento += 7) {
+                byte actual = byteSiguiente();
+                valor |= (actual & 0x7F) << desplazamiento;
+                if (actual >= 0) {
+                    return valor;
+                }
+            }
+            throw new IllegalArgumentException("Entero variable demasiado largo");
+        }
+    }
+}
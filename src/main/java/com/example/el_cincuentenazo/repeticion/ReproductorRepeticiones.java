@@ -0,0 +1,184 @@
+package com.example.el_cincuentenazo.repeticion;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import com.example.el_cincuentenazo.modelo.RegistroJugadas;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Vuelve a jugar repeticiones sin interfaz gráfica y comprueba que cada una
+ * produce exactamente las mismas decisiones, la misma suma final y el mismo
+ * ganador que la partida original.
+ */
+public class ReproductorRepeticiones {
+
+    /**
+     * Reproduce una repetición sobre una partida nueva aplicando las entradas
+     * grabadas de todos los asientos, sin volver a consultar a las CPU, de modo
+     * que las partidas con estrategias o CPUs Monte Carlo se reproducen igual
+     * que se jugaron. La partida usa la regla de final grabada.
+     *
+     * @param repeticion repetición a reproducir
+     * @return partida en el estado alcanzado al consumir todas las entradas
+     * @throws JugadaInvalidaException si una entrada no es válida en la
+     *                                 posición reproducida
+     */
+    public static Partida reproducir(Repeticion repeticion) throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+        partida.setHastaUltimoEnPie(repeticion.juegaHastaUltimoEnPie());
+        partida.iniciar(repeticion.getCantidadJugadores() - 1, repeticion.getSemilla());
+        int[] jugadas = repeticion.getJugadas().decodificar();
+        int cursor = 0;
+        while (cursor < jugadas.length && !partida.estaTerminada()) {
+            int jugada = jugadas[cursor];
+            if (partida.getTurnoActual() != 0 || partida.getJugadorHumano().estaEliminado()) {
+                partida.jugarTurnoCPU(jugadas, cursor);
+            } else if (jugada == RegistroJugadas.ELIMINACION) {
+                if (partida.humanoTieneJugada()) {
+                    throw new JugadaInvalidaException("La repetición elimina al humano teniendo jugadas");
+                }
+                partida.eliminarHumanoPorFaltaDeJugadas();
+            } else {
+                List<Carta> mano = partida.getJugadorHumano().getMano();
+                if (jugada > mano.size()) {
+                    throw new JugadaInvalidaException("La repetición juega una carta que no está en la mano");
+                }
+                partida.jugarTurnoHumano(mano.get(jugada - 1));
+            }
+            cursor = partida.getRegistro().cantidad();
+        }
+        return partida;
+    }
+
+    /**
+     * Reproduce una repetición y la compara con el estado grabado.
+     *
+     * @param repeticion repetición a comprobar
+     * @return {@code true} si la reproducción coincide en todo
+     */
+    public static boolean verificar(Repeticion repeticion) {
+        Partida partida;
+        try {
+            partida = reproducir(repeticion);
+        } catch (JugadaInvalidaException | ConfiguracionInvalidaException e) {
+            return false;
+        }
+        return partida.getRegistro().mismoContenido(repeticion.getJugadas())
+                && partida.getSumaMesa() == repeticion.getSumaFinal()
+                && Repeticion.asientoGanador(partida) == repeticion.getGanadorFinal();
+    }
+
+    /**
+     * Verifica en paralelo una colección de archivos de repetición.
+     *
+     * @param archivos rutas a comprobar
+     * @return resumen con los archivos que no coincidieron y la velocidad
+     */
+    public static ResultadoVerificacion verificarArchivos(List<Path> archivos) {
+        long inicio = System.nanoTime();
+        List<Path> fallidos = archivos.parallelStream()
+                .filter(archivo -> !verificarArchivo(archivo))
+                .collect(Collectors.toList());
+        return new ResultadoVerificacion(archivos.size(), fallidos, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Lee y verifica un archivo, tratando los archivos ilegibles como fallidos.
+     *
+     * @param archivo ruta a comprobar
+     * @return {@code true} si el archivo es válido y la reproducción coincide
+     */
+    private static boolean verificarArchivo(Path archivo) {
+        try {
+            return verificar(Repeticion.leer(archivo));
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resumen de una verificación por lotes.
+     */
+    public static class ResultadoVerificacion {
+        private final int total;
+        private final List<Path> fallidos;
+        private final long duracionNanos;
+
+        /**
+         * Crea el resumen.
+         *
+         * @param total         archivos comprobados
+         * @param fallidos      archivos cuya reproducción no coincidió
+         * @param duracionNanos tiempo total empleado
+         */
+        public ResultadoVerificacion(int total, List<Path> fallidos, long duracionNanos) {
+            this.total = total;
+            this.fallidos = Collections.unmodifiableList(new ArrayList<>(fallidos));
+            this.duracionNanos = duracionNanos;
+        }
+
+        /**
+         * Devuelve cuántos archivos se comprobaron.
+         *
+         * @return total de archivos
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * Devuelve los archivos que no se pudieron reproducir igual.
+         *
+         * @return lista inmutable de rutas
+         */
+        public List<Path> getFallidos() {
+            return fallidos;
+        }
+
+        /**
+         * Calcula la velocidad de verificación.
+         *
+         * @return repeticiones comprobadas por segundo
+         */
+        public double getRepeticionesPorSegundo() {
+            return duracionNanos == 0 ? 0.0 : total * 1_000_000_000.0 / duracionNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Repeticiones: %d, fallidas: %d (%.0f repeticiones/s)",
+                    total, fallidos.size(), getRepeticionesPorSegundo());
+        }
+    }
+
+    /**
+     * Verifica todas las repeticiones de un directorio.
+     *
+     * @param args directorio con archivos {@code .c50r}
+     * @throws IOException si no se puede listar el directorio
+     */
+    public static void main(String[] args) throws IOException {
+        Path directorio = Path.of(args.length > 0 ? args[0] : ".");
+        List<Path> archivos;
+        try (Stream<Path> listado = Files.list(directorio)) {
+            archivos = listado.filter(ruta -> ruta.toString().endsWith(Repeticion.EXTENSION))
+                    .collect(Collectors.toList());
+        }
+        ResultadoVerificacion resultado = verificarArchivos(archivos);
+        System.out.println(resultado);
+        for (Path fallido : resultado.getFallidos()) {
+            System.out.println("No coincide: " + fallido);
+        }
+    }
+}
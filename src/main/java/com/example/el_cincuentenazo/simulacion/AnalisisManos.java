@@ -0,0 +1,196 @@
+package com.example.el_cincuentenazo.simulacion;
+
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Estima la probabilidad de ganar de cada mano inicial en cada asiento jugando
+ * partidas completas sin interfaz, hasta que solo queda un jugador en pie.
+ *
+ * <p>Las partidas se reparten con un flujo paralelo sobre sus índices dentro de
+ * un {@link ForkJoinPool} propio. Cada porción del flujo acumula en su propia
+ * {@link TablaVictorias} y reutiliza una única {@link Partida}, y las tablas se
+ * suman al combinar las porciones, así que ningún hilo comparte contadores ni
+ * toma bloqueos. La semilla de cada partida depende solo de la semilla base y
+ * del índice, por lo que extender una tabla guardada continúa exactamente la
+ * misma serie de partidas.</p>
+ */
+public class AnalisisManos {
+
+    /** Partidas que se juegan entre dos guardados de la tabla en disco. */
+    public static final int PARTIDAS_POR_LOTE = 100_000;
+
+    private final int cantidadCPUs;
+    private final int paralelismo;
+
+    /**
+     * Crea un análisis que usa todos los núcleos de la máquina.
+     *
+     * @param cantidadCPUs rivales automáticos por partida (1 a {@link Partida#MAX_CPUS})
+     */
+    public AnalisisManos(int cantidadCPUs) {
+        this(cantidadCPUs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un análisis con un nivel de paralelismo explícito.
+     *
+     * @param cantidadCPUs rivales automáticos por partida (1 a {@link Partida#MAX_CPUS})
+     * @param paralelismo  hilos de trabajo a utilizar
+     */
+    public AnalisisManos(int cantidadCPUs, int paralelismo) {
+        if (cantidadCPUs < 1 || cantidadCPUs > Partida.MAX_CPUS) {
+            throw new ConfiguracionInvalidaException("La cantidad de CPUs debe estar entre 1 y " + Partida.MAX_CPUS);
+        }
+        if (paralelismo < 1) {
+            throw new ConfiguracionInvalidaException("El paralelismo debe ser al menos 1");
+        }
+        this.cantidadCPUs = cantidadCPUs;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Juega partidas nuevas a continuación de las que ya tiene la tabla y
+     * suma sus resultados.
+     *
+     * @param tabla    tabla a extender, con la cantidad de jugadores de este
+     *                 análisis
+     * @param partidas partidas a agregar
+     * @return la misma tabla
+     */
+    public TablaVictorias extender(TablaVictorias tabla, long partidas) {
+        if (tabla.getJugadores() != cantidadCPUs + 1) {
+            throw new ConfiguracionInvalidaException("La tabla es de " + tabla.getJugadores() + " jugadores");
+        }
+        if (partidas < 0) {
+            throw new ConfiguracionInvalidaException("La cantidad de partidas no puede ser negativa");
+        }
+        long desde = tabla.getPartidasJugadas();
+        long semilla = tabla.getSemilla();
+        int jugadores = tabla.getJugadores();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            TablaVictorias nuevas = pool.submit(() -> LongStream.range(desde, desde + partidas)
+                    .parallel()
+                    .collect(() -> new Acumulador(jugadores, semilla),
+                            Acumulador::jugar,
+                            Acumulador::combinar)
+                    .tabla).join();
+            return tabla.fusionar(nuevas);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Extiende la tabla guardada en un archivo, o la crea si no existe,
+     * guardándola tras cada lote de {@link #PARTIDAS_POR_LOTE} partidas. Si el
+     * proceso se interrumpe, basta con volver a llamarlo para seguir desde el
+     * último lote guardado.
+     *
+     * @param archivo  tabla en disco
+     * @param semilla  semilla base si la tabla se crea; si ya existe se usa la
+     *                 suya
+     * @param partidas partidas a agregar en esta ejecución
+     * @return tabla final, ya guardada
+     * @throws IOException si el archivo no puede leerse o escribirse
+     */
+    public TablaVictorias extenderArchivo(Path archivo, long semilla, long partidas) throws IOException {
+        TablaVictorias tabla = Files.exists(archivo)
+                ? TablaVictorias.leer(archivo)
+                : new TablaVictorias(cantidadCPUs + 1, semilla);
+        long restantes = partidas;
+        do {
+            long lote = Math.min(restantes, PARTIDAS_POR_LOTE);
+            extender(tabla, lote);
+            tabla.guardar(archivo);
+            restantes -= lote;
+        } while (restantes > 0);
+        return tabla;
+    }
+
+    /**
+     * Tabla parcial de una porción del flujo, con su propia partida.
+     */
+    private static final class Acumulador {
+        private final TablaVictorias tabla;
+        private final Partida partida;
+
+        private Acumulador(int jugadores, long semilla) {
+            this.tabla = new TablaVictorias(jugadores, semilla);
+            this.partida = new Partida();
+            partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+            partida.setHastaUltimoEnPie(true);
+        }
+
+        private void jugar(long indice) {
+            partida.iniciar(tabla.getJugadores() - 1,
+                    SimuladorPartidas.semillaDePartida(tabla.getSemilla(), indice));
+            List<Jugador> jugadores = partida.getJugadores();
+            int[] clases = new int[jugadores.size()];
+            for (int asiento = 0; asiento < clases.length; asiento++) {
+                clases[asiento] = TablaVictorias.claseDe(jugadores.get(asiento).getMano());
+            }
+            int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+            for (int asiento = 0; asiento < clases.length; asiento++) {
+                tabla.registrar(clases[asiento], asiento, asiento == ganador);
+            }
+            tabla.contarPartida();
+        }
+
+        private void combinar(Acumulador otro) {
+            tabla.fusionar(otro.tabla);
+        }
+    }
+
+    /**
+     * Extiende una tabla en disco desde la línea de comandos e imprime las
+     * manos con mayor y menor probabilidad de ganar en cada asiento.
+     *
+     * @param args archivo, cantidad de CPUs, partidas a agregar y semilla
+     *             (las tres últimas opcionales)
+     * @throws IOException si el archivo no puede leerse o escribirse
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: AnalisisManos <tabla" + TablaVictorias.EXTENSION + "> [cpus] [partidas] [semilla]");
+            return;
+        }
+        int cpus = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        long partidas = args.length > 2 ? Long.parseLong(args[2]) : 1_000_000L;
+        long semilla = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        long inicio = System.nanoTime();
+        TablaVictorias tabla = new AnalisisManos(cpus).extenderArchivo(Path.of(args[0]), semilla, partidas);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%d partidas en total, %.0f partidas/s en esta ejecución%n",
+                tabla.getPartidasJugadas(), partidas / segundos);
+        for (int asiento = 0; asiento < tabla.getJugadores(); asiento++) {
+            int mejor = -1;
+            int peor = -1;
+            for (int clase = 0; clase < TablaVictorias.CLASES; clase++) {
+                if (tabla.getPartidas(clase, asiento) < 100) {
+                    continue;
+                }
+                if (mejor < 0 || tabla.getProbabilidad(clase, asiento) > tabla.getProbabilidad(mejor, asiento)) {
+                    mejor = clase;
+                }
+                if (peor < 0 || tabla.getProbabilidad(clase, asiento) < tabla.getProbabilidad(peor, asiento)) {
+                    peor = clase;
+                }
+            }
+            if (mejor >= 0) {
+                System.out.printf("Asiento %d: mejor %s (%.3f), peor %s (%.3f)%n", asiento,
+                        TablaVictorias.describir(mejor), tabla.getProbabilidad(mejor, asiento),
+                        TablaVictorias.describir(peor), tabla.getProbabilidad(peor, asiento));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.el_cincuentenazo.simulacion;
+
+/**
+ * Resumen inmutable de un lote de partidas simuladas: velocidad alcanzada,
+ * victorias por asiento y duración media de las partidas.
+ */
+public class ResultadoSimulacion {
+
+    private final int partidas;
+    private final long[] victoriasPorAsiento;
+    private final long partidasSinGanador;
+    private final long jugadasTotales;
+    private final long duracionNanos;
+
+    /**
+     * Crea el resumen con los totales de la simulación.
+     *
+     * @param partidas            cantidad de partidas jugadas
+     * @param victoriasPorAsiento victorias indexadas por asiento (0 es el humano)
+     * @param partidasSinGanador  partidas cortadas o sin jugador en pie
+     * @param jugadasTotales      cartas jugadas sumando todas las partidas
+     * @param duracionNanos       tiempo total de ejecución en nanosegundos
+     */
+    public ResultadoSimulacion(int partidas, long[] victoriasPorAsiento, long partidasSinGanador,
+                               long jugadasTotales, long duracionNanos) {
+        this.partidas = partidas;
+        this.victoriasPorAsiento = victoriasPorAsiento.clone();
+        this.partidasSinGanador = partidasSinGanador;
+        this.jugadasTotales = jugadasTotales;
+        this.duracionNanos = duracionNanos;
+    }
+
+    /**
+     * Devuelve cuántas partidas se jugaron.
+     *
+     * @return total de partidas
+     */
+    public int getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Devuelve las victorias de cada asiento.
+     *
+     * @return copia del arreglo de victorias por asiento
+     */
+    public long[] getVictoriasPorAsiento() {
+        return victoriasPorAsiento.clone();
+    }
+
+    /**
+     * Calcula la fracción de partidas ganadas por un asiento.
+     *
+     * @param asiento índice del asiento consultado
+     * @return proporción entre 0 y 1
+     */
+    public double getProporcionVictorias(int asiento) {
+        return partidas == 0 ? 0.0 : (double) victoriasPorAsiento[asiento] / partidas;
+    }
+
+    /**
+     * Devuelve cuántas partidas terminaron sin ganador.
+     *
+     * @return partidas sin ganador
+     */
+    public long getPartidasSinGanador() {
+        return partidasSinGanador;
+    }
+
+    /**
+     * Calcula la cantidad media de cartas jugadas por partida.
+     *
+     * @return jugadas promedio
+     */
+    public double getPromedioJugadas() {
+        return partidas == 0 ? 0.0 : (double) jugadasTotales / partidas;
+    }
+
+    /**
+     * Calcula la velocidad de la simulación.
+     *
+     * @return partidas completadas por segundo
+     */
+    public double getPartidasPorSegundo() {
+        return duracionNanos == 0 ? 0.0 : partidas * 1_000_000_000.0 / duracionNanos;
+    }
+
+    /**
+     * Devuelve el tiempo total empleado.
+     *
+     * @return duración en nanosegundos
+     */
+    public long getDuracionNanos() {
+        return duracionNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder();
+        texto.append(String.format("Partidas: %d (%.0f partidas/s)%n", partidas, getPartidasPorSegundo()));
+        for (int i = 0; i < victoriasPorAsiento.length; i++) {
+            texto.append(String.format("Asiento %d: %d victorias (%.2f%%)%n", i, victoriasPorAsiento[i],
+                    getProporcionVictorias(i) * 100));
+        }
+        texto.append(String.format("Sin ganador: %d%n", partidasSinGanador));
+        texto.append(String.format("Jugadas promedio por partida: %.2f", getPromedioJugadas()));
+        return texto.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.el_cincuentenazo.simulacion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resumen inmutable de un torneo: victorias de cada estrategia con su
+ * intervalo de confianza del 95 % (Wilson) y una calificación Elo ajustada con
+ * el modelo de Bradley-Terry sobre los enfrentamientos directos. En una
+ * partida de varios jugadores el ganador cuenta como vencedor de cada uno de
+ * los demás.
+ */
+public class ResultadoTorneo {
+
+    /** Elo medio asignado al conjunto de estrategias. */
+    public static final double ELO_BASE = 1500.0;
+
+    private static final double Z_95 = 1.959964;
+    private static final int ITERACIONES_ELO = 1_000;
+
+    private final List<String> nombres;
+    private final long[] victorias;
+    private final long[] apariciones;
+    private final long[][] enfrentamientos;
+    private final long partidas;
+    private final long partidasSinGanador;
+    private final long duracionNanos;
+    private final double[] elo;
+
+    /**
+     * Crea el resumen y calcula las calificaciones.
+     *
+     * @param nombres            nombres de las estrategias
+     * @param victorias          partidas ganadas por cada estrategia
+     * @param apariciones        partidas jugadas por cada estrategia
+     * @param enfrentamientos    {@code [i][j]}: veces que {@code i} ganó una
+     *                           partida en la que jugaba {@code j}
+     * @param partidas           total de partidas
+     * @param partidasSinGanador partidas cortadas o sin jugador en pie
+     * @param duracionNanos      tiempo total de ejecución
+     */
+    public ResultadoTorneo(List<String> nombres, long[] victorias, long[] apariciones, long[][] enfrentamientos,
+                           long partidas, long partidasSinGanador, long duracionNanos) {
+        this.nombres = Collections.unmodifiableList(new ArrayList<>(nombres));
+        this.victorias = victorias.clone();
+        this.apariciones = apariciones.clone();
+        this.enfrentamientos = new long[enfrentamientos.length][];
+        for (int i = 0; i < enfrentamientos.length; i++) {
+            this.enfrentamientos[i] = enfrentamientos[i].clone();
+        }
+        this.partidas = partidas;
+        this.partidasSinGanador = partidasSinGanador;
+        this.duracionNanos = duracionNanos;
+        this.elo = calcularElo(this.enfrentamientos);
+    }
+
+    /**
+     * Devuelve los nombres de las estrategias en orden de registro.
+     *
+     * @return lista inmutable de nombres
+     */
+    public List<String> getNombres() {
+        return nombres;
+    }
+
+    /**
+     * Devuelve cuántas partidas se jugaron.
+     *
+     * @return total de partidas
+     */
+    public long getPartidas() {
+        return partidas;
+    }
+
+    /**
+     * Devuelve cuántas partidas terminaron sin ganador.
+     *
+     * @return partidas sin ganador
+     */
+    public long getPartidasSinGanador() {
+        return partidasSinGanador;
+    }
+
+    /**
+     * Devuelve las victorias de una estrategia.
+     *
+     * @param estrategia índice de registro
+     * @return partidas ganadas
+     */
+    public long getVictorias(int estrategia) {
+        return victorias[estrategia];
+    }
+
+    /**
+     * Devuelve en cuántas partidas participó una estrategia.
+     *
+     * @param estrategia índice de registro
+     * @return partidas jugadas
+     */
+    public long getApariciones(int estrategia) {
+        return apariciones[estrategia];
+    }
+
+    /**
+     * Calcula la proporción de victorias de una estrategia.
+     *
+     * @param estrategia índice de registro
+     * @return victorias sobre partidas jugadas, entre 0 y 1
+     */
+    public double getProporcionVictorias(int estrategia) {
+        return apariciones[estrategia] == 0 ? 0.0 : (double) victorias[estrategia] / apariciones[estrategia];
+    }
+
+    /**
+     * Calcula el intervalo de confianza del 95 % de la proporción de
+     * victorias con el método de Wilson, que se comporta bien incluso con
+     * proporciones cercanas a 0 o 1.
+     *
+     * @param estrategia índice de registro
+     * @return arreglo con el límite inferior y el superior
+     */
+    public double[] getIntervaloVictorias(int estrategia) {
+        double n = apariciones[estrategia];
+        if (n == 0) {
+            return new double[]{0.0, 1.0};
+        }
+        double p = victorias[estrategia] / n;
+        double z2 = Z_95 * Z_95;
+        double centro = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double margen = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / (1 + z2 / n);
+        return new double[]{Math.max(0.0, centro - margen), Math.min(1.0, centro + margen)};
+    }
+
+    /**
+     * Devuelve la calificación Elo de una estrategia.
+     *
+     * @param estrategia índice de registro
+     * @return Elo, con media {@link #ELO_BASE} entre las estrategias
+     */
+    public double getElo(int estrategia) {
+        return elo[estrategia];
+    }
+
+    /**
+     * Calcula la velocidad del torneo.
+     *
+     * @return partidas por segundo de reloj
+     */
+    public double getPartidasPorSegundo() {
+        return duracionNanos == 0 ? 0.0 : partidas * 1_000_000_000.0 / duracionNanos;
+    }
+
+    /**
+     * Ajusta las fuerzas de Bradley-Terry con el algoritmo MM y las convierte
+     * a escala Elo. Se suma media victoria en cada sentido a cada par que se
+     * enfrentó para que una estrategia invicta no tenga fuerza infinita.
+     */
+    private static double[] calcularElo(long[][] enfrentamientos) {
+        int n = enfrentamientos.length;
+        double[][] ganadas = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && enfrentamientos[i][j] + enfrentamientos[j][i] > 0) {
+                    ganadas[i][j] = enfrentamientos[i][j] + 0.5;
+                }
+            }
+        }
+        double[] fuerza = new double[n];
+        java.util.Arrays.fill(fuerza, 1.0);
+        for (int iteracion = 0; iteracion < ITERACIONES_ELO; iteracion++) {
+            double[] nueva = new double[n];
+            double sumaLogaritmos = 0.0;
+            for (int i = 0; i < n; i++) {
+                double total = 0.0;
+                double denominador = 0.0;
+                for (int j = 0; j < n; j++) {
+                    double partidasPar = ganadas[i][j] + ganadas[j][i];
+                    if (partidasPar > 0) {
+                        total += ganadas[i][j];
+                        denominador += partidasPar / (fuerza[i] + fuerza[j]);
+                    }
+                }
+                nueva[i] = denominador == 0 ? 1.0 : total / denominador;
+                sumaLogaritmos += Math.log(nueva[i]);
+            }
+            double media = Math.exp(sumaLogaritmos / n);
+            for (int i = 0; i < n; i++) {
+                fuerza[i] = nueva[i] / media;
+            }
+        }
+        double[] elo = new double[n];
+        for (int i = 0; i < n; i++) {
+            elo[i] = ELO_BASE + 400.0 * Math.log10(fuerza[i]);
+        }
+        return elo;
+    }
+
+    @Override
+    public String toString() {
+        List<Integer> orden = new ArrayList<>();
+        for (int i = 0; i < nombres.size(); i++) {
+            orden.add(i);
+        }
+        orden.sort(Comparator.comparingDouble((Integer i) -> elo[i]).reversed());
+        StringBuilder texto = new StringBuilder(String.format(
+                "Partidas: %d (%.0f partidas/s), sin ganador: %d%n", partidas, getPartidasPorSegundo(),
+                partidasSinGanador));
+        for (int i : orden) {
+            double[] intervalo = getIntervaloVictorias(i);
+            texto.append(String.format("%-20s Elo %6.0f  victorias %6.2f%% [%.2f%%, %.2f%%] en %d partidas%n",
+                    nombres.get(i), elo[i], 100 * getProporcionVictorias(i), 100 * intervalo[0],
+                    100 * intervalo[1], apariciones[i]));
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.el_cincuentenazo.simulacion;
+
+import com.example.el_cincuentenazo.metricas.MetricasMotor;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Estrategia;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadorAutomatico;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Ejecuta lotes de partidas completas sin interfaz gráfica, repartiendo el
+ * trabajo entre todos los núcleos disponibles. El asiento del humano se juega
+ * automáticamente con su estrategia por defecto, de modo que cada partida es
+ * un enfrentamiento entre jugadores automáticos. Las partidas siguen tras la
+ * eliminación del asiento 0 hasta que solo queda un jugador; con la regla de
+ * la interfaz, que termina la partida en ese momento y premia al menor asiento
+ * en pie, las victorias por asiento saldrían sesgadas hacia los primeros.
+ */
+public class SimuladorPartidas {
+
+    /** Rondas máximas por partida antes de darla por terminada sin ganador. */
+    public static final int MAX_RONDAS = 10_000;
+
+    /** Cantidad de partidas por debajo de la cual una tarea deja de dividirse. */
+    private static final int PARTIDAS_POR_TAREA = 256;
+
+    private final int cantidadCPUs;
+    private final int cantidadPartidas;
+    private final long semilla;
+    private final int paralelismo;
+
+    /**
+     * Crea un simulador que usa todos los núcleos de la máquina.
+     *
+     * @param cantidadCPUs     rivales automáticos por partida (1 a 3)
+     * @param cantidadPartidas total de partidas a jugar
+     * @param semilla          semilla base de la que se derivan todas las mezclas
+     */
+    public SimuladorPartidas(int cantidadCPUs, int cantidadPartidas, long semilla) {
+        this(cantidadCPUs, cantidadPartidas, semilla, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un simulador con un nivel de paralelismo explícito.
+     *
+     * @param cantidadCPUs     rivales automáticos por partida (1 a 3)
+     * @param cantidadPartidas total de partidas a jugar
+     * @param semilla          semilla base de la que se derivan todas las mezclas
+     * @param paralelismo      hilos de trabajo a utilizar
+     */
+    public SimuladorPartidas(int cantidadCPUs, int cantidadPartidas, long semilla, int paralelismo) {
+        if (cantidadCPUs < 1 || cantidadCPUs > Partida.MAX_CPUS) {
+            throw new ConfiguracionInvalidaException("La cantidad de CPUs debe estar entre 1 y " + Partida.MAX_CPUS);
+        }
+        if (cantidadPartidas < 0) {
+            throw new ConfiguracionInvalidaException("La cantidad de partidas no puede ser negativa");
+        }
+        if (paralelismo < 1) {
+            throw new ConfiguracionInvalidaException("El paralelismo debe ser al menos 1");
+        }
+        this.cantidadCPUs = cantidadCPUs;
+        this.cantidadPartidas = cantidadPartidas;
+        this.semilla = semilla;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Juega todas las partidas configuradas y reúne las estadísticas.
+     *
+     * @return resumen con velocidad, victorias por asiento y duración media
+     */
+    public ResultadoSimulacion ejecutar() {
+        long inicio = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        Acumulado total;
+        try {
+            total = pool.invoke(new TareaLote(0, cantidadPartidas));
+        } finally {
+            pool.shutdown();
+        }
+        long duracion = System.nanoTime() - inicio;
+        return new ResultadoSimulacion(cantidadPartidas, total.victorias, total.sinGanador,
+                total.jugadas, duracion);
+    }
+
+    /**
+     * Lleva una partida ya iniciada hasta su final. El turno del humano se
+     * juega con la estrategia del asiento 0 si la partida tiene una, o con la
+     * primera carta segura de su mano. Si la partida se juega
+     * {@linkplain Partida#setHastaUltimoEnPie(boolean) hasta el último en pie},
+     * las CPUs siguen jugando después de eliminar al humano.
+     *
+     * @param partida partida recién iniciada
+     * @return índice del asiento ganador o {@code -1} si no hubo ganador
+     */
+    public static int jugarHastaTerminar(Partida partida) {
+        JugadorHumano humano = partida.getJugadorHumano();
+        Estrategia estrategia = partida.getEstrategia(0);
+        int rondas = 0;
+        while (!partida.estaTerminada()) {
+            if (rondas++ >= MAX_RONDAS) {
+                return -1;
+            }
+            if (!humano.estaEliminado()) {
+                int jugables = humano.mascaraJugables(partida.getSumaMesa());
+                if (jugables == 0) {
+                    partida.eliminarHumanoPorFaltaDeJugadas();
+                    continue;
+                }
+                int posicion = estrategia == null ? Integer.numberOfTrailingZeros(jugables)
+                        : JugadorAutomatico.elegirPosicion(estrategia, partida, humano, jugables);
+                try {
+                    partida.jugarTurnoHumano(humano.getMano().get(posicion));
+                } catch (JugadaInvalidaException e) {
+                    throw new IllegalStateException("La jugada automática del humano fue rechazada", e);
+                }
+            }
+            partida.jugarTurnoCPU();
+        }
+        return partida.getAsientoGanador();
+    }
+
+    /**
+     * Deriva la semilla de una partida concreta a partir de la semilla base, de
+     * forma que el resultado no dependa de cómo se repartió el trabajo.
+     *
+     * @param semilla semilla base del lote
+     * @param indice  posición de la partida dentro del lote
+     * @return semilla bien distribuida para esa partida
+     */
+    public static long semillaDePartida(long semilla, long indice) {
+        long z = semilla + (indice + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Totales parciales de un rango de partidas, combinables entre tareas.
+     */
+    private static final class Acumulado {
+        private final long[] victorias;
+        private long sinGanador;
+        private long jugadas;
+
+        private Acumulado(int asientos) {
+            this.victorias = new long[asientos];
+        }
+
+        private Acumulado combinar(Acumulado otro) {
+            for (int i = 0; i < victorias.length; i++) {
+                victorias[i] += otro.victorias[i];
+            }
+            sinGanador += otro.sinGanador;
+            jugadas += otro.jugadas;
+            return this;
+        }
+    }
+
+    /**
+     * Tarea que juega un rango de partidas o lo divide en dos mitades.
+     */
+    private final class TareaLote extends RecursiveTask<Acumulado> {
+        private final int desde;
+        private final int hasta;
+
+        private TareaLote(int desde, int hasta) {
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Acumulado compute() {
+            if (hasta - desde <= PARTIDAS_POR_TAREA) {
+                return jugarRango();
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaLote izquierda = new TareaLote(desde, medio);
+            izquierda.fork();
+            Acumulado derecha = new TareaLote(medio, hasta).compute();
+            return derecha.combinar(izquierda.join());
+        }
+
+        private Acumulado jugarRango() {
+            Acumulado acumulado = new Acumulado(cantidadCPUs + 1);
+            Partida partida = new Partida();
+            partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+            partida.setHastaUltimoEnPie(true);
+            for (int i = desde; i < hasta; i++) {
+                partida.iniciar(cantidadCPUs, semillaDePartida(semilla, i));
+                int ganador = jugarHastaTerminar(partida);
+                if (ganador < 0) {
+                    acumulado.sinGanador++;
+                } else {
+                    acumulado.victorias[ganador]++;
+                }
+                acumulado.jugadas += partida.getJugadasRealizadas();
+            }
+            return acumulado;
+        }
+    }
+
+    /**
+     * Permite lanzar una simulación desde la línea de comandos.
+     *
+     * @param args cantidad de CPUs, cantidad de partidas y semilla (opcionales);
+     *             con {@code -Dcincuentenazo.metricas=true} imprime además las
+     *             métricas del motor
+     */
+    public static void main(String[] args) {
+        int cpus = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int partidas = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        ResultadoSimulacion resultado = new SimuladorPartidas(cpus, partidas, semilla).ejecutar();
+        System.out.println(resultado);
+        if (MetricasMotor.estanActivas()) {
+            System.out.print(MetricasMotor.instantanea());
+        }
+    }
+}
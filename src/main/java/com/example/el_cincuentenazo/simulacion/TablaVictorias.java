@@ -0,0 +1,359 @@
+package com.example.el_cincuentenazo.simulacion;
+
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Partidas jugadas y ganadas por cada mano inicial de cuatro cartas en cada
+ * asiento de la mesa.
+ *
+ * <p>El palo no interviene en las reglas, así que dos manos con los mismos
+ * rangos son equivalentes y se cuentan juntas: cada mano se reduce al
+ * multiconjunto ordenado de sus cuatro rangos, lo que deja
+ * {@value #CLASES} clases. Las tablas se suman con {@link #fusionar} y se
+ * guardan en un formato binario compacto, de modo que un análisis puede
+ * extenderse más tarde sin repetir lo ya jugado.</p>
+ *
+ * <p>Formato (versión 1): firma {@code C50V}, byte de versión, semilla de 8
+ * bytes big-endian, y como varint la cantidad de jugadores, las partidas
+ * jugadas y, por cada clase y asiento, las partidas y las victorias.</p>
+ */
+public class TablaVictorias {
+
+    /** Cartas por mano inicial. */
+    public static final int CARTAS_POR_MANO = 4;
+    /** Manos iniciales distintas sin contar el palo: C(13 + 4 - 1, 4). */
+    public static final int CLASES = 1820;
+    /** Versión del formato que escribe esta clase. */
+    public static final int VERSION = 1;
+    /** Extensión sugerida para los archivos de la tabla. */
+    public static final String EXTENSION = ".c50v";
+
+    private static final byte[] FIRMA = {'C', '5', '0', 'V'};
+
+    private final int jugadores;
+    private final long semilla;
+    private long partidasJugadas;
+    /** Partidas por clase y asiento, en {@code clase * jugadores + asiento}. */
+    private final long[] partidas;
+    private final long[] victorias;
+
+    /**
+     * Crea una tabla vacía.
+     *
+     * @param jugadores jugadores por mesa, incluido el humano
+     * @param semilla   semilla base de las partidas que se acumulen
+     */
+    public TablaVictorias(int jugadores, long semilla) {
+        if (jugadores < 2 || jugadores > Partida.MAX_CPUS + 1) {
+            throw new ConfiguracionInvalidaException("Cantidad de jugadores inválida: " + jugadores);
+        }
+        this.jugadores = jugadores;
+        this.semilla = semilla;
+        this.partidas = new long[CLASES * jugadores];
+        this.victorias = new long[CLASES * jugadores];
+    }
+
+    /**
+     * Calcula la clase de una mano de cuatro cartas.
+     *
+     * @param mano cartas de la mano, en cualquier orden
+     * @return índice entre 0 y {@value #CLASES} - 1
+     */
+    public static int claseDe(List<Carta> mano) {
+        if (mano.size() != CARTAS_POR_MANO) {
+            throw new IllegalArgumentException("La mano debe tener " + CARTAS_POR_MANO + " cartas");
+        }
+        int[] rangos = new int[CARTAS_POR_MANO];
+        for (int i = 0; i < CARTAS_POR_MANO; i++) {
+            rangos[i] = mano.get(i).getRango() - 1;
+        }
+        return claseDe(rangos);
+    }
+
+    /**
+     * Calcula la clase de cuatro rangos entre 0 y 12. Ordenados de menor a
+     * mayor y desplazados por su posición forman una combinación de cuatro
+     * valores distintos entre 0 y 15, que se numera con el sistema
+     * combinatorio.
+     *
+     * @param rangos rangos base cero; el arreglo se ordena
+     * @return índice de la clase
+     */
+    static int claseDe(int[] rangos) {
+        Arrays.sort(rangos);
+        int clase = 0;
+        for (int i = 0; i < CARTAS_POR_MANO; i++) {
+            clase += combinaciones(rangos[i] + i, i + 1);
+        }
+        return clase;
+    }
+
+    /**
+     * Describe los rangos de una clase, por ejemplo {@code "A 5 9 K"}.
+     *
+     * @param clase índice de la clase
+     * @return rangos de menor a mayor
+     */
+    public static String describir(int clase) {
+        if (clase < 0 || clase >= CLASES) {
+            throw new IllegalArgumentException("Clase inválida: " + clase);
+        }
+        String[] valores = new String[CARTAS_POR_MANO];
+        int resto = clase;
+        for (int i = CARTAS_POR_MANO - 1; i >= 0; i--) {
+            int combinado = i;
+            while (combinaciones(combinado + 1, i + 1) <= resto) {
+                combinado++;
+            }
+            resto -= combinaciones(combinado, i + 1);
+            valores[i] = Carta.de(combinado - i).getValor();
+        }
+        return String.join(" ", valores);
+    }
+
+    private static int combinaciones(int n, int k) {
+        if (k > n) {
+            return 0;
+        }
+        long resultado = 1;
+        for (int i = 1; i <= k; i++) {
+            resultado = resultado * (n - k + i) / i;
+        }
+        return (int) resultado;
+    }
+
+    /**
+     * Registra el resultado de una mano en un asiento. No es seguro para
+     * varios hilos; cada hilo debe usar su propia tabla y fusionarlas al final.
+     *
+     * @param clase   clase de la mano inicial
+     * @param asiento asiento que la recibió
+     * @param gano    {@code true} si ese asiento ganó la partida
+     */
+    public void registrar(int clase, int asiento, boolean gano) {
+        int indice = clase * jugadores + asiento;
+        partidas[indice]++;
+        if (gano) {
+            victorias[indice]++;
+        }
+    }
+
+    /**
+     * Suma una partida completa a las jugadas.
+     */
+    void contarPartida() {
+        partidasJugadas++;
+    }
+
+    /**
+     * Suma los conteos de otra tabla con la misma cantidad de jugadores.
+     *
+     * @param otra tabla a sumar
+     * @return esta misma tabla
+     */
+    public TablaVictorias fusionar(TablaVictorias otra) {
+        if (otra.jugadores != jugadores) {
+            throw new ConfiguracionInvalidaException("Las tablas tienen distinta cantidad de jugadores");
+        }
+        for (int i = 0; i < partidas.length; i++) {
+            partidas[i] += otra.partidas[i];
+            victorias[i] += otra.victorias[i];
+        }
+        partidasJugadas += otra.partidasJugadas;
+        return this;
+    }
+
+    /**
+     * Devuelve cuántas partidas se jugaron con una mano en un asiento.
+     *
+     * @param clase   clase de la mano
+     * @param asiento asiento consultado
+     * @return partidas registradas
+     */
+    public long getPartidas(int clase, int asiento) {
+        return partidas[clase * jugadores + asiento];
+    }
+
+    /**
+     * Devuelve cuántas de esas partidas ganó el asiento.
+     *
+     * @param clase   clase de la mano
+     * @param asiento asiento consultado
+     * @return victorias registradas
+     */
+    public long getVictorias(int clase, int asiento) {
+        return victorias[clase * jugadores + asiento];
+    }
+
+    /**
+     * Estima la probabilidad de ganar con una mano en un asiento.
+     *
+     * @param clase   clase de la mano
+     * @param asiento asiento consultado
+     * @return proporción de victorias o {@code NaN} si no hay partidas
+     */
+    public double getProbabilidad(int clase, int asiento) {
+        long jugadas = getPartidas(clase, asiento);
+        return jugadas == 0 ? Double.NaN : (double) getVictorias(clase, asiento) / jugadas;
+    }
+
+    /**
+     * Devuelve la cantidad de jugadores por mesa.
+     *
+     * @return jugadores, incluido el humano
+     */
+    public int getJugadores() {
+        return jugadores;
+    }
+
+    /**
+     * Devuelve la semilla base de las partidas.
+     *
+     * @return semilla con la que se derivan las partidas de esta tabla
+     */
+    public long getSemilla() {
+        return semilla;
+    }
+
+    /**
+     * Cuenta las partidas acumuladas. Un análisis que extiende la tabla
+     * continúa desde este índice.
+     *
+     * @return partidas jugadas
+     */
+    public long getPartidasJugadas() {
+        return partidasJugadas;
+    }
+
+    /**
+     * Serializa la tabla en el formato binario.
+     *
+     * @return bytes listos para guardarse
+     */
+    public byte[] codificar() {
+        ByteBuffer salida = ByteBuffer.allocate(FIRMA.length + 1 + Long.BYTES + 2 * 10
+                + partidas.length * 2 * 10);
+        salida.put(FIRMA).put((byte) VERSION).putLong(semilla);
+        escribirVarint(salida, jugadores);
+        escribirVarint(salida, partidasJugadas);
+        for (int i = 0; i < partidas.length; i++) {
+            escribirVarint(salida, partidas[i]);
+            escribirVarint(salida, victorias[i]);
+        }
+        byte[] datos = new byte[salida.position()];
+        salida.flip().get(datos);
+        return datos;
+    }
+
+    /**
+     * Reconstruye una tabla desde su forma binaria.
+     *
+     * @param datos bytes leídos
+     * @return tabla decodificada
+     * @throws IllegalArgumentException si los datos no tienen el formato
+     *                                  esperado
+     */
+    public static TablaVictorias decodificar(byte[] datos) {
+        ByteBuffer entrada = ByteBuffer.wrap(datos);
+        try {
+            for (byte esperado : FIRMA) {
+                if (entrada.get() != esperado) {
+                    throw new IllegalArgumentException("El archivo no es una tabla de victorias");
+                }
+            }
+            int version = entrada.get() & 0xFF;
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Versión de tabla no soportada: " + version);
+            }
+            long semilla = entrada.getLong();
+            long jugadores = leerVarint(entrada);
+            if (jugadores < 2 || jugadores > Partida.MAX_CPUS + 1) {
+                throw new IllegalArgumentException("Cantidad de jugadores inválida: " + jugadores);
+            }
+            TablaVictorias tabla = new TablaVictorias((int) jugadores, semilla);
+            tabla.partidasJugadas = leerVarint(entrada);
+            for (int i = 0; i < tabla.partidas.length; i++) {
+                tabla.partidas[i] = leerVarint(entrada);
+                tabla.victorias[i] = leerVarint(entrada);
+                if (tabla.victorias[i] > tabla.partidas[i]) {
+                    throw new IllegalArgumentException("Hay más victorias que partidas en la tabla");
+                }
+            }
+            if (entrada.hasRemaining()) {
+                throw new IllegalArgumentException("La tabla tiene datos sobrantes");
+            }
+            return tabla;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("La tabla está truncada", e);
+        }
+    }
+
+    /**
+     * Guarda la tabla reemplazando el archivo de forma atómica, para que una
+     * interrupción nunca deje una tabla a medio escribir.
+     *
+     * @param archivo ruta de destino
+     * @throws IOException si no se puede escribir
+     */
+    public void guardar(Path archivo) throws IOException {
+        Path destino = archivo.toAbsolutePath();
+        Path temporal = destino.resolveSibling(destino.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(codificar());
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        }
+        try {
+            Files.move(temporal, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Lee una tabla desde un archivo.
+     *
+     * @param archivo ruta de origen
+     * @return tabla decodificada
+     * @throws IOException si no se puede leer
+     */
+    public static TablaVictorias leer(Path archivo) throws IOException {
+        return decodificar(Files.readAllBytes(archivo));
+    }
+
+    private static void escribirVarint(ByteBuffer salida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            salida.put((byte) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        salida.put((byte) valor);
+    }
+
+    private static long leerVarint(ByteBuffer entrada) {
+        long valor = 0;
+        for (int desplazamiento = 0; desplazamiento < Long.SIZE; desplazamiento += 7) {
+            int actual = entrada.get();
+            valor |= (long) (actual & 0x7F) << desplazamiento;
+            if ((actual & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalArgumentException("Entero variable demasiado largo");
+    }
+}
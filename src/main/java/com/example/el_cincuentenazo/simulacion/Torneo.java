@@ -0,0 +1,298 @@
+package com.example.el_cincuentenazo.simulacion;
+
+import com.example.el_cincuentenazo.ia.Estrategias;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Estrategia;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Torneo de todos contra todos entre estrategias registradas. Para cada
+ * combinación de estrategias del tamaño de la mesa y cada orden posible de
+ * esas estrategias en los asientos se juega la misma cantidad de partidas, y
+ * todos los órdenes de una combinación comparten las mismas semillas, de modo
+ * que la ventaja de un asiento o de un reparto se compensa. Cada partida sigue
+ * hasta que queda un solo jugador en pie, así que caer en el asiento 0 no
+ * regala la victoria al siguiente asiento. El trabajo se reparte entre todos
+ * los núcleos disponibles.
+ */
+public class Torneo {
+
+    /**
+     * Jugadores máximos por mesa. Cada combinación se juega en todos los
+     * órdenes de asiento, que crecen como el factorial de este valor.
+     */
+    public static final int MAX_JUGADORES_POR_MESA = 8;
+
+    /** Cantidad de partidas por debajo de la cual una tarea deja de dividirse. */
+    private static final int PARTIDAS_POR_TAREA = 256;
+
+    private final int jugadoresPorMesa;
+    private final int partidasPorOrden;
+    private final long semilla;
+    private final int paralelismo;
+    private final List<String> nombres;
+    private final List<LongFunction<Estrategia>> fabricas;
+
+    /**
+     * Crea un torneo que usa todos los núcleos de la máquina.
+     *
+     * @param jugadoresPorMesa estrategias en cada partida (2 a
+     *                         {@link #MAX_JUGADORES_POR_MESA})
+     * @param partidasPorOrden partidas por cada orden de asientos
+     * @param semilla          semilla base de la que se derivan todas las mezclas
+     */
+    public Torneo(int jugadoresPorMesa, int partidasPorOrden, long semilla) {
+        this(jugadoresPorMesa, partidasPorOrden, semilla, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un torneo con un nivel de paralelismo explícito.
+     *
+     * @param jugadoresPorMesa estrategias en cada partida (2 a
+     *                         {@link #MAX_JUGADORES_POR_MESA})
+     * @param partidasPorOrden partidas por cada orden de asientos
+     * @param semilla          semilla base de la que se derivan todas las mezclas
+     * @param paralelismo      hilos de trabajo a utilizar
+     */
+    public Torneo(int jugadoresPorMesa, int partidasPorOrden, long semilla, int paralelismo) {
+        if (jugadoresPorMesa < 2 || jugadoresPorMesa > MAX_JUGADORES_POR_MESA) {
+            throw new ConfiguracionInvalidaException("Cada mesa debe tener entre 2 y "
+                    + MAX_JUGADORES_POR_MESA + " jugadores");
+        }
+        if (partidasPorOrden < 1) {
+            throw new ConfiguracionInvalidaException("Debe jugarse al menos una partida por orden");
+        }
+        if (paralelismo < 1) {
+            throw new ConfiguracionInvalidaException("El paralelismo debe ser al menos 1");
+        }
+        this.jugadoresPorMesa = jugadoresPorMesa;
+        this.partidasPorOrden = partidasPorOrden;
+        this.semilla = semilla;
+        this.paralelismo = paralelismo;
+        this.nombres = new ArrayList<>();
+        this.fabricas = new ArrayList<>();
+    }
+
+    /**
+     * Registra una estrategia participante. La fábrica se invoca una vez por
+     * partida con una semilla derivada de la de la partida, para que las
+     * estrategias con azar también sean reproducibles.
+     *
+     * @param nombre  nombre con el que aparecerá en los resultados
+     * @param fabrica función que crea la estrategia a partir de una semilla
+     * @return este torneo, para encadenar registros
+     */
+    public Torneo registrar(String nombre, LongFunction<Estrategia> fabrica) {
+        nombres.add(Objects.requireNonNull(nombre));
+        fabricas.add(Objects.requireNonNull(fabrica));
+        return this;
+    }
+
+    /**
+     * Calcula cuántas partidas jugará el torneo con las estrategias
+     * registradas hasta ahora.
+     *
+     * @return combinaciones por órdenes de asiento por partidas por orden
+     */
+    public long getPartidasTotales() {
+        return combinaciones(nombres.size(), jugadoresPorMesa).size()
+                * (long) permutaciones(jugadoresPorMesa).size() * partidasPorOrden;
+    }
+
+    /**
+     * Juega todas las partidas del torneo y reúne los resultados.
+     *
+     * @return victorias, intervalos de confianza y Elo de cada estrategia
+     */
+    public ResultadoTorneo ejecutar() {
+        if (nombres.size() < jugadoresPorMesa) {
+            throw new ConfiguracionInvalidaException("Se necesitan al menos " + jugadoresPorMesa
+                    + " estrategias registradas");
+        }
+        List<int[]> combinaciones = combinaciones(nombres.size(), jugadoresPorMesa);
+        List<int[]> permutaciones = permutaciones(jugadoresPorMesa);
+        long total = combinaciones.size() * (long) permutaciones.size() * partidasPorOrden;
+        long inicio = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        Acumulado acumulado;
+        try {
+            acumulado = pool.invoke(new TareaLote(combinaciones, permutaciones, 0, total));
+        } finally {
+            pool.shutdown();
+        }
+        return new ResultadoTorneo(nombres, acumulado.victorias, acumulado.apariciones,
+                acumulado.enfrentamientos, total, acumulado.sinGanador, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Enumera los subconjuntos de {@code tamano} índices entre {@code 0} y
+     * {@code n - 1} en orden lexicográfico.
+     */
+    private static List<int[]> combinaciones(int n, int tamano) {
+        List<int[]> resultado = new ArrayList<>();
+        if (tamano > n) {
+            return resultado;
+        }
+        int[] actual = new int[tamano];
+        for (int i = 0; i < tamano; i++) {
+            actual[i] = i;
+        }
+        while (true) {
+            resultado.add(actual.clone());
+            int i = tamano - 1;
+            while (i >= 0 && actual[i] == n - tamano + i) {
+                i--;
+            }
+            if (i < 0) {
+                return resultado;
+            }
+            actual[i]++;
+            for (int j = i + 1; j < tamano; j++) {
+                actual[j] = actual[j - 1] + 1;
+            }
+        }
+    }
+
+    /**
+     * Enumera todas las permutaciones de {@code 0..n-1}.
+     */
+    private static List<int[]> permutaciones(int n) {
+        List<int[]> resultado = new ArrayList<>();
+        permutar(new int[n], new boolean[n], 0, resultado);
+        return resultado;
+    }
+
+    private static void permutar(int[] actual, boolean[] usado, int posicion, List<int[]> resultado) {
+        if (posicion == actual.length) {
+            resultado.add(actual.clone());
+            return;
+        }
+        for (int i = 0; i < actual.length; i++) {
+            if (!usado[i]) {
+                usado[i] = true;
+                actual[posicion] = i;
+                permutar(actual, usado, posicion + 1, resultado);
+                usado[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Totales parciales de un rango de partidas, combinables entre tareas.
+     */
+    private static final class Acumulado {
+        private final long[] victorias;
+        private final long[] apariciones;
+        private final long[][] enfrentamientos;
+        private long sinGanador;
+
+        private Acumulado(int estrategias) {
+            this.victorias = new long[estrategias];
+            this.apariciones = new long[estrategias];
+            this.enfrentamientos = new long[estrategias][estrategias];
+        }
+
+        private Acumulado combinar(Acumulado otro) {
+            for (int i = 0; i < victorias.length; i++) {
+                victorias[i] += otro.victorias[i];
+                apariciones[i] += otro.apariciones[i];
+                for (int j = 0; j < victorias.length; j++) {
+                    enfrentamientos[i][j] += otro.enfrentamientos[i][j];
+                }
+            }
+            sinGanador += otro.sinGanador;
+            return this;
+        }
+    }
+
+    /**
+     * Tarea que juega un rango de partidas o lo divide en dos mitades.
+     */
+    private final class TareaLote extends RecursiveTask<Acumulado> {
+        private final List<int[]> combinaciones;
+        private final List<int[]> permutaciones;
+        private final long desde;
+        private final long hasta;
+
+        private TareaLote(List<int[]> combinaciones, List<int[]> permutaciones, long desde, long hasta) {
+            this.combinaciones = combinaciones;
+            this.permutaciones = permutaciones;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Acumulado compute() {
+            if (hasta - desde <= PARTIDAS_POR_TAREA) {
+                return jugarRango();
+            }
+            long medio = (desde + hasta) >>> 1;
+            TareaLote izquierda = new TareaLote(combinaciones, permutaciones, desde, medio);
+            izquierda.fork();
+            Acumulado derecha = new TareaLote(combinaciones, permutaciones, medio, hasta).compute();
+            return derecha.combinar(izquierda.join());
+        }
+
+        private Acumulado jugarRango() {
+            Acumulado acumulado = new Acumulado(nombres.size());
+            Partida partida = new Partida();
+            partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+            partida.setHastaUltimoEnPie(true);
+            long porCombinacion = (long) permutaciones.size() * partidasPorOrden;
+            int[] participantes = new int[jugadoresPorMesa];
+            for (long i = desde; i < hasta; i++) {
+                int[] combinacion = combinaciones.get((int) (i / porCombinacion));
+                int[] orden = permutaciones.get((int) (i % porCombinacion / partidasPorOrden));
+                long numero = i / porCombinacion * partidasPorOrden + i % partidasPorOrden;
+                long semillaPartida = SimuladorPartidas.semillaDePartida(semilla, numero);
+                for (int asiento = 0; asiento < jugadoresPorMesa; asiento++) {
+                    int estrategia = combinacion[orden[asiento]];
+                    participantes[asiento] = estrategia;
+                    partida.setEstrategia(asiento, fabricas.get(estrategia)
+                            .apply(SimuladorPartidas.semillaDePartida(semillaPartida, estrategia)));
+                }
+                partida.iniciar(jugadoresPorMesa - 1, semillaPartida);
+                int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+                for (int participante : participantes) {
+                    acumulado.apariciones[participante]++;
+                }
+                if (ganador < 0) {
+                    acumulado.sinGanador++;
+                    continue;
+                }
+                int vencedor = participantes[ganador];
+                acumulado.victorias[vencedor]++;
+                for (int asiento = 0; asiento < jugadoresPorMesa; asiento++) {
+                    if (asiento != ganador) {
+                        acumulado.enfrentamientos[vencedor][participantes[asiento]]++;
+                    }
+                }
+            }
+            return acumulado;
+        }
+    }
+
+    /**
+     * Enfrenta a las estrategias incluidas en el juego.
+     *
+     * @param args jugadores por mesa, partidas por orden y semilla (opcionales)
+     */
+    public static void main(String[] args) {
+        int jugadores = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int partidas = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        Torneo torneo = new Torneo(jugadores, partidas, semilla)
+                .registrar("primera segura", s -> Estrategias.primeraSegura())
+                .registrar("al azar", Estrategias::alAzar)
+                .registrar("menor suma", s -> Estrategias.menorSuma())
+                .registrar("mayor suma", s -> Estrategias.mayorSuma());
+        System.out.println(torneo.ejecutar());
+    }
+}
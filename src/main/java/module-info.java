@@ -4,10 +4,19 @@
 module com.example.el_cincuentenazo {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
+    requires jdk.jfr;
 
     opens com.example.el_cincuentenazo to javafx.fxml;
     opens com.example.el_cincuentenazo.controlador to javafx.fxml;
     exports com.example.el_cincuentenazo;
     exports com.example.el_cincuentenazo.controlador;
+    exports com.example.el_cincuentenazo.guardado;
+    exports com.example.el_cincuentenazo.hilos;
+    exports com.example.el_cincuentenazo.ia;
+    exports com.example.el_cincuentenazo.mesas;
+    exports com.example.el_cincuentenazo.metricas;
     exports com.example.el_cincuentenazo.modelo;
+    exports com.example.el_cincuentenazo.repeticion;
+    exports com.example.el_cincuentenazo.simulacion;
 }
@@ -0,0 +1,90 @@
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.simulacion.AnalisisManos;
+import com.example.el_cincuentenazo.simulacion.TablaVictorias;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el análisis de manos iniciales")
+class AnalisisManosTest {
+
+    @Test
+    @DisplayName("Cada multiconjunto de rangos debe tener una clase distinta y describible")
+    void testClasesDeMano() {
+        Set<Integer> clases = new HashSet<>();
+        for (int a = 1; a <= 13; a++) {
+            for (int b = a; b <= 13; b++) {
+                for (int c = b; c <= 13; c++) {
+                    for (int d = c; d <= 13; d++) {
+                        List<Carta> mano = List.of(Carta.de(d - 1), Carta.de(13 + a - 1),
+                                Carta.de(26 + c - 1), Carta.de(39 + b - 1));
+                        int clase = TablaVictorias.claseDe(mano);
+                        assertTrue(clase >= 0 && clase < TablaVictorias.CLASES);
+                        assertTrue(clases.add(clase));
+                        String esperado = Carta.de(a - 1).getValor() + " " + Carta.de(b - 1).getValor() + " "
+                                + Carta.de(c - 1).getValor() + " " + Carta.de(d - 1).getValor();
+                        assertEquals(esperado, TablaVictorias.describir(clase));
+                    }
+                }
+            }
+        }
+        assertEquals(TablaVictorias.CLASES, clases.size());
+        assertEquals(TablaVictorias.claseDe(List.of(Carta.de("A", "picas"), Carta.de("K", "picas"),
+                        Carta.de("5", "picas"), Carta.de("5", "corazones"))),
+                TablaVictorias.claseDe(List.of(Carta.de("5", "tréboles"), Carta.de("A", "diamantes"),
+                        Carta.de("5", "diamantes"), Carta.de("K", "corazones"))));
+    }
+
+    @Test
+    @DisplayName("Extender por partes debe dar la misma tabla que una sola corrida")
+    void testExtensionIncremental() {
+        TablaVictorias completa = new AnalisisManos(3, 4).extender(new TablaVictorias(4, 11L), 3_000);
+        TablaVictorias partes = new TablaVictorias(4, 11L);
+        new AnalisisManos(3, 1).extender(partes, 1_000);
+        new AnalisisManos(3, 2).extender(partes, 2_000);
+
+        assertEquals(3_000, partes.getPartidasJugadas());
+        assertArrayEquals(completa.codificar(), partes.codificar());
+        for (int asiento = 0; asiento < 4; asiento++) {
+            long partidas = 0;
+            for (int clase = 0; clase < TablaVictorias.CLASES; clase++) {
+                partidas += completa.getPartidas(clase, asiento);
+                assertTrue(completa.getVictorias(clase, asiento) <= completa.getPartidas(clase, asiento));
+            }
+            assertEquals(3_000, partidas);
+        }
+    }
+
+    @Test
+    @DisplayName("La tabla en disco debe poder extenderse entre ejecuciones")
+    void testArchivo(@TempDir Path carpeta) throws Exception {
+        Path archivo = carpeta.resolve("manos" + TablaVictorias.EXTENSION);
+        AnalisisManos analisis = new AnalisisManos(2, 2);
+        analisis.extenderArchivo(archivo, 5L, 500);
+        TablaVictorias extendida = analisis.extenderArchivo(archivo, 999L, 700);
+        TablaVictorias directa = new AnalisisManos(2, 2).extender(new TablaVictorias(3, 5L), 1_200);
+
+        assertEquals(5L, extendida.getSemilla());
+        assertArrayEquals(directa.codificar(), TablaVictorias.leer(archivo).codificar());
+        assertThrows(ConfiguracionInvalidaException.class, () -> new AnalisisManos(3).extender(extendida, 1));
+    }
+
+    @Test
+    @DisplayName("Datos dañados deben rechazarse al decodificar")
+    void testDatosInvalidos() {
+        byte[] datos = new TablaVictorias(2, 1L).codificar();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TablaVictorias.decodificar(Arrays.copyOf(datos, datos.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TablaVictorias.decodificar(Arrays.copyOf(datos, datos.length + 1)));
+        assertThrows(IllegalArgumentException.class, () -> TablaVictorias.decodificar(new byte[]{'C', '5'}));
+    }
+}
@@ -0,0 +1,64 @@
+import com.example.el_cincuentenazo.metricas.AnalizadorJfr;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para los eventos de Flight Recorder")
+class AnalizadorJfrTest {
+
+    @Test
+    @DisplayName("Los eventos activados deben resumirse por fase")
+    void testResumenPorFase(@TempDir Path carpeta) throws Exception {
+        Path archivo = carpeta.resolve("juego.jfr");
+        long jugadas = 0;
+        try (Recording grabacion = new Recording()) {
+            for (String evento : new String[]{"Jugada", "Barajado", "Reciclaje"}) {
+                grabacion.enable(AnalizadorJfr.PREFIJO_EVENTOS + evento).withoutThreshold();
+            }
+            grabacion.start();
+            Partida partida = new Partida();
+            for (long semilla = 0; semilla < 30; semilla++) {
+                partida.iniciar(3, semilla);
+                SimuladorPartidas.jugarHastaTerminar(partida);
+                jugadas += partida.getJugadasRealizadas();
+            }
+            grabacion.stop();
+            grabacion.dump(archivo);
+        }
+        Map<String, AnalizadorJfr.ResumenFase> fases = AnalizadorJfr.analizar(archivo).stream()
+                .collect(Collectors.toMap(AnalizadorJfr.ResumenFase::getFase, Function.identity()));
+
+        assertTrue(fases.keySet().containsAll(List.of("Jugada humano", "Jugada CPU", "Barajado", "Reciclaje")));
+        assertTrue(fases.get("Jugada humano").getCantidad() + fases.get("Jugada CPU").getCantidad() >= jugadas);
+        assertTrue(fases.get("Barajado").getCantidad() >= 30);
+        AnalizadorJfr.ResumenFase cpu = fases.get("Jugada CPU");
+        assertTrue(cpu.getPercentilNanos(50) <= cpu.getPercentilNanos(99));
+        assertTrue(cpu.getPercentilNanos(99) <= cpu.getMaximoNanos());
+    }
+
+    @Test
+    @DisplayName("Con la configuración por defecto no deben grabarse eventos del juego")
+    void testDesactivadosPorDefecto(@TempDir Path carpeta) throws Exception {
+        Path archivo = carpeta.resolve("defecto.jfr");
+        try (Recording grabacion = new Recording(Configuration.getConfiguration("default"))) {
+            grabacion.start();
+            Partida partida = new Partida();
+            partida.iniciar(3, 1L);
+            SimuladorPartidas.jugarHastaTerminar(partida);
+            grabacion.stop();
+            grabacion.dump(archivo);
+        }
+
+        assertTrue(AnalizadorJfr.analizar(archivo).isEmpty());
+    }
+}
@@ -0,0 +1,93 @@
+import com.example.el_cincuentenazo.mesas.AnfitrionMesas;
+import com.example.el_cincuentenazo.mesas.ClienteLocal;
+import com.example.el_cincuentenazo.mesas.EstadoMesa;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el anfitrión de mesas")
+class AnfitrionMesasTest {
+
+    @Test
+    @DisplayName("Muchas mesas deben poder jugarse a la vez con clientes locales")
+    void testMuchasMesasConcurrentes() throws Exception {
+        try (AnfitrionMesas anfitrion = new AnfitrionMesas(4)) {
+            int cantidad = 1_000;
+            CompletableFuture<?>[] finales = new CompletableFuture<?>[cantidad];
+            for (int i = 0; i < cantidad; i++) {
+                long mesa = anfitrion.crearMesa(1 + i % Partida.MAX_CPUS, i);
+                ClienteLocal cliente = new ClienteLocal(anfitrion, "jugador " + i);
+                finales[i] = cliente.unirse(mesa)
+                        .thenCompose(estado -> cliente.jugarHastaTerminar(mesa))
+                        .thenCompose(estado -> {
+                            assertTrue(estado.estaTerminada());
+                            return anfitrion.cerrarMesa(mesa);
+                        });
+            }
+            CompletableFuture.allOf(finales).get(60, TimeUnit.SECONDS);
+
+            assertEquals(0, anfitrion.getMesasAbiertas());
+        }
+    }
+
+    @Test
+    @DisplayName("Una mesa confinada debe jugar igual que la partida con la misma semilla")
+    void testMismoResultadoQueSinAnfitrion() throws Exception {
+        Partida partida = new Partida();
+        partida.iniciar(3, 99L);
+        int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+
+        try (AnfitrionMesas anfitrion = new AnfitrionMesas(2)) {
+            long mesa = anfitrion.crearMesa(3, 99L);
+            ClienteLocal cliente = new ClienteLocal(anfitrion, "ana");
+            cliente.unirse(mesa).get(5, TimeUnit.SECONDS);
+            EstadoMesa estado = cliente.jugarHastaTerminar(mesa).get(5, TimeUnit.SECONDS);
+
+            assertEquals(partida.getSumaMesa(), estado.getSumaMesa());
+            assertEquals(partida.getJugadasRealizadas(), estado.getJugadasRealizadas());
+            assertEquals(ganador < 0 ? null : partida.getJugadores().get(ganador).getNombre(), estado.getGanador());
+        }
+    }
+
+    @Test
+    @DisplayName("El asiento ocupado y las jugadas inválidas deben rechazarse sin romper la mesa")
+    void testErroresDeJuego() throws Exception {
+        try (AnfitrionMesas anfitrion = new AnfitrionMesas(1)) {
+            long mesa = anfitrion.crearMesa(2, 5L);
+            anfitrion.unirse(mesa, "ana").get(5, TimeUnit.SECONDS);
+
+            ExecutionException ocupado = assertThrows(ExecutionException.class,
+                    () -> anfitrion.unirse(mesa, "beto").get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ConfiguracionInvalidaException.class, ocupado.getCause());
+
+            ExecutionException invalida = assertThrows(ExecutionException.class,
+                    () -> anfitrion.jugar(mesa, "ana", 9).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(JugadaInvalidaException.class, invalida.getCause());
+
+            EstadoMesa estado = anfitrion.consultar(mesa).get(5, TimeUnit.SECONDS);
+            assertEquals("ana", estado.getJugador());
+            assertEquals(0, estado.getJugadasRealizadas());
+        }
+    }
+
+    @Test
+    @DisplayName("Una mesa cerrada o inexistente debe rechazar comandos")
+    void testMesaCerrada() throws Exception {
+        try (AnfitrionMesas anfitrion = new AnfitrionMesas(1)) {
+            long mesa = anfitrion.crearMesa(1, 3L);
+            anfitrion.cerrarMesa(mesa).get(5, TimeUnit.SECONDS);
+
+            ExecutionException cerrada = assertThrows(ExecutionException.class,
+                    () -> anfitrion.consultar(mesa).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ConfiguracionInvalidaException.class, cerrada.getCause());
+            assertThrows(ConfiguracionInvalidaException.class, () -> anfitrion.crearMesa(0, 1L));
+        }
+    }
+}
@@ -3,9 +3,17 @@
 
 import com.example.el_cincuentenazo.modelo.Baraja;
 import com.example.el_cincuentenazo.modelo.Carta;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Pruebas unitarias para la clase Baraja")
@@ -147,4 +155,98 @@ class BarajaTest {
 
         assertEquals(52, barajaTest.tamano());
     }
+
+    @Test
+    @DisplayName("Las cartas leídas desde archivo deben ser las instancias canónicas")
+    void testCartasLeidasSonCanonicas() {
+        Baraja barajaArchivo = new Baraja("cartas.txt");
+
+        assertEquals(52, barajaArchivo.tamano());
+        while (!barajaArchivo.estaVacia()) {
+            Carta carta = barajaArchivo.robar();
+            assertSame(Carta.de(carta.getOrdinal()), carta);
+        }
+    }
+
+    @Test
+    @DisplayName("Un archivo modificado debe volver a leerse y uno inválido usar la baraja por defecto")
+    void testPlantillaSeRecargaAlCambiarArchivo(@TempDir Path directorio) throws IOException {
+        Path archivo = directorio.resolve("mazo.txt");
+        Files.writeString(archivo, "As de picas, 2 de corazones");
+        Files.setLastModifiedTime(archivo, FileTime.fromMillis(1_000_000L));
+
+        Baraja primera = new Baraja(archivo.toString());
+        Baraja segunda = new Baraja(archivo.toString());
+        assertEquals(2, primera.tamano());
+        assertEquals(2, segunda.tamano());
+        assertSame(primera.robar(), segunda.robar());
+
+        Files.writeString(archivo, "Rey de tréboles");
+        Files.setLastModifiedTime(archivo, FileTime.fromMillis(2_000_000L));
+        Baraja modificada = new Baraja(archivo.toString());
+        assertEquals(1, modificada.tamano());
+        assertEquals("K", modificada.robar().getValor());
+
+        Files.writeString(archivo, "esto no es una carta");
+        Files.setLastModifiedTime(archivo, FileTime.fromMillis(3_000_000L));
+        assertEquals(52, new Baraja(archivo.toString()).tamano());
+    }
+
+    @Test
+    @DisplayName("Barajar con la misma semilla debe producir el mismo orden")
+    void testBarajarConSemilla() {
+        Baraja baraja1 = new Baraja(null, new SplittableRandom(99));
+        Baraja baraja2 = new Baraja(null, new SplittableRandom(99));
+
+        baraja1.barajar();
+        baraja2.barajar();
+
+        while (!baraja1.estaVacia()) {
+            assertSame(baraja1.robar(), baraja2.robar());
+        }
+        assertTrue(baraja2.estaVacia());
+    }
+
+    @Test
+    @DisplayName("Robar, poner y sacar deben comportarse como una cola doble")
+    void testSemanticaDeColaDoble() {
+        Deque<Carta> modelo = new ArrayDeque<>();
+        baraja.vaciar();
+        SplittableRandom aleatorio = new SplittableRandom(5);
+
+        for (int paso = 0; paso < 5_000; paso++) {
+            int operacion = aleatorio.nextInt(4);
+            if (operacion <= 1) {
+                Carta carta = Carta.de(aleatorio.nextInt(Carta.TOTAL_CARTAS));
+                baraja.poner(carta);
+                modelo.addLast(carta);
+            } else if (operacion == 2) {
+                assertSame(modelo.pollFirst(), baraja.robar());
+            } else {
+                assertSame(modelo.peekLast(), baraja.verUltimaCarta());
+                assertSame(modelo.pollLast(), baraja.sacarUltimaCarta());
+            }
+            assertEquals(modelo.size(), baraja.tamano());
+        }
+    }
+
+    @Test
+    @DisplayName("Reciclar desde la mesa debe dejar solo la carta visible en ella")
+    void testReciclarDesdeMesa() {
+        Baraja mesa = new Baraja(null);
+        Carta visible = mesa.verUltimaCarta();
+        baraja.vaciar();
+
+        baraja.reciclarDesde(mesa);
+
+        assertEquals(51, baraja.tamano());
+        assertEquals(1, mesa.tamano());
+        assertSame(visible, mesa.verUltimaCarta());
+        long mascara = 0L;
+        while (!baraja.estaVacia()) {
+            mascara |= baraja.robar().getMascara();
+        }
+        assertEquals(51, Long.bitCount(mascara));
+        assertEquals(0L, mascara & visible.getMascara());
+    }
 }
\ No newline at end of file
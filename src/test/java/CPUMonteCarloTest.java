@@ -0,0 +1,127 @@
+import com.example.el_cincuentenazo.ia.CPUMonteCarlo;
+import com.example.el_cincuentenazo.ia.SimulacionRapida;
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para la CPU Monte Carlo")
+class CPUMonteCarloTest {
+
+    @Test
+    @DisplayName("Una simulación rápida al azar debe terminar con un ganador válido")
+    void testSimulacionRapidaTermina() {
+        SplittableRandom azar = new SplittableRandom(5);
+        SimulacionRapida simulacion = new SimulacionRapida(3, Carta.TOTAL_CARTAS);
+        simulacion.reiniciar(0, 0);
+        int[] mazo = new int[Carta.TOTAL_CARTAS];
+        for (int i = 0; i < mazo.length; i++) {
+            mazo[i] = i;
+        }
+        for (int i = 0; i < 12; i++) {
+            simulacion.repartir(i % 3, mazo[i]);
+        }
+        simulacion.agregarAMesa(mazo[12]);
+        for (int i = 13; i < mazo.length; i++) {
+            simulacion.agregarAlRobo(mazo[i]);
+        }
+
+        int ganador = simulacion.completarAlAzar(azar, 10_000);
+
+        assertTrue(simulacion.terminada());
+        assertTrue(ganador >= 0 && ganador < 3);
+        assertTrue(simulacion.getSuma() <= SimulacionRapida.LIMITE);
+    }
+
+    @Test
+    @DisplayName("Hasta el último en pie, la simulación rápida debe seguir tras eliminar al asiento 0")
+    void testSimulacionRapidaHastaUltimoEnPie() {
+        SimulacionRapida simulacion = new SimulacionRapida(3, Carta.TOTAL_CARTAS, true);
+        simulacion.reiniciar(0, 1);
+        for (int i = 0; i < 8; i++) {
+            simulacion.repartir(1 + i % 2, i);
+        }
+        simulacion.agregarAMesa(8);
+        for (int i = 9; i < Carta.TOTAL_CARTAS; i++) {
+            simulacion.agregarAlRobo(i);
+        }
+        simulacion.eliminarAsiento(0);
+        assertFalse(simulacion.terminada());
+        assertEquals(-1, simulacion.ganador());
+
+        int ganador = simulacion.completarAlAzar(new SplittableRandom(7), 10_000);
+
+        assertTrue(ganador == 1 || ganador == 2);
+        assertTrue(simulacion.estaEliminado(3 - ganador));
+    }
+
+    @Test
+    @DisplayName("Hasta el último en pie, las CPU Monte Carlo deben jugar hasta que quede una")
+    void testPartidaCompletaHastaUltimoEnPie() {
+        Partida partida = new Partida(new SplittableRandom(11));
+        partida.setHastaUltimoEnPie(true);
+        partida.setFabricaCPU(nombre -> new CPUMonteCarlo(nombre, partida, 2, ForkJoinPool.commonPool(),
+                new SplittableRandom(3)));
+        partida.iniciar(3);
+
+        int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+
+        assertTrue(ganador == -1 || partida.getJugadoresActivos() == 1);
+    }
+
+    @Test
+    @DisplayName("La CPU Monte Carlo debe jugar solo cartas seguras y completar la partida")
+    void testPartidaCompleta() {
+        Partida partida = new Partida(new SplittableRandom(11));
+        partida.setFabricaCPU(nombre -> new CPUMonteCarlo(nombre, partida, 2, ForkJoinPool.commonPool(),
+                new SplittableRandom(3)));
+        partida.iniciar(2);
+
+        int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+
+        assertTrue(partida.estaTerminada());
+        assertTrue(ganador >= -1 && ganador <= 2);
+        assertTrue(partida.getSumaMesa() <= 50);
+        for (Jugador jugador : partida.getJugadores().subList(1, 3)) {
+            assertInstanceOf(CPUMonteCarlo.class, jugador);
+        }
+    }
+
+    @Test
+    @DisplayName("La búsqueda debe respetar el tiempo asignado e informar sus simulaciones")
+    void testPresupuestoDeTiempo() {
+        Partida partida = new Partida(new SplittableRandom(21));
+        CPUMonteCarlo cpu = new CPUMonteCarlo("CPU 1", partida, 20, ForkJoinPool.commonPool(),
+                new SplittableRandom(4));
+        partida.setFabricaCPU(nombre -> cpu);
+        partida.iniciar(1);
+
+        int sumaAntes = partida.getSumaMesa();
+        int manoAntes = cpu.getMano().size();
+        long inicio = System.nanoTime();
+        Carta carta = cpu.jugarCarta(sumaAntes);
+        long milis = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertNotNull(carta);
+        assertTrue(sumaAntes + carta.valorParaSuma(sumaAntes) <= 50);
+        assertEquals(manoAntes - 1, cpu.getMano().size());
+        assertTrue(milis < 1_000, "La búsqueda tardó " + milis + " ms");
+        if (cpu.getSimulacionesUltimaJugada() > 0) {
+            assertTrue(cpu.getSimulacionesPorSegundo() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Un tiempo por jugada no positivo debe lanzar ConfiguracionInvalidaException")
+    void testPresupuestoInvalido() {
+        Partida partida = new Partida();
+        assertThrows(ConfiguracionInvalidaException.class,
+                () -> new CPUMonteCarlo("CPU 1", partida, 0, ForkJoinPool.commonPool(), new SplittableRandom()));
+    }
+}
@@ -0,0 +1,124 @@
+import com.example.el_cincuentenazo.hilos.CalculoEspeculativo;
+import com.example.el_cincuentenazo.hilos.RitmoCPU;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Jugador;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.ObservadorPartida;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el cálculo especulativo de los turnos de CPU")
+class CalculoEspeculativoTest {
+
+    private static Partida partidaEnTurnoCPU(long semilla) throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.iniciar(3, semilla);
+        JugadorHumano humano = partida.getJugadorHumano();
+        int jugables = humano.mascaraJugables(partida.getSumaMesa());
+        partida.jugarTurnoHumano(humano.getMano().get(Integer.numberOfTrailingZeros(jugables)));
+        return partida;
+    }
+
+    @Test
+    @DisplayName("Aplicar el cálculo debe dejar la partida igual que jugar los turnos directamente")
+    void testMismoResultadoQueJugarDirecto() throws Exception {
+        for (long semilla = 1; semilla <= 20; semilla++) {
+            Partida especulativa = partidaEnTurnoCPU(semilla);
+            Partida directa = partidaEnTurnoCPU(semilla);
+            CalculoEspeculativo calculo = CalculoEspeculativo.lanzar(especulativa, ForkJoinPool.commonPool());
+            calculo.getResultado().get(5, TimeUnit.SECONDS);
+
+            assertTrue(calculo.aplicarEn(especulativa));
+            directa.jugarTurnoCPU();
+            assertArrayEquals(directa.capturarInstantanea(), especulativa.capturarInstantanea());
+        }
+    }
+
+    @Test
+    @DisplayName("Aplicar el cálculo debe conservar los jugadores y avisar solo lo que cambió")
+    void testConservaJugadoresYAvisos() throws Exception {
+        Partida partida = partidaEnTurnoCPU(2L);
+        List<Jugador> antes = new ArrayList<>(partida.getJugadores());
+        List<ObservadorPartida.Cambio> cambios = new ArrayList<>();
+        partida.agregarObservador((cambio, asiento) -> cambios.add(cambio));
+        CalculoEspeculativo calculo = CalculoEspeculativo.lanzar(partida, ForkJoinPool.commonPool());
+        calculo.getResultado().get(5, TimeUnit.SECONDS);
+
+        assertTrue(calculo.aplicarEn(partida));
+        for (int i = 0; i < antes.size(); i++) {
+            assertSame(antes.get(i), partida.getJugadores().get(i));
+        }
+        assertFalse(cambios.contains(ObservadorPartida.Cambio.REINICIO));
+        assertTrue(cambios.contains(ObservadorPartida.Cambio.JUGADOR));
+        assertTrue(cambios.contains(ObservadorPartida.Cambio.TURNO));
+    }
+
+    @Test
+    @DisplayName("Las decisiones imposibles deben rechazarse")
+    void testDecisionesInvalidas() throws Exception {
+        Partida partida = partidaEnTurnoCPU(3L);
+        assertThrows(JugadaInvalidaException.class, () -> partida.jugarTurnoCPU(new int[] {9}, 0));
+        assertThrows(IllegalArgumentException.class, () -> partida.jugarTurnoCPU(new int[0], 1));
+        partida.jugarTurnoCPU(new int[0], 0);
+        assertEquals(1, partida.getTurnoActual());
+    }
+
+    @Test
+    @DisplayName("Si la partida cambió, el cálculo debe descartarse sin tocarla")
+    void testDescartaSiLaPartidaCambio() throws Exception {
+        Partida partida = partidaEnTurnoCPU(4L);
+        CalculoEspeculativo calculo = CalculoEspeculativo.lanzar(partida, ForkJoinPool.commonPool());
+        calculo.getResultado().get(5, TimeUnit.SECONDS);
+        partida.iniciar(3, 5L);
+        byte[] antes = partida.capturarInstantanea();
+
+        assertFalse(calculo.aplicarEn(partida));
+        assertFalse(calculo.fallo());
+        assertArrayEquals(antes, partida.capturarInstantanea());
+    }
+
+    @Test
+    @DisplayName("Una partida confinada debe rechazar cambios desde otro hilo y el cálculo debe seguir funcionando")
+    void testConfinamiento() throws Exception {
+        Partida partida = partidaEnTurnoCPU(6L);
+        partida.confinarAlHiloActual();
+        CompletableFuture<Void> ajeno = CompletableFuture.runAsync(partida::jugarTurnoCPU);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> ajeno.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+
+        CalculoEspeculativo calculo = CalculoEspeculativo.lanzar(partida, ForkJoinPool.commonPool());
+        calculo.getResultado().get(5, TimeUnit.SECONDS);
+        assertTrue(calculo.aplicarEn(partida));
+        assertEquals(0, partida.getTurnoActual());
+    }
+
+    @Test
+    @DisplayName("La copia no debe compartir estado con la partida original")
+    void testCopiaIndependiente() throws Exception {
+        Partida partida = partidaEnTurnoCPU(8L);
+        byte[] antes = partida.capturarInstantanea();
+        Partida copia = partida.copiar();
+        assertArrayEquals(antes, copia.capturarInstantanea());
+
+        copia.jugarTurnoCPU();
+        assertArrayEquals(antes, partida.capturarInstantanea());
+    }
+
+    @Test
+    @DisplayName("El ritmo debe leerse sin distinguir mayúsculas y usar el fijo por defecto")
+    void testRitmoDesdeTexto() {
+        assertEquals(RitmoCPU.INSTANTANEO, RitmoCPU.desdeTexto("instantaneo"));
+        assertEquals(RitmoCPU.ADAPTATIVO, RitmoCPU.desdeTexto(" Adaptativo "));
+        assertEquals(RitmoCPU.FIJO, RitmoCPU.desdeTexto(null));
+        assertEquals(RitmoCPU.FIJO, RitmoCPU.desdeTexto("rapidisimo"));
+        assertEquals(0, RitmoCPU.INSTANTANEO.getEsperaMaximaMilis());
+    }
+}
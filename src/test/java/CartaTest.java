@@ -91,4 +91,36 @@ class CartaTest {
         assertEquals(10, as.valorParaSuma(40)); // 40 + 10 = 50 (permitido)
         assertEquals(1, as.valorParaSuma(41));  // 41 + 10 = 51 (excede)
     }
+
+    @Test
+    @DisplayName("Carta.de debe devolver siempre la misma instancia canónica")
+    void testCartaCanonica() {
+        Carta porTexto = Carta.de("Q", "picas");
+        Carta porOrdinal = Carta.de(porTexto.getOrdinal());
+
+        assertSame(porTexto, porOrdinal);
+        assertEquals(12, porTexto.getRango());
+        assertEquals(1, porTexto.getIndicePalo());
+        assertEquals(new Carta("Q", "picas"), porTexto);
+    }
+
+    @Test
+    @DisplayName("Los ordinales deben cubrir las 52 cartas sin repetirse")
+    void testOrdinalesUnicos() {
+        long mascara = 0L;
+        for (int ordinal = 0; ordinal < Carta.TOTAL_CARTAS; ordinal++) {
+            Carta carta = Carta.de(ordinal);
+            assertEquals(ordinal, carta.getOrdinal());
+            mascara |= carta.getMascara();
+        }
+
+        assertEquals(Long.bitCount(mascara), Carta.TOTAL_CARTAS);
+    }
+
+    @Test
+    @DisplayName("Valores o palos desconocidos deben lanzar IllegalArgumentException")
+    void testCartaInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new Carta("1", "picas"));
+        assertThrows(IllegalArgumentException.class, () -> Carta.de("A", "copas"));
+    }
 }
\ No newline at end of file
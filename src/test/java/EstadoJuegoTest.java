@@ -0,0 +1,125 @@
+import com.example.el_cincuentenazo.modelo.EstadoJuego;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroJugadas;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el estado inmutable de la partida")
+class EstadoJuegoTest {
+
+    /**
+     * Aplica al estado las entradas del registro que todavía no se aplicaron.
+     */
+    private static EstadoJuego aplicarRegistro(EstadoJuego estado, Partida partida, int desde) {
+        int[] entradas = partida.getRegistro().decodificar();
+        for (int i = desde; i < entradas.length; i++) {
+            estado = estado.aplicar(entradas[i] == RegistroJugadas.ELIMINACION
+                    ? EstadoJuego.SIN_JUGADA : entradas[i] - 1);
+        }
+        return estado;
+    }
+
+    /**
+     * Juega una partida y la sigue con el estado inmutable.
+     *
+     * @return cantidad de veces que el mazo de robo creció por un reciclaje
+     */
+    private static int jugarEnParalelo(int cpus, long semilla, boolean hastaUltimoEnPie)
+            throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.setHastaUltimoEnPie(hastaUltimoEnPie);
+        partida.iniciar(cpus, semilla);
+        JugadorHumano humano = partida.getJugadorHumano();
+        EstadoJuego estado = partida.getEstado();
+        int aplicadas = 0;
+        int reciclajes = 0;
+        for (int ronda = 0; ronda < 2_000 && !partida.estaTerminada(); ronda++) {
+            int porRobar = partida.getCartasPorRobar();
+            if (!humano.estaEliminado()) {
+                int jugables = humano.mascaraJugables(partida.getSumaMesa());
+                assertEquals(jugables, estado.jugables());
+                if (jugables == 0) {
+                    partida.eliminarHumanoPorFaltaDeJugadas();
+                    estado = estado.aplicar(EstadoJuego.SIN_JUGADA);
+                    aplicadas = partida.getRegistro().cantidad();
+                    assertEquals(partida.estaTerminada(), estado.estaTerminada());
+                    continue;
+                }
+                partida.jugarTurnoHumano(humano.getMano().get(Integer.numberOfTrailingZeros(jugables)));
+            }
+            partida.jugarTurnoCPU();
+            if (partida.getCartasPorRobar() > porRobar) {
+                reciclajes++;
+            }
+            estado = aplicarRegistro(estado, partida, aplicadas);
+            aplicadas = partida.getRegistro().cantidad();
+            if (!partida.estaTerminada()) {
+                assertEquals(partida.getEstado(), estado);
+            }
+        }
+        assertEquals(partida.estaTerminada(), estado.estaTerminada());
+        assertEquals(partida.getSumaMesa(), estado.getSuma());
+        assertEquals(partida.getAsientoGanador(), estado.getAsientoGanador());
+        assertEquals(partida.getCartasPorRobar(), estado.getCartasPorRobar());
+        return reciclajes;
+    }
+
+    @Test
+    @DisplayName("Aplicar las mismas jugadas debe seguir exactamente a la partida, incluidos los reciclajes")
+    void testSigueALaPartida() throws JugadaInvalidaException {
+        int reciclajes = 0;
+        for (long semilla = 1; semilla <= 60; semilla++) {
+            reciclajes += jugarEnParalelo(1 + (int) (semilla % 3), semilla, false);
+        }
+        reciclajes += jugarEnParalelo(7, 99L, false);
+        assertTrue(reciclajes > 0);
+    }
+
+    @Test
+    @DisplayName("Hasta el último en pie, el estado debe seguir a la partida tras eliminar al humano")
+    void testSigueALaPartidaHastaUltimoEnPie() throws JugadaInvalidaException {
+        for (long semilla = 1; semilla <= 60; semilla++) {
+            jugarEnParalelo(1 + (int) (semilla % 3), semilla, true);
+        }
+        Partida partida = new Partida();
+        partida.setHastaUltimoEnPie(true);
+        partida.iniciar(3, 1L);
+        assertTrue(partida.getEstado().juegaHastaUltimoEnPie());
+    }
+
+    @Test
+    @DisplayName("Aplicar una jugada no debe modificar el estado original")
+    void testInmutable() {
+        Partida partida = new Partida();
+        partida.iniciar(3, 21L);
+        EstadoJuego estado = partida.getEstado();
+        EstadoJuego copia = partida.getEstado();
+        int jugables = estado.jugables();
+        assertNotEquals(0, jugables);
+
+        EstadoJuego siguiente = estado.aplicar(Integer.numberOfTrailingZeros(jugables));
+        assertEquals(copia, estado);
+        assertEquals(copia.hashCode(), estado.hashCode());
+        assertNotEquals(estado, siguiente);
+        assertEquals(1, siguiente.getTurno());
+        assertEquals(estado.getCartasEnMesa() + 1, siguiente.getCartasEnMesa());
+        assertEquals(estado.getCartasPorRobar() - 1, siguiente.getCartasPorRobar());
+    }
+
+    @Test
+    @DisplayName("Las jugadas ilegales deben rechazarse")
+    void testJugadasIlegales() {
+        Partida partida = new Partida();
+        partida.iniciar(1, 5L);
+        EstadoJuego estado = partida.getEstado();
+        int jugables = estado.jugables();
+        assertNotEquals(0, jugables);
+
+        assertThrows(IllegalArgumentException.class, () -> estado.aplicar(EstadoJuego.SIN_JUGADA));
+        assertThrows(IllegalArgumentException.class, () -> estado.aplicar(estado.tamanoMano(0)));
+        assertThrows(IllegalArgumentException.class, () -> estado.aplicar(-2));
+    }
+}
@@ -0,0 +1,284 @@
+import com.example.el_cincuentenazo.guardado.GuardadoAutomatico;
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para las instantáneas de partida")
+class InstantaneaPartidaTest {
+
+    @Test
+    @DisplayName("Restaurar cada ronda debe reproducir exactamente el mismo estado")
+    void testIdaYVueltaEnCadaRonda() throws JugadaInvalidaException {
+        boolean huboReciclaje = false;
+        for (long semilla = 0; semilla < 20; semilla++) {
+            Partida partida = new Partida();
+            partida.iniciar(3, semilla);
+            int rondas = 0;
+            while (!partida.estaTerminada() && rondas++ < SimuladorPartidas.MAX_RONDAS) {
+                byte[] datos = partida.capturarInstantanea();
+                Partida copia = new Partida();
+                copia.restaurarInstantanea(datos);
+                assertArrayEquals(datos, copia.capturarInstantanea());
+                assertEquals(partida.getHistorial(), copia.getHistorial());
+                if (!jugarRonda(partida)) {
+                    break;
+                }
+            }
+            huboReciclaje |= partida.getHistorial().stream().anyMatch(linea -> linea.startsWith("Se recicla"));
+        }
+        assertTrue(huboReciclaje);
+    }
+
+    @Test
+    @DisplayName("Una partida restaurada a mitad de juego debe terminar igual que la original")
+    void testContinuaIgual() throws JugadaInvalidaException {
+        for (long semilla = 0; semilla < 50; semilla++) {
+            Partida partida = new Partida();
+            partida.iniciar(1 + (int) (semilla % 7), semilla);
+            for (int i = 0; i < 6 && jugarRonda(partida); i++) {
+                // avanza hasta la mitad de la partida
+            }
+            Partida copia = new Partida();
+            copia.restaurarInstantanea(partida.capturarInstantanea());
+
+            assertEquals(SimuladorPartidas.jugarHastaTerminar(partida), SimuladorPartidas.jugarHastaTerminar(copia));
+            assertTrue(partida.getRegistro().mismoContenido(copia.getRegistro()));
+            assertEquals(partida.getSumaMesa(), copia.getSumaMesa());
+            assertEquals(partida.getHistorial(), copia.getHistorial());
+            assertArrayEquals(partida.getOrdinalesPorRobar(), copia.getOrdinalesPorRobar());
+        }
+    }
+
+    @Test
+    @DisplayName("Datos dañados deben rechazarse sin modificar la partida")
+    void testDatosInvalidos() {
+        Partida partida = new Partida();
+        partida.iniciar(2, 8L);
+        byte[] datos = partida.capturarInstantanea();
+        Partida destino = new Partida();
+        destino.iniciar(1, 3L);
+        int suma = destino.getSumaMesa();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> destino.restaurarInstantanea(Arrays.copyOf(datos, datos.length - 1)));
+        byte[] otraVersion = datos.clone();
+        otraVersion[4] = 99;
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(otraVersion));
+        assertThrows(IllegalArgumentException.class,
+                () -> destino.restaurarInstantanea(Arrays.copyOf(datos, datos.length + 1)));
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(new byte[]{1, 2, 3}));
+
+        assertEquals(2, destino.getJugadores().size());
+        assertEquals(suma, destino.getSumaMesa());
+    }
+
+    @Test
+    @DisplayName("Una instantánea tomada a mitad del turno de las CPU debe retomarse con las CPU")
+    void testRestaurarEnTurnoDeCPU() throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.iniciar(3, 12L);
+        JugadorHumano humano = partida.getJugadorHumano();
+        int jugables = humano.mascaraJugables(partida.getSumaMesa());
+        partida.jugarTurnoHumano(humano.getMano().get(Integer.numberOfTrailingZeros(jugables)));
+        byte[] datos = partida.capturarInstantanea();
+
+        Partida restaurada = new Partida();
+        restaurada.restaurarInstantanea(datos);
+        assertNotEquals(0, restaurada.getTurnoActual());
+        Carta carta = restaurada.getJugadorHumano().getMano().get(0);
+        assertThrows(JugadaInvalidaException.class, () -> restaurada.jugarTurnoHumano(carta));
+        assertArrayEquals(datos, restaurada.capturarInstantanea());
+
+        partida.jugarTurnoCPU();
+        restaurada.jugarTurnoCPU();
+        assertEquals(0, restaurada.getTurnoActual());
+        assertArrayEquals(partida.capturarInstantanea(), restaurada.capturarInstantanea());
+    }
+
+    @Test
+    @DisplayName("Valores negativos o fuera de rango en la cabecera deben rechazarse y borrar el guardado")
+    void testCabeceraConValoresNegativos(@TempDir Path carpeta) throws Exception {
+        Partida partida = new Partida();
+        partida.iniciar(3, 8L);
+        byte[] datos = partida.capturarInstantanea();
+        Partida destino = new Partida();
+
+        byte[] turnoNegativo = conCampoDeCabecera(datos, CAMPO_TURNO, -1L);
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(turnoNegativo));
+        assertThrows(IllegalArgumentException.class,
+                () -> destino.restaurarInstantanea(conCampoDeCabecera(datos, CAMPO_SUMA, 51L << 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> destino.restaurarInstantanea(conCampoDeCabecera(datos, CAMPO_SUMA, (1L << 20) - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> destino.restaurarInstantanea(conCampoDeCabecera(datos, CAMPO_SUMA, -1L)));
+
+        Path archivo = carpeta.resolve("partida" + GuardadoAutomatico.EXTENSION);
+        Files.write(archivo, turnoNegativo);
+        try (GuardadoAutomatico guardado = new GuardadoAutomatico(archivo)) {
+            assertFalse(guardado.restaurarEn(new Partida()));
+            assertFalse(Files.exists(archivo));
+        }
+    }
+
+    /** Bytes fijos al inicio de la instantánea: firma, versión y semilla. */
+    private static final int INICIO_CAMPOS = 4 + 1 + Long.BYTES;
+    private static final int CAMPO_SUMA = 2;
+    private static final int CAMPO_TURNO = 3;
+
+    /**
+     * Reemplaza uno de los enteros variables que siguen a la semilla (llamadas,
+     * barajas, suma y turno) por el valor indicado, codificado tal cual.
+     */
+    private static byte[] conCampoDeCabecera(byte[] datos, int campo, long valor) {
+        int inicio = INICIO_CAMPOS;
+        for (int i = 0; i < campo; i++) {
+            while (datos[inicio++] < 0) {
+                // salta el entero variable
+            }
+        }
+        int fin = inicio;
+        while (datos[fin++] < 0) {
+            // recorre el campo a reemplazar
+        }
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        salida.write(datos, 0, inicio);
+        escribirVarint(salida, valor);
+        salida.write(datos, fin, datos.length - fin);
+        return salida.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Tamaños de historial desmedidos deben rechazarse antes de reservar memoria")
+    void testHistorialConTamanosHostiles() {
+        Partida partida = new Partida();
+        partida.iniciar(2, 8L);
+        byte[] datos = partida.capturarInstantanea();
+        Partida destino = new Partida();
+
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(
+                conHistorial(datos, RegistroEventos.Modo.ACOTADO, Integer.MAX_VALUE, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(
+                conHistorial(datos, RegistroEventos.Modo.COMPLETO, 64, Integer.MAX_VALUE, Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> destino.restaurarInstantanea(
+                conHistorial(datos, RegistroEventos.Modo.DESACTIVADO, 0, -1L, 0)));
+        destino.restaurarInstantanea(conHistorial(datos, RegistroEventos.Modo.COMPLETO, 64, 1, 1));
+        assertEquals(partida.getHistorial(), destino.getHistorial());
+    }
+
+    /**
+     * Reemplaza el historial de la instantánea de una partida recién iniciada
+     * en modo completo, que ocupa sus últimos ocho bytes, conservando el
+     * evento de inicio.
+     */
+    private static byte[] conHistorial(byte[] datos, RegistroEventos.Modo modo, long capacidad, long total,
+                                       long guardados) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        salida.write(datos, 0, datos.length - 8);
+        salida.write(modo.ordinal());
+        escribirVarint(salida, capacidad);
+        escribirVarint(salida, total);
+        escribirVarint(salida, guardados);
+        salida.write(datos, datos.length - Integer.BYTES, Integer.BYTES);
+        return salida.toByteArray();
+    }
+
+    private static void escribirVarint(ByteArrayOutputStream salida, long valor) {
+        while ((valor & ~0x7FL) != 0) {
+            salida.write((int) ((valor & 0x7F) | 0x80));
+            valor >>>= 7;
+        }
+        salida.write((int) valor);
+    }
+
+    @Test
+    @DisplayName("El historial acotado debe conservar su política al restaurarse")
+    void testHistorialAcotado() throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.configurarHistorial(RegistroEventos.Modo.ACOTADO, 5);
+        partida.iniciar(3, 21L);
+        for (int i = 0; i < 4 && jugarRonda(partida); i++) {
+            // llena el búfer circular
+        }
+        Partida copia = new Partida();
+        copia.restaurarInstantanea(partida.capturarInstantanea());
+
+        assertEquals(RegistroEventos.Modo.ACOTADO, copia.getEventos().getModo());
+        assertEquals(partida.getEventos().getTotal(), copia.getEventos().getTotal());
+        assertEquals(partida.getHistorial(), copia.getHistorial());
+    }
+
+    @Test
+    @DisplayName("El guardado automático debe escribir en segundo plano y recuperar la última ronda")
+    void testGuardadoEnArchivo(@TempDir Path carpeta) throws Exception {
+        Path archivo = carpeta.resolve("sub").resolve("partida" + GuardadoAutomatico.EXTENSION);
+        Partida partida = new Partida();
+        partida.iniciar(3, 77L);
+        try (GuardadoAutomatico guardado = new GuardadoAutomatico(archivo)) {
+            assertFalse(guardado.restaurarEn(new Partida()));
+            for (int i = 0; i < 3 && jugarRonda(partida); i++) {
+                guardado.guardar(partida);
+            }
+            guardado.esperarEscrituras().get(5, TimeUnit.SECONDS);
+
+            Partida recuperada = new Partida();
+            assertTrue(guardado.restaurarEn(recuperada));
+            assertArrayEquals(partida.capturarInstantanea(), recuperada.capturarInstantanea());
+
+            Files.write(archivo, new byte[]{'C', '5', '0', 'S', 1});
+            assertFalse(guardado.restaurarEn(new Partida()));
+            assertFalse(Files.exists(archivo));
+
+            guardado.guardar(partida);
+            guardado.borrar().get(5, TimeUnit.SECONDS);
+            assertFalse(Files.exists(archivo));
+        }
+    }
+
+    @Test
+    @DisplayName("Capturar una instantánea debe tardar mucho menos de un milisegundo")
+    void testCapturaRapida() throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.iniciar(15, 4L);
+        jugarRonda(partida);
+        int repeticiones = 20_000;
+        for (int i = 0; i < repeticiones; i++) {
+            partida.capturarInstantanea();
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < repeticiones; i++) {
+            partida.capturarInstantanea();
+        }
+        long promedio = (System.nanoTime() - inicio) / repeticiones;
+        assertTrue(promedio < 500_000, "Promedio de " + promedio + " ns por instantánea");
+    }
+
+    /**
+     * Juega el turno del humano con su primera carta segura y luego los de
+     * las CPU.
+     *
+     * @return {@code false} si la partida terminó
+     */
+    private static boolean jugarRonda(Partida partida) throws JugadaInvalidaException {
+        JugadorHumano humano = partida.getJugadorHumano();
+        int jugables = humano.mascaraJugables(partida.getSumaMesa());
+        if (jugables == 0) {
+            partida.eliminarHumanoPorFaltaDeJugadas();
+            return false;
+        }
+        partida.jugarTurnoHumano(humano.getMano().get(Integer.numberOfTrailingZeros(jugables)));
+        partida.jugarTurnoCPU();
+        return !partida.estaTerminada();
+    }
+}
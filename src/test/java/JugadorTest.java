@@ -0,0 +1,79 @@
+import com.example.el_cincuentenazo.modelo.Baraja;
+import com.example.el_cincuentenazo.modelo.CPU;
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para la clase Jugador")
+class JugadorTest {
+
+    private Baraja baraja;
+
+    @BeforeEach
+    void setUp() {
+        baraja = new Baraja(null);
+        baraja.vaciar();
+        baraja.poner(Carta.de("10", "picas"));
+        baraja.poner(Carta.de("7", "corazones"));
+        baraja.poner(Carta.de("K", "tréboles"));
+        baraja.poner(Carta.de("A", "diamantes"));
+    }
+
+    @Test
+    @DisplayName("La máscara de jugables debe marcar las posiciones seguras")
+    void testMascaraJugables() {
+        CPU cpu = new CPU("CPU");
+        cpu.obtenerCartasIniciales(baraja);
+
+        assertEquals(0b1111, cpu.mascaraJugables(30));
+        assertEquals(0b1100, cpu.mascaraJugables(45));
+        assertEquals(2, cpu.contarJugables(45));
+        assertTrue(cpu.hayJugada(50));
+    }
+
+    @Test
+    @DisplayName("Las consultas sin asignación deben coincidir con cartasJugables")
+    void testConsultasCoincidenConLista() {
+        CPU cpu = new CPU("CPU");
+        cpu.obtenerCartasIniciales(baraja);
+
+        for (int suma = -10; suma <= 50; suma++) {
+            assertEquals(cpu.cartasJugables(suma).size(), cpu.contarJugables(suma));
+            assertEquals(!cpu.cartasJugables(suma).isEmpty(), cpu.hayJugada(suma));
+        }
+    }
+
+    @Test
+    @DisplayName("Sin cartas seguras la CPU no juega y el humano no propone carta")
+    void testSinJugadas() {
+        Baraja soloAltas = new Baraja(null);
+        soloAltas.vaciar();
+        soloAltas.poner(Carta.de("10", "picas"));
+        soloAltas.poner(Carta.de("8", "picas"));
+        CPU cpu = new CPU("CPU");
+        JugadorHumano humano = new JugadorHumano("Jugador");
+        cpu.obtenerCartasIniciales(soloAltas);
+        soloAltas.poner(Carta.de("5", "corazones"));
+        humano.obtenerCartasIniciales(soloAltas);
+
+        assertFalse(cpu.hayJugada(46));
+        assertNull(cpu.jugarCarta(46));
+        assertEquals(2, cpu.getMano().size());
+        assertNull(humano.jugarCarta(46));
+    }
+
+    @Test
+    @DisplayName("La CPU debe jugar y retirar la primera carta segura")
+    void testCPUJuegaPrimeraSegura() {
+        CPU cpu = new CPU("CPU");
+        cpu.obtenerCartasIniciales(baraja);
+
+        Carta jugada = cpu.jugarCarta(45);
+
+        assertEquals(Carta.de("K", "tréboles"), jugada);
+        assertEquals(3, cpu.getMano().size());
+    }
+}
@@ -0,0 +1,124 @@
+import com.example.el_cincuentenazo.metricas.InstantaneaMetricas;
+import com.example.el_cincuentenazo.metricas.MetricasMotor;
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Contador;
+import com.example.el_cincuentenazo.metricas.MetricasMotor.Operacion;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para las métricas del motor")
+class MetricasMotorTest {
+
+    @BeforeEach
+    void prepararMetricas() {
+        MetricasMotor.reiniciar();
+    }
+
+    @AfterEach
+    void desactivarMetricas() {
+        MetricasMotor.desactivar();
+        MetricasMotor.reiniciar();
+    }
+
+    @Test
+    @DisplayName("Los contadores deben coincidir con lo ocurrido en las partidas")
+    void testContadoresDePartida() {
+        Partida partida = new Partida();
+        MetricasMotor.activar();
+        long jugadas = 0;
+        long reciclajes = 0;
+        long eliminados = 0;
+        for (long semilla = 0; semilla < 200; semilla++) {
+            partida.iniciar(3, semilla);
+            SimuladorPartidas.jugarHastaTerminar(partida);
+            jugadas += partida.getJugadasRealizadas();
+            reciclajes += partida.getHistorial().stream().filter(linea -> linea.startsWith("Se recicla")).count();
+            eliminados += partida.getJugadores().stream().filter(jugador -> jugador.estaEliminado()).count();
+        }
+        InstantaneaMetricas metricas = MetricasMotor.instantanea();
+
+        assertEquals(jugadas, metricas.get(Contador.TURNOS));
+        assertEquals(reciclajes, metricas.get(Contador.RECICLAJES));
+        assertEquals(eliminados, metricas.get(Contador.ELIMINACIONES));
+        assertEquals(200, metricas.get(Contador.RECARGAS_BARAJA));
+        assertEquals(200 + reciclajes, metricas.get(Contador.BARAJADOS));
+        assertEquals(reciclajes, metricas.getMediciones(Operacion.RECICLAJE));
+        assertTrue(metricas.getMediciones(Operacion.TURNO_HUMANO) > 0);
+        assertTrue(metricas.getMediciones(Operacion.TURNO_CPU) > 0);
+        assertTrue(metricas.getPercentilNanos(Operacion.TURNO_CPU, 50)
+                <= metricas.getPercentilNanos(Operacion.TURNO_CPU, 99));
+        assertTrue(metricas.getPercentilNanos(Operacion.TURNO_CPU, 99) <= metricas.getMaximoNanos(Operacion.TURNO_CPU));
+    }
+
+    @Test
+    @DisplayName("Con las métricas desactivadas no debe registrarse nada")
+    void testDesactivadas() {
+        MetricasMotor.desactivar();
+        Partida partida = new Partida();
+        partida.iniciar(3, 5L);
+        SimuladorPartidas.jugarHastaTerminar(partida);
+        InstantaneaMetricas metricas = MetricasMotor.instantanea();
+
+        for (Contador contador : Contador.values()) {
+            assertEquals(0, metricas.get(contador));
+        }
+        for (Operacion operacion : Operacion.values()) {
+            assertEquals(0, metricas.getMediciones(operacion));
+            assertEquals(0, metricas.getPercentilNanos(operacion, 99));
+        }
+    }
+
+    @Test
+    @DisplayName("Varios hilos deben poder contar a la vez sin perder incrementos")
+    void testContadoresConcurrentes() throws InterruptedException {
+        MetricasMotor.activar();
+        List<Thread> hilos = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread hilo = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    MetricasMotor.contar(Contador.TURNOS);
+                    MetricasMotor.registrar(Operacion.TURNO_CPU, j);
+                }
+            });
+            hilos.add(hilo);
+            hilo.start();
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        InstantaneaMetricas metricas = MetricasMotor.instantanea();
+
+        assertEquals(80_000, metricas.get(Contador.TURNOS));
+        assertEquals(80_000, metricas.getMediciones(Operacion.TURNO_CPU));
+        assertEquals(9_999, metricas.getMaximoNanos(Operacion.TURNO_CPU));
+        assertEquals(4_999.5, metricas.getPromedioNanos(Operacion.TURNO_CPU), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Las métricas deben poder leerse por JMX")
+    void testJmx() throws Exception {
+        MetricasMotor.registrarEnJmx();
+        MetricasMotor.registrarEnJmx();
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName(MetricasMotor.NOMBRE_JMX);
+
+        servidor.setAttribute(nombre, new javax.management.Attribute("Activas", true));
+        assertTrue(MetricasMotor.estanActivas());
+        MetricasMotor.contar(Contador.RECICLAJES, 3);
+
+        TabularData contadores = (TabularData) servidor.getAttribute(nombre, "Contadores");
+        assertEquals(3L, contadores.get(new Object[]{"RECICLAJES"}).get("value"));
+        servidor.invoke(nombre, "reiniciar", null, null);
+        assertEquals(0, MetricasMotor.instantanea().get(Contador.RECICLAJES));
+    }
+}
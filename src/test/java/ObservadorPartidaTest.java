@@ -0,0 +1,86 @@
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadorHumano;
+import com.example.el_cincuentenazo.modelo.ObservadorPartida;
+import com.example.el_cincuentenazo.modelo.ObservadorPartida.Cambio;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para los observadores de partida")
+class ObservadorPartidaTest {
+
+    @Test
+    @DisplayName("Iniciar una partida debe notificar un reinicio")
+    void testReinicio() {
+        Partida partida = new Partida();
+        List<Cambio> cambios = new ArrayList<>();
+        partida.agregarObservador((cambio, asiento) -> cambios.add(cambio));
+        partida.iniciar(2, 11L);
+        assertEquals(List.of(Cambio.REINICIO), cambios);
+    }
+
+    @Test
+    @DisplayName("Un turno humano debe notificar la suma, su asiento, su mano y el turno")
+    void testTurnoHumano() throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.iniciar(1, 5L);
+        Set<Cambio> cambios = EnumSet.noneOf(Cambio.class);
+        List<Integer> asientos = new ArrayList<>();
+        partida.agregarObservador((cambio, asiento) -> {
+            cambios.add(cambio);
+            if (cambio == Cambio.JUGADOR) {
+                asientos.add(asiento);
+            }
+        });
+        JugadorHumano humano = partida.getJugadorHumano();
+        int jugables = humano.mascaraJugables(partida.getSumaMesa());
+        assertNotEquals(0, jugables);
+        Carta carta = humano.getMano().get(Integer.numberOfTrailingZeros(jugables));
+        partida.jugarTurnoHumano(carta);
+        assertEquals(EnumSet.of(Cambio.SUMA, Cambio.JUGADOR, Cambio.MANO_HUMANO, Cambio.TURNO), cambios);
+        assertEquals(List.of(0), asientos);
+    }
+
+    @Test
+    @DisplayName("Los turnos de CPU deben notificar solo asientos de CPU")
+    void testTurnoCPU() throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.iniciar(3, 9L);
+        JugadorHumano humano = partida.getJugadorHumano();
+        int jugables = humano.mascaraJugables(partida.getSumaMesa());
+        partida.jugarTurnoHumano(humano.getMano().get(Integer.numberOfTrailingZeros(jugables)));
+        List<Integer> asientos = new ArrayList<>();
+        Set<Cambio> cambios = EnumSet.noneOf(Cambio.class);
+        partida.agregarObservador((cambio, asiento) -> {
+            cambios.add(cambio);
+            if (cambio == Cambio.JUGADOR) {
+                asientos.add(asiento);
+            }
+        });
+        partida.jugarTurnoCPU();
+        assertTrue(cambios.contains(Cambio.TURNO));
+        assertFalse(cambios.contains(Cambio.MANO_HUMANO));
+        assertFalse(asientos.isEmpty());
+        for (int asiento : asientos) {
+            assertTrue(asiento >= 1 && asiento <= 3);
+        }
+    }
+
+    @Test
+    @DisplayName("Un observador quitado no debe recibir más cambios")
+    void testQuitarObservador() {
+        Partida partida = new Partida();
+        List<Cambio> cambios = new ArrayList<>();
+        ObservadorPartida observador = (cambio, asiento) -> cambios.add(cambio);
+        partida.agregarObservador(observador);
+        partida.quitarObservador(observador);
+        partida.iniciar(1, 3L);
+        assertTrue(cambios.isEmpty());
+    }
+}
@@ -1,4 +1,5 @@
 
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
 import com.example.el_cincuentenazo.modelo.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -188,4 +189,43 @@ class PartidaTest {
         // El historial debe tener al menos una entrada más (por las CPU)
         assertTrue(partida.getHistorial().size() >= historialAntes);
     }
+
+    @Test
+    @DisplayName("Una mesa de 64 asientos debe repartir con varias barajas y llegar al final")
+    void testMesaGrande() {
+        partida.iniciar(Partida.MAX_CPUS, 21L);
+
+        assertEquals(Partida.MAX_CPUS + 1, partida.getJugadores().size());
+        assertEquals(Partida.barajasNecesarias(Partida.MAX_CPUS + 1), partida.getBarajas());
+        assertEquals(partida.getBarajas() * Carta.TOTAL_CARTAS - 4 * partida.getJugadores().size() - 1,
+                partida.getCartasPorRobar());
+        for (Jugador jugador : partida.getJugadores()) {
+            assertEquals(4, jugador.getMano().size());
+        }
+
+        int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+
+        assertTrue(partida.estaTerminada());
+        assertEquals(ganador, partida.getAsientoGanador());
+    }
+
+    @Test
+    @DisplayName("Los jugadores activos y el ganador deben seguir a las eliminaciones")
+    void testConteoDeActivos() {
+        partida.iniciar(5, 8L);
+        assertEquals(6, partida.getJugadoresActivos());
+
+        partida.getJugadores().get(1).eliminar();
+        partida.getJugadores().get(1).eliminar();
+        partida.getJugadores().get(0).eliminar();
+        assertEquals(4, partida.getJugadoresActivos());
+        assertTrue(partida.estaTerminada());
+        assertEquals(2, partida.getAsientoGanador());
+        assertSame(partida.getJugadores().get(2), partida.ganador());
+
+        partida.iniciar(5, 8L);
+        assertEquals(6, partida.getJugadoresActivos());
+        assertFalse(partida.estaTerminada());
+        assertEquals(0, partida.getAsientoGanador());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroEventos;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el registro de eventos")
+class RegistroEventosTest {
+
+    @Test
+    @DisplayName("Un evento codificado debe conservar tipo, asiento, carta y suma")
+    void testCodificacionDeEvento() {
+        RegistroEventos registro = new RegistroEventos();
+        Carta carta = Carta.de("K", "picas");
+
+        registro.registrar(RegistroEventos.Tipo.JUGADA, 3, carta, -15);
+        int evento = registro.evento(0);
+
+        assertEquals(RegistroEventos.Tipo.JUGADA, RegistroEventos.tipo(evento));
+        assertEquals(3, RegistroEventos.asiento(evento));
+        assertSame(carta, RegistroEventos.carta(evento));
+        assertEquals(-15, RegistroEventos.suma(evento));
+    }
+
+    @Test
+    @DisplayName("El modo acotado debe conservar solo los eventos más recientes")
+    void testModoAcotado() {
+        RegistroEventos registro = new RegistroEventos(RegistroEventos.Modo.ACOTADO, 4);
+
+        for (int suma = 0; suma < 10; suma++) {
+            registro.registrar(RegistroEventos.Tipo.JUGADA, 0, null, suma);
+        }
+
+        assertEquals(10, registro.getTotal());
+        assertEquals(6, registro.getPrimerDisponible());
+        assertEquals(6, RegistroEventos.suma(registro.evento(6)));
+        assertEquals(9, RegistroEventos.suma(registro.evento(9)));
+        assertThrows(IndexOutOfBoundsException.class, () -> registro.evento(5));
+    }
+
+    @Test
+    @DisplayName("El modo desactivado debe contar eventos sin guardarlos")
+    void testModoDesactivado() {
+        Partida partida = new Partida();
+        partida.configurarHistorial(RegistroEventos.Modo.DESACTIVADO, 0);
+        partida.iniciar(3, 11L);
+
+        SimuladorPartidas.jugarHastaTerminar(partida);
+
+        assertTrue(partida.getEventos().getTotal() > 1);
+        assertTrue(partida.getHistorial().isEmpty());
+    }
+
+    @Test
+    @DisplayName("El historial acotado de la partida debe terminar igual que el completo")
+    void testHistorialAcotadoCoincideConCompleto() {
+        Partida completa = new Partida();
+        Partida acotada = new Partida();
+        acotada.configurarHistorial(RegistroEventos.Modo.ACOTADO, 5);
+        completa.iniciar(2, 21L);
+        acotada.iniciar(2, 21L);
+
+        SimuladorPartidas.jugarHastaTerminar(completa);
+        SimuladorPartidas.jugarHastaTerminar(acotada);
+        List<String> todas = completa.getHistorial();
+
+        assertEquals(todas.subList(todas.size() - 5, todas.size()), acotada.getHistorial());
+    }
+
+    @Test
+    @DisplayName("El historial acotado sin capacidad debe lanzar ConfiguracionInvalidaException")
+    void testCapacidadInvalida() {
+        assertThrows(ConfiguracionInvalidaException.class,
+                () -> new RegistroEventos(RegistroEventos.Modo.ACOTADO, 0));
+    }
+}
@@ -0,0 +1,146 @@
+import com.example.el_cincuentenazo.ia.Estrategias;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.modelo.RegistroJugadas;
+import com.example.el_cincuentenazo.repeticion.Repeticion;
+import com.example.el_cincuentenazo.repeticion.ReproductorRepeticiones;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para las repeticiones de partidas")
+class RepeticionTest {
+
+    private static Repeticion jugarPartida(int cantidadCPUs, long semilla) {
+        Partida partida = new Partida();
+        partida.iniciar(cantidadCPUs, semilla);
+        SimuladorPartidas.jugarHastaTerminar(partida);
+        return Repeticion.de(partida);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe repartir las mismas manos")
+    void testSemillaReproduceReparto() {
+        Partida partida1 = new Partida();
+        Partida partida2 = new Partida();
+
+        partida1.iniciar(3, 1234L);
+        partida2.iniciar(3, 1234L);
+
+        assertEquals(partida1.getJugadorHumano().getMano(), partida2.getJugadorHumano().getMano());
+        assertEquals(partida1.getUltimaCartaMesa(), partida2.getUltimaCartaMesa());
+        assertEquals(1234L, partida1.getSemilla());
+    }
+
+    @Test
+    @DisplayName("Codificar y decodificar debe conservar todos los datos")
+    void testCodificacionIdaYVuelta() {
+        Repeticion original = jugarPartida(2, 77L);
+
+        Repeticion leida = Repeticion.decodificar(original.codificar());
+
+        assertEquals(original.getSemilla(), leida.getSemilla());
+        assertEquals(original.getCantidadJugadores(), leida.getCantidadJugadores());
+        assertTrue(original.getJugadas().mismoContenido(leida.getJugadas()));
+        assertEquals(original.getSumaFinal(), leida.getSumaFinal());
+        assertEquals(original.getGanadorFinal(), leida.getGanadorFinal());
+    }
+
+    @Test
+    @DisplayName("Reproducir una repetición debe llegar al mismo estado final")
+    void testReproduccionCoincide() {
+        for (long semilla = 0; semilla < 50; semilla++) {
+            assertTrue(ReproductorRepeticiones.verificar(jugarPartida(1 + (int) (semilla % 3), semilla)));
+        }
+    }
+
+    @Test
+    @DisplayName("Las partidas con estrategias deben reproducirse con las decisiones grabadas")
+    void testReproduccionConEstrategias() {
+        for (long semilla = 0; semilla < 20; semilla++) {
+            Partida partida = new Partida();
+            for (int asiento = 1; asiento <= 3; asiento++) {
+                partida.setEstrategia(asiento, Estrategias.alAzar(semilla * 4 + asiento));
+            }
+            partida.iniciar(3, semilla);
+            SimuladorPartidas.jugarHastaTerminar(partida);
+
+            assertTrue(ReproductorRepeticiones.verificar(Repeticion.de(partida)));
+        }
+    }
+
+    @Test
+    @DisplayName("Una partida que sigue tras eliminar al humano debe reproducirse hasta el final")
+    void testReproduccionHastaUltimoEnPie() {
+        int conCPUsTrasElHumano = 0;
+        for (long semilla = 0; semilla < 40; semilla++) {
+            Partida partida = new Partida();
+            partida.setHastaUltimoEnPie(true);
+            partida.iniciar(3, semilla);
+            SimuladorPartidas.jugarHastaTerminar(partida);
+            if (partida.getJugadorHumano().estaEliminado() && partida.getJugadoresActivos() == 1) {
+                conCPUsTrasElHumano++;
+            }
+            Repeticion leida = Repeticion.decodificar(Repeticion.de(partida).codificar());
+
+            assertTrue(leida.juegaHastaUltimoEnPie());
+            assertTrue(ReproductorRepeticiones.verificar(leida));
+        }
+        assertTrue(conCPUsTrasElHumano > 0);
+    }
+
+    @Test
+    @DisplayName("La cantidad de entradas debe coincidir con los bytes codificados")
+    void testCantidadDeEntradasValidada() {
+        byte[] entradas = {1, 2, (byte) 0x81, 0x01};
+        assertEquals(3, new RegistroJugadas(entradas, 3).cantidad());
+        assertThrows(IllegalArgumentException.class, () -> new RegistroJugadas(entradas, 4));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroJugadas(entradas, 2));
+        assertThrows(IllegalArgumentException.class, () -> new RegistroJugadas(new byte[] {1, (byte) 0x81}, 2));
+    }
+
+    @Test
+    @DisplayName("Una repetición alterada no debe verificarse")
+    void testRepeticionAlteradaFalla() {
+        Repeticion original = jugarPartida(3, 5L);
+        Repeticion alterada = new Repeticion(original.getSemilla(), original.getCantidadJugadores(),
+                original.getJugadas(), original.getSumaFinal() + 1, original.getGanadorFinal());
+
+        assertFalse(ReproductorRepeticiones.verificar(alterada));
+    }
+
+    @Test
+    @DisplayName("Cada turno debe ocupar un byte en el registro")
+    void testRegistroCompacto() {
+        Repeticion repeticion = jugarPartida(3, 9L);
+        RegistroJugadas jugadas = repeticion.getJugadas();
+
+        assertTrue(jugadas.cantidad() > 0);
+        assertEquals(jugadas.cantidad(), jugadas.tamanoEnBytes());
+    }
+
+    @Test
+    @DisplayName("La verificación por lotes debe detectar archivos inválidos")
+    void testVerificarArchivos(@TempDir Path directorio) throws IOException {
+        List<Path> archivos = new ArrayList<>();
+        for (long semilla = 0; semilla < 20; semilla++) {
+            Path archivo = directorio.resolve(semilla + Repeticion.EXTENSION);
+            jugarPartida(2, semilla).guardar(archivo);
+            archivos.add(archivo);
+        }
+        Path corrupto = directorio.resolve("corrupto" + Repeticion.EXTENSION);
+        Files.write(corrupto, new byte[] {1, 2, 3});
+        archivos.add(corrupto);
+
+        ReproductorRepeticiones.ResultadoVerificacion resultado = ReproductorRepeticiones.verificarArchivos(archivos);
+
+        assertEquals(21, resultado.getTotal());
+        assertEquals(List.of(corrupto), resultado.getFallidos());
+    }
+}
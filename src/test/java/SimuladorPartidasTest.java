@@ -0,0 +1,78 @@
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import com.example.el_cincuentenazo.simulacion.ResultadoSimulacion;
+import com.example.el_cincuentenazo.simulacion.SimuladorPartidas;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el simulador de partidas")
+class SimuladorPartidasTest {
+
+    @Test
+    @DisplayName("Todas las partidas deben contabilizarse en victorias o sin ganador")
+    void testTotalesCuadran() {
+        ResultadoSimulacion resultado = new SimuladorPartidas(3, 500, 42L).ejecutar();
+
+        long total = resultado.getPartidasSinGanador();
+        for (long victorias : resultado.getVictoriasPorAsiento()) {
+            total += victorias;
+        }
+
+        assertEquals(500, resultado.getPartidas());
+        assertEquals(4, resultado.getVictoriasPorAsiento().length);
+        assertEquals(500, total);
+        assertTrue(resultado.getPromedioJugadas() > 0);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe dar el mismo resultado sin importar el paralelismo")
+    void testDeterminismoConSemilla() {
+        ResultadoSimulacion secuencial = new SimuladorPartidas(2, 600, 7L, 1).ejecutar();
+        ResultadoSimulacion paralelo = new SimuladorPartidas(2, 600, 7L, 4).ejecutar();
+
+        assertArrayEquals(secuencial.getVictoriasPorAsiento(), paralelo.getVictoriasPorAsiento());
+        assertEquals(secuencial.getPromedioJugadas(), paralelo.getPromedioJugadas());
+    }
+
+    @Test
+    @DisplayName("Jugar hasta terminar debe dejar la partida finalizada")
+    void testJugarHastaTerminar() {
+        Partida partida = new Partida(new Random(3));
+        partida.iniciar(1);
+
+        int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+
+        assertTrue(partida.estaTerminada());
+        assertTrue(ganador >= -1 && ganador <= 1);
+    }
+
+    @Test
+    @DisplayName("Hasta el último en pie, la partida debe seguir tras eliminar al humano")
+    void testHastaUltimoEnPie() {
+        Partida partida = new Partida();
+        partida.setHastaUltimoEnPie(true);
+        int humanoEliminado = 0;
+        for (long semilla = 1; semilla <= 50; semilla++) {
+            partida.iniciar(3, semilla);
+            int ganador = SimuladorPartidas.jugarHastaTerminar(partida);
+            if (ganador < 0) {
+                continue;
+            }
+            assertEquals(1, partida.getJugadoresActivos());
+            assertFalse(partida.getJugadores().get(ganador).estaEliminado());
+            if (ganador != 0) {
+                humanoEliminado++;
+            }
+        }
+        assertTrue(humanoEliminado > 0);
+    }
+
+    @Test
+    @DisplayName("Configuración fuera de rango debe lanzar ConfiguracionInvalidaException")
+    void testConfiguracionInvalida() {
+        assertThrows(ConfiguracionInvalidaException.class, () -> new SimuladorPartidas(0, 10, 1L));
+        assertThrows(ConfiguracionInvalidaException.class, () -> new SimuladorPartidas(1, -1, 1L));
+    }
+}
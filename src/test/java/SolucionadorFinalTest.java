@@ -0,0 +1,148 @@
+import com.example.el_cincuentenazo.ia.SolucionadorFinal;
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.modelo.JugadaInvalidaException;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el solucionador de finales")
+class SolucionadorFinalTest {
+
+    /**
+     * Avanza una partida con jugadas simples hasta que queden pocas cartas por
+     * robar, dejando el turno al humano.
+     */
+    private Partida partidaAvanzada(long semilla, int cartasPorRobar) throws JugadaInvalidaException {
+        Partida partida = new Partida(new SplittableRandom(semilla));
+        partida.iniciar(2);
+        for (int ronda = 0; ronda < 500 && !partida.estaTerminada()
+                && partida.getCartasPorRobar() > cartasPorRobar && partida.humanoTieneJugada(); ronda++) {
+            partida.jugarTurnoHumano(partida.getJugadorHumano().jugarCarta(partida.getSumaMesa()));
+            partida.jugarTurnoCPU();
+        }
+        return partida;
+    }
+
+    @Test
+    @DisplayName("El solucionador debe devolver una carta segura de la mano del turno")
+    void testMejorCartaEsJugable() throws JugadaInvalidaException {
+        Partida partida = partidaAvanzada(3, 12);
+        assumeJugable(partida);
+
+        SolucionadorFinal.Resultado resultado = new SolucionadorFinal(16, 12, 5_000_000L).resolver(partida, true);
+
+        Carta carta = resultado.getMejorCarta();
+        assertNotNull(carta);
+        assertTrue(partida.getJugadorHumano().getMano().contains(carta));
+        assertTrue(partida.getSumaMesa() + carta.valorParaSuma(partida.getSumaMesa()) <= 50);
+        assertTrue(resultado.getValor() >= 0.0 && resultado.getValor() <= 1.0);
+        assertTrue(resultado.getNodos() > 0);
+        assertTrue(resultado.getNodosPorSegundo() > 0);
+    }
+
+    @Test
+    @DisplayName("Repetir la búsqueda debe reutilizar la tabla y dar el mismo resultado")
+    void testTablaDeTransposicion() throws JugadaInvalidaException {
+        Partida partida = partidaAvanzada(4, 12);
+        assumeJugable(partida);
+        SolucionadorFinal solucionador = new SolucionadorFinal(18, 10, Long.MAX_VALUE);
+
+        SolucionadorFinal.Resultado primero = solucionador.resolver(partida);
+        SolucionadorFinal.Resultado segundo = solucionador.resolver(partida);
+
+        assertEquals(primero.getMejorCarta(), segundo.getMejorCarta());
+        assertEquals(primero.getValor(), segundo.getValor(), 1e-9);
+        assertTrue(segundo.getTasaAciertos() > 0.0);
+        assertTrue(segundo.getNodos() <= primero.getNodos());
+    }
+
+    @Test
+    @DisplayName("El límite de nodos debe cortar la búsqueda con la última iteración completa")
+    void testLimiteDeNodos() throws JugadaInvalidaException {
+        Partida partida = partidaAvanzada(2, 3);
+        assumeJugable(partida);
+
+        SolucionadorFinal.Resultado resultado = new SolucionadorFinal(16, 40, 200_000L).resolver(partida, false);
+
+        assertNotNull(resultado.getMejorCarta());
+        assertFalse(resultado.esExacto());
+        assertTrue(resultado.getProfundidad() < 40);
+        assertTrue(resultado.getNodos() <= 200_001L);
+    }
+
+    @Test
+    @DisplayName("La búsqueda no debe modificar la partida")
+    void testNoModificaLaPartida() throws JugadaInvalidaException {
+        Partida partida = partidaAvanzada(2, 3);
+        assumeJugable(partida);
+        int suma = partida.getSumaMesa();
+        int[] mesa = partida.getOrdinalesEnMesa();
+        int[] robo = partida.getOrdinalesPorRobar();
+
+        new SolucionadorFinal(12, 4, 1_000_000L).resolver(partida, false);
+
+        assertEquals(suma, partida.getSumaMesa());
+        assertArrayEquals(mesa, partida.getOrdinalesEnMesa());
+        assertArrayEquals(robo, partida.getOrdinalesPorRobar());
+    }
+
+    @Test
+    @DisplayName("Hasta el último en pie, eliminar al humano no debe dar la partida por terminada")
+    void testHastaUltimoEnPie() throws JugadaInvalidaException {
+        Partida partida = null;
+        for (long semilla = 1; semilla <= 200 && partida == null; semilla++) {
+            partida = cpuTrasEliminarAlHumano(semilla);
+        }
+        assertNotNull(partida);
+        int turno = partida.getTurnoActual();
+
+        SolucionadorFinal.Resultado resultado = new SolucionadorFinal(16, 6, 2_000_000L).resolver(partida, true);
+
+        assertTrue(resultado.getProfundidad() > 1);
+        assertTrue(partida.getJugadores().get(turno).getMano().contains(resultado.getMejorCarta()));
+        assertTrue(resultado.getValor() >= 0.0 && resultado.getValor() <= 1.0);
+    }
+
+    /**
+     * Juega hasta que el humano queda eliminado con las tres CPU en pie y deja
+     * el turno en la segunda de ellas, con alguna carta segura.
+     *
+     * @return partida en esa posición o {@code null} si la semilla no llega
+     */
+    private static Partida cpuTrasEliminarAlHumano(long semilla) throws JugadaInvalidaException {
+        Partida partida = new Partida();
+        partida.setHastaUltimoEnPie(true);
+        partida.iniciar(3, semilla);
+        while (!partida.estaTerminada() && partida.humanoTieneJugada()) {
+            partida.jugarTurnoHumano(partida.getJugadorHumano().jugarCarta(partida.getSumaMesa()));
+            partida.jugarTurnoCPU();
+        }
+        if (partida.estaTerminada() || partida.getJugadoresActivos() < 4) {
+            return null;
+        }
+        partida.eliminarHumanoPorFaltaDeJugadas();
+        int jugables = partida.getJugadores().get(1).mascaraJugables(partida.getSumaMesa());
+        int decision = jugables == 0 ? 0 : Integer.numberOfTrailingZeros(jugables) + 1;
+        partida.jugarTurnoCPU(new int[] {decision}, 0);
+        if (partida.getTurnoActual() != 2 || partida.getJugadores().get(2).mascaraJugables(partida.getSumaMesa()) == 0) {
+            return null;
+        }
+        return partida;
+    }
+
+    @Test
+    @DisplayName("Una tabla fuera de rango debe lanzar ConfiguracionInvalidaException")
+    void testConfiguracionInvalida() {
+        assertThrows(ConfiguracionInvalidaException.class, () -> new SolucionadorFinal(0, 10, 100L));
+        assertThrows(ConfiguracionInvalidaException.class, () -> new SolucionadorFinal(10, 0, 100L));
+        assertThrows(ConfiguracionInvalidaException.class, () -> new SolucionadorFinal(10, 10, 0L));
+    }
+
+    private static void assumeJugable(Partida partida) {
+        Assumptions.assumeTrue(!partida.estaTerminada() && partida.humanoTieneJugada());
+    }
+}
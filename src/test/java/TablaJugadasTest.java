@@ -0,0 +1,65 @@
+import com.example.el_cincuentenazo.modelo.Baraja;
+import com.example.el_cincuentenazo.modelo.CPU;
+import com.example.el_cincuentenazo.modelo.Carta;
+import com.example.el_cincuentenazo.modelo.TablaJugadas;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para la tabla de jugadas")
+class TablaJugadasTest {
+
+    @Test
+    @DisplayName("La tabla debe coincidir con el cálculo carta por carta en todas las sumas")
+    void testCoincideConValorParaSuma() {
+        for (int suma = -120; suma <= TablaJugadas.LIMITE; suma++) {
+            for (int ordinal = 0; ordinal < Carta.TOTAL_CARTAS; ordinal++) {
+                Carta carta = Carta.de(ordinal);
+                int esperado = carta.valorParaSuma(suma);
+                assertEquals(esperado, TablaJugadas.aporte(ordinal, suma));
+                assertEquals(suma + esperado <= 50, TablaJugadas.esSegura(ordinal, suma));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("El As debe valer 1 solo cuando 10 haría superar 50")
+    void testAs() {
+        int as = Carta.de("A", "picas").getOrdinal();
+        assertEquals(10, TablaJugadas.aporte(as, 40));
+        assertEquals(1, TablaJugadas.aporte(as, 41));
+        assertTrue(TablaJugadas.esSegura(as, 49));
+        assertFalse(TablaJugadas.esSegura(as, 50));
+    }
+
+    @Test
+    @DisplayName("La máscara de una mano debe marcar exactamente las cartas seguras")
+    void testMascaraDeMano() {
+        SplittableRandom azar = new SplittableRandom(7);
+        for (int prueba = 0; prueba < 5_000; prueba++) {
+            Baraja baraja = new Baraja();
+            int tamano = 1 + azar.nextInt(4);
+            for (int i = 0; i < tamano; i++) {
+                baraja.poner(Carta.de(azar.nextInt(Carta.TOTAL_CARTAS)));
+            }
+            CPU cpu = new CPU("CPU");
+            cpu.obtenerCartasIniciales(baraja);
+            List<Carta> cartas = cpu.getMano();
+            int suma = azar.nextInt(-30, 51);
+
+            int esperado = 0;
+            int[] ordinales = new int[tamano];
+            for (int i = 0; i < tamano; i++) {
+                if (suma + cartas.get(i).valorParaSuma(suma) <= 50) {
+                    esperado |= 1 << i;
+                }
+                ordinales[i] = cartas.get(i).getOrdinal();
+            }
+            assertEquals(esperado, cpu.mascaraJugables(suma));
+            assertEquals(esperado, TablaJugadas.mascaraMano(ordinales, 0, tamano, suma));
+            assertEquals(Integer.bitCount(esperado), cpu.cartasJugables(suma).size());
+        }
+    }
+}
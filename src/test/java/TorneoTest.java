@@ -0,0 +1,84 @@
+import com.example.el_cincuentenazo.ia.Estrategias;
+import com.example.el_cincuentenazo.modelo.ConfiguracionInvalidaException;
+import com.example.el_cincuentenazo.simulacion.ResultadoTorneo;
+import com.example.el_cincuentenazo.simulacion.Torneo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para el torneo de estrategias")
+class TorneoTest {
+
+    private static Torneo torneo(int jugadores, int partidasPorOrden, long semilla, int paralelismo) {
+        return new Torneo(jugadores, partidasPorOrden, semilla, paralelismo)
+                .registrar("primera", s -> Estrategias.primeraSegura())
+                .registrar("azar", Estrategias::alAzar)
+                .registrar("menor", s -> Estrategias.menorSuma());
+    }
+
+    @Test
+    @DisplayName("Cada combinación y orden de asientos debe jugar sus partidas")
+    void testTotalesCuadran() {
+        Torneo torneo = torneo(2, 100, 5L, 2);
+        ResultadoTorneo resultado = torneo.ejecutar();
+
+        long victorias = resultado.getPartidasSinGanador();
+        long apariciones = 0;
+        for (int i = 0; i < resultado.getNombres().size(); i++) {
+            victorias += resultado.getVictorias(i);
+            apariciones += resultado.getApariciones(i);
+        }
+
+        assertEquals(3 * 2 * 100, torneo.getPartidasTotales());
+        assertEquals(600, resultado.getPartidas());
+        assertEquals(600, victorias);
+        assertEquals(2 * 600, apariciones);
+    }
+
+    @Test
+    @DisplayName("La misma semilla debe dar el mismo resultado sin importar el paralelismo")
+    void testDeterminismoConSemilla() {
+        ResultadoTorneo secuencial = torneo(3, 200, 11L, 1).ejecutar();
+        ResultadoTorneo paralelo = torneo(3, 200, 11L, 4).ejecutar();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(secuencial.getVictorias(i), paralelo.getVictorias(i));
+            assertEquals(secuencial.getElo(i), paralelo.getElo(i));
+        }
+    }
+
+    @Test
+    @DisplayName("El intervalo de confianza debe contener la proporción de victorias y el Elo promediar la base")
+    void testIntervaloYElo() {
+        ResultadoTorneo resultado = torneo(2, 300, 3L, 2).ejecutar();
+
+        double sumaElo = 0;
+        for (int i = 0; i < 3; i++) {
+            double[] intervalo = resultado.getIntervaloVictorias(i);
+            double proporcion = resultado.getProporcionVictorias(i);
+            assertTrue(intervalo[0] <= proporcion && proporcion <= intervalo[1]);
+            assertTrue(intervalo[0] >= 0 && intervalo[1] <= 1);
+            sumaElo += resultado.getElo(i);
+        }
+        assertEquals(ResultadoTorneo.ELO_BASE, sumaElo / 3, 1e-6);
+    }
+
+    @Test
+    @DisplayName("Una configuración inválida debe lanzar excepción")
+    void testConfiguracionInvalida() {
+        assertThrows(ConfiguracionInvalidaException.class, () -> new Torneo(1, 10, 0L));
+        assertThrows(ConfiguracionInvalidaException.class, () -> new Torneo(2, 0, 0L));
+        assertThrows(ConfiguracionInvalidaException.class,
+                () -> new Torneo(3, 10, 0L).registrar("sola", s -> Estrategias.primeraSegura()).ejecutar());
+    }
+
+    @Test
+    @DisplayName("Una estrategia que elige una carta no jugable debe detectarse")
+    void testEstrategiaIlegal() {
+        Torneo torneo = new Torneo(2, 1, 0L, 1)
+                .registrar("primera", s -> Estrategias.primeraSegura())
+                .registrar("tramposa", s -> (partida, jugador, jugables) -> Integer.SIZE);
+
+        assertThrows(IllegalStateException.class, torneo::ejecutar);
+    }
+}
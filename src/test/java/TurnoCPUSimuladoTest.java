@@ -0,0 +1,77 @@
+import com.example.el_cincuentenazo.hilos.Planificador;
+import com.example.el_cincuentenazo.hilos.RitmoCPU;
+import com.example.el_cincuentenazo.hilos.TurnoCPUSimulado;
+import com.example.el_cincuentenazo.modelo.Partida;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pruebas unitarias para la simulación del pensamiento de las CPUs")
+class TurnoCPUSimuladoTest {
+
+    @Test
+    @DisplayName("La simulación debe completarse sin bloquear al hilo que la inicia")
+    void testCompletaConCallback() throws Exception {
+        Partida partida = new Partida();
+        partida.iniciar(3, 1L);
+        TurnoCPUSimulado turno = new TurnoCPUSimulado(partida, Planificador.compartido(), 5, 10, new Random(1));
+
+        CompletableFuture<Void> fin = turno.iniciar();
+        assertTrue(turno.estaPensando());
+        fin.get(5, TimeUnit.SECONDS);
+
+        assertFalse(turno.estaPensando());
+        assertNull(turno.getCpuActualPensando());
+    }
+
+    @Test
+    @DisplayName("Cancelar debe completar la simulación de inmediato")
+    void testCancelar() {
+        Partida partida = new Partida();
+        partida.iniciar(3, 2L);
+        TurnoCPUSimulado turno = new TurnoCPUSimulado(partida, Planificador.compartido(), 60_000, 60_000, new Random(1));
+
+        CompletableFuture<Void> fin = turno.iniciar();
+        assertNotNull(turno.getCpuActualPensando());
+        turno.cancelar();
+
+        assertTrue(fin.isDone());
+        assertFalse(turno.estaPensando());
+    }
+
+    @Test
+    @DisplayName("La simulación no debe terminar antes que el cálculo real de las jugadas")
+    void testEsperaAlCalculo() throws Exception {
+        Partida partida = new Partida();
+        partida.iniciar(3, 3L);
+        TurnoCPUSimulado turno = new TurnoCPUSimulado(partida, Planificador.compartido(), RitmoCPU.INSTANTANEO);
+        CompletableFuture<Void> calculo = new CompletableFuture<>();
+
+        CompletableFuture<Void> fin = turno.iniciar(calculo);
+        Thread.sleep(50);
+        assertFalse(fin.isDone());
+        assertNotNull(turno.getCpuActualPensando());
+
+        calculo.complete(null);
+        fin.get(5, TimeUnit.SECONDS);
+        assertFalse(turno.estaPensando());
+    }
+
+    @Test
+    @DisplayName("Muchas mesas simultáneas deben compartir el mismo planificador")
+    void testMuchasMesasSinHilosNuevos() throws Exception {
+        int hilosAntes = Thread.activeCount();
+        CompletableFuture<?>[] fines = new CompletableFuture<?>[200];
+        for (int i = 0; i < fines.length; i++) {
+            Partida partida = new Partida();
+            partida.iniciar(3, i);
+            fines[i] = new TurnoCPUSimulado(partida, Planificador.compartido(), 1, 5, new Random(i)).iniciar();
+        }
+        CompletableFuture.allOf(fines).get(10, TimeUnit.SECONDS);
+
+        assertTrue(Thread.activeCount() <= hilosAntes + 1);
+    }
+}